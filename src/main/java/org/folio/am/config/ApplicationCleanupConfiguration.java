@@ -0,0 +1,10 @@
+package org.folio.am.config;
+
+import org.folio.am.config.properties.ApplicationCleanupProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ApplicationCleanupProperties.class)
+public class ApplicationCleanupConfiguration {
+}
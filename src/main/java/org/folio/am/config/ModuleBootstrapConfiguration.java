@@ -0,0 +1,24 @@
+package org.folio.am.config;
+
+import lombok.RequiredArgsConstructor;
+import org.folio.am.config.properties.ModuleBootstrapProperties;
+import org.folio.am.repository.ModuleBootstrapRepository;
+import org.folio.am.service.ModuleBootstrapIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ModuleBootstrapProperties.class)
+public class ModuleBootstrapConfiguration {
+
+  private final ModuleBootstrapProperties bootstrapProperties;
+
+  @Bean
+  @ConditionalOnProperty(name = "application.bootstrap.index.enabled", havingValue = "true")
+  public ModuleBootstrapIndex moduleBootstrapIndex(ModuleBootstrapRepository repository) {
+    return new ModuleBootstrapIndex(repository, bootstrapProperties.getIndex().getRefreshInterval());
+  }
+}
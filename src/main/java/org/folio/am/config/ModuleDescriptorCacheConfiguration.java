@@ -0,0 +1,21 @@
+package org.folio.am.config;
+
+import java.nio.file.Path;
+import org.folio.am.config.properties.ModuleDescriptorCacheProperties;
+import org.folio.am.service.ModuleDescriptorCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ModuleDescriptorCacheProperties.class)
+@ConditionalOnProperty(name = "application.module-descriptor-cache.enabled", havingValue = "true")
+public class ModuleDescriptorCacheConfiguration {
+
+  @Bean
+  public ModuleDescriptorCache moduleDescriptorCache(ModuleDescriptorCacheProperties properties) {
+    return new ModuleDescriptorCache(Path.of(properties.getDirectory()), properties.getMaxSize().toBytes(),
+      properties.isRevalidate());
+  }
+}
@@ -0,0 +1,31 @@
+package org.folio.am.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "application.cleanup")
+public class ApplicationCleanupProperties {
+
+  /**
+   * Maximum number of applications checked for tenant entitlements and deleted concurrently.
+   */
+  private int concurrency = 5;
+
+  /**
+   * Number of applications processed by a single cleanup step, the job progress is updated after each step.
+   */
+  private int chunkSize = 50;
+
+  /**
+   * Time to keep finished cleanup jobs available for status polling.
+   */
+  private Duration jobRetention = Duration.ofHours(1);
+
+  /**
+   * Time without progress updates after which a running cleanup job is considered abandoned by a stopped instance and
+   * failed, must be longer than processing of a single chunk.
+   */
+  private Duration jobTimeout = Duration.ofMinutes(10);
+}
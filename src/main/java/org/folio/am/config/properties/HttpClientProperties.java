@@ -2,6 +2,7 @@ package org.folio.am.config.properties;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 @Data
 @ConfigurationProperties(prefix = "application.http-client")
@@ -9,4 +10,19 @@ public class HttpClientProperties {
 
   private long connectionTimeout;
   private long readTimeout;
+
+  /**
+   * Maximum number of module descriptors loaded concurrently for a single application, not limited if not positive.
+   */
+  private int maxConcurrentRequests;
+
+  /**
+   * Time limit in milliseconds to load all module descriptors of a single application, not limited if not positive.
+   */
+  private long loadDeadline;
+
+  /**
+   * Maximum size of a single module descriptor, loading is aborted as soon as it is exceeded. Not limited if not set.
+   */
+  private DataSize maxDescriptorSize;
 }
@@ -0,0 +1,46 @@
+package org.folio.am.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "application.bootstrap")
+public class ModuleBootstrapProperties {
+
+  private Index index = new Index();
+  private Cache cache = new Cache();
+
+  @Data
+  public static class Index {
+
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    /**
+     * Whether module bootstrap data is resolved from the in-memory interface-provider index.
+     */
+    private boolean enabled;
+
+    /**
+     * Interval of the full index rebuild, picks up changes made by other service instances. Discovery and application
+     * changes made by another instance are visible in the index of this instance after at most this interval.
+     */
+    private Duration refreshInterval = DEFAULT_REFRESH_INTERVAL;
+  }
+
+  @Data
+  public static class Cache {
+
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+
+    /**
+     * Whether module bootstrap snapshots are kept in memory between requests.
+     */
+    private boolean enabled;
+
+    /**
+     * Time to live of the cached snapshot, limits staleness for changes made by other service instances.
+     */
+    private Duration ttl = DEFAULT_TTL;
+  }
+}
@@ -0,0 +1,33 @@
+package org.folio.am.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "application.module-descriptor-cache")
+public class ModuleDescriptorCacheProperties {
+
+  private static final DataSize DEFAULT_MAX_SIZE = DataSize.ofMegabytes(256);
+
+  /**
+   * Whether loaded module descriptors are stored in the local file cache.
+   */
+  private boolean enabled;
+
+  /**
+   * Cache directory, created if it does not exist.
+   */
+  private String directory;
+
+  /**
+   * Maximum total size of the cached descriptors, least recently used entries are evicted when exceeded.
+   */
+  private DataSize maxSize = DEFAULT_MAX_SIZE;
+
+  /**
+   * Whether cached descriptors are revalidated using ETag/Last-Modified conditional requests. If disabled, cached
+   * descriptors are served without accessing the network.
+   */
+  private boolean revalidate = true;
+}
@@ -1,18 +1,22 @@
 package org.folio.am.controller;
 
 import static java.lang.Boolean.TRUE;
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.CREATED;
 
 import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.folio.am.domain.dto.ApplicationCleanupResult;
+import org.folio.am.domain.dto.ApplicationCleanupJob;
 import org.folio.am.domain.dto.ApplicationDescriptor;
 import org.folio.am.domain.dto.ApplicationDescriptors;
+import org.folio.am.domain.dto.ApplicationDescriptorsBatch;
 import org.folio.am.domain.dto.ApplicationDescriptorsValidation;
 import org.folio.am.domain.dto.ApplicationReferences;
 import org.folio.am.domain.dto.ValidationMode;
 import org.folio.am.domain.model.ValidationContext;
 import org.folio.am.rest.resource.ApplicationsApi;
+import org.folio.am.service.ApplicationBatchService;
 import org.folio.am.service.ApplicationCleanupService;
 import org.folio.am.service.ApplicationDescriptorsValidationService;
 import org.folio.am.service.ApplicationReferencesValidationService;
@@ -31,6 +35,7 @@ public class ApplicationController extends BaseController implements Application
   private final ApplicationDescriptorsValidationService applicationDescriptorsValidationService;
   private final ApplicationCleanupService applicationCleanupService;
   private final ApplicationService applicationService;
+  private final ApplicationBatchService applicationBatchService;
 
   @Override
   public ResponseEntity<ApplicationDescriptor> getApplicationById(String id, Boolean includeModuleDescriptors) {
@@ -61,6 +66,16 @@ public class ApplicationController extends BaseController implements Application
     return ResponseEntity.status(CREATED).body(createdDescriptor);
   }
 
+  @Override
+  public ResponseEntity<ApplicationDescriptors> registerApplications(String token, Boolean check,
+    ApplicationDescriptorsBatch applicationDescriptorsBatch) {
+    var descriptors = applicationBatchService.createAll(applicationDescriptorsBatch.getApplicationDescriptors(),
+      token, TRUE.equals(check));
+    return ResponseEntity.status(CREATED).body(new ApplicationDescriptors()
+      .totalRecords(descriptors.size())
+      .applicationDescriptors(descriptors));
+  }
+
   @Override
   public ResponseEntity<Void> deregisterApplicationById(String id, String token) {
     applicationService.delete(id, token);
@@ -68,8 +83,13 @@ public class ApplicationController extends BaseController implements Application
   }
 
   @Override
-  public ResponseEntity<ApplicationCleanupResult> cleanupApplications(String token) {
-    return ResponseEntity.ok(applicationCleanupService.cleanup(token));
+  public ResponseEntity<ApplicationCleanupJob> cleanupApplications(String token) {
+    return ResponseEntity.status(ACCEPTED).body(applicationCleanupService.startCleanup(token));
+  }
+
+  @Override
+  public ResponseEntity<ApplicationCleanupJob> getApplicationsCleanupJob(UUID jobId) {
+    return ResponseEntity.ok(applicationCleanupService.getJob(jobId));
   }
 
   @Override
@@ -3,9 +3,16 @@ package org.folio.am.controller;
 import lombok.RequiredArgsConstructor;
 import org.folio.am.domain.dto.EgressBootstrap;
 import org.folio.am.domain.dto.EgressBootstrapRequest;
+import org.folio.am.domain.dto.EgressBootstraps;
+import org.folio.am.domain.dto.EgressBootstrapsRequest;
 import org.folio.am.domain.dto.ModuleBootstrap;
 import org.folio.am.rest.resource.ModuleBootstrapApi;
 import org.folio.am.service.ModuleBootstrapService;
+import org.folio.am.service.ModuleBootstrapSnapshotService;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -14,12 +21,21 @@ import org.springframework.web.bind.annotation.RestController;
 public class ModuleBootstrapController extends BaseController implements ModuleBootstrapApi {
 
   private final ModuleBootstrapService service;
+  private final ModuleBootstrapSnapshotService snapshotService;
 
   @Override
-  public ResponseEntity<ModuleBootstrap> getModuleBootstrap(String id) {
-    var moduleBootstrap = service.getById(id);
+  public ResponseEntity<Resource> getModuleBootstrap(String id, String ifNoneMatch) {
+    var snapshot = snapshotService.getById(id);
+    if (snapshot.isNotModified(ifNoneMatch)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+    }
 
-    return ResponseEntity.ok(moduleBootstrap);
+    var response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+    if (snapshot.etag() != null) {
+      response.eTag(snapshot.etag());
+    }
+
+    return response.body(new ByteArrayResource(snapshot.content()));
   }
 
   @Override
@@ -31,4 +47,10 @@ public class ModuleBootstrapController extends BaseController implements ModuleB
   public ResponseEntity<EgressBootstrap> getModuleEgressBootstrap(String id, EgressBootstrapRequest request) {
     return ResponseEntity.ok(service.getEgressBootstrap(id, request.getApplicationIds()));
   }
+
+  @Override
+  public ResponseEntity<EgressBootstraps> getModuleEgressBootstraps(EgressBootstrapsRequest request) {
+    var bootstraps = service.getEgressBootstraps(request.getModuleIds(), request.getApplicationIds());
+    return ResponseEntity.ok(new EgressBootstraps().bootstraps(bootstraps));
+  }
 }
@@ -2,6 +2,7 @@ package org.folio.am.controller;
 
 import static org.springframework.http.HttpStatus.CREATED;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.folio.am.domain.dto.ModuleDiscoveries;
 import org.folio.am.domain.dto.ModuleDiscovery;
@@ -45,6 +46,18 @@ public class ModuleDiscoveryController extends BaseController implements ModuleD
     return ResponseEntity.noContent().build();
   }
 
+  @Override
+  public ResponseEntity<Void> updateModuleDiscoveries(String token, ModuleDiscoveries discoveries) {
+    moduleDiscoveryService.update(discoveries, token);
+    return ResponseEntity.noContent().build();
+  }
+
+  @Override
+  public ResponseEntity<Void> deleteModuleDiscoveries(List<String> ids, String token) {
+    moduleDiscoveryService.delete(ids, token);
+    return ResponseEntity.noContent().build();
+  }
+
   @Override
   public ResponseEntity<Void> deleteModuleDiscovery(String moduleId, String token) {
     moduleDiscoveryService.delete(moduleId, token);
@@ -0,0 +1,25 @@
+package org.folio.am.domain.entity;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Applications cleanup job shared by all instances.
+ *
+ * @param id - cleanup job identifier
+ * @param status - cleanup job status
+ * @param startedDate - date and time when the job was started, set by the database
+ * @param finishedDate - date and time when the job was finished, set by the database
+ * @param total - total number of application descriptors to inspect, null until the job loads them
+ * @param error - error message if the job failed
+ * @param cleanedIds - identifiers of removed application descriptors
+ * @param skippedIds - identifiers of application descriptors installed for tenants
+ * @param failedIds - identifiers of application descriptors that are failed to be inspected or removed
+ */
+public record ApplicationCleanupJobRecord(UUID id, String status, OffsetDateTime startedDate,
+  OffsetDateTime finishedDate, Integer total, String error, List<String> cleanedIds, List<String> skippedIds,
+  List<String> failedIds) {
+
+  public static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+}
@@ -0,0 +1,37 @@
+package org.folio.am.domain.entity;
+
+/**
+ * Projection interface for a module of an application being deleted.
+ *
+ * <p>Carries only the data required to remove the module and to notify about its discovery removal.
+ */
+public interface ApplicationModuleProjection {
+
+  /**
+   * Gets the module identifier.
+   *
+   * @return the module ID
+   */
+  String getId();
+
+  /**
+   * Gets the module type name.
+   *
+   * @return the module type as {@link ModuleType} name
+   */
+  String getType();
+
+  /**
+   * Gets the module discovery location URL.
+   *
+   * @return the discovery location, null if module has no discovery
+   */
+  String getDiscoveryUrl();
+
+  /**
+   * Defines if the module is not referenced by any other application.
+   *
+   * @return true if the module belongs only to the given application, false otherwise
+   */
+  boolean isOrphan();
+}
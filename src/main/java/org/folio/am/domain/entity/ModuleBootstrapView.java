@@ -37,6 +37,10 @@ public class ModuleBootstrapView {
   @Column(name = "system_user_required", nullable = false)
   private boolean systemUserRequired;
 
+  /**
+   * Slim projection of the module descriptor (see {@code f_module_bootstrap_descriptor}): interface references,
+   * provided interfaces with routing entries and user metadata only.
+   */
   @Type(JsonBinaryType.class)
   @Column(name = "descriptor", columnDefinition = "jsonb")
   @EqualsAndHashCode.Exclude
@@ -0,0 +1,12 @@
+package org.folio.am.domain.entity;
+
+/**
+ * Module discovery data read or written without loading the module descriptor.
+ *
+ * @param id - module identifier
+ * @param name - module name
+ * @param version - module version
+ * @param type - module type
+ * @param location - module discovery url, null if module has no discovery
+ */
+public record ModuleDiscoveryRecord(String id, String name, String version, ModuleType type, String location) {}
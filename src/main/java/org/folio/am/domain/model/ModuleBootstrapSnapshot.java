@@ -0,0 +1,34 @@
+package org.folio.am.domain.model;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.removeStart;
+
+import java.util.Arrays;
+
+/**
+ * Module bootstrap data serialized to JSON together with the entity tag, calculated as hash of the serialized content.
+ *
+ * @param content - module bootstrap data serialized to JSON, served as is
+ * @param etag - quoted entity tag value, null if entity tags are not calculated
+ */
+public record ModuleBootstrapSnapshot(byte[] content, String etag) {
+
+  private static final String WEAK_ETAG_PREFIX = "W/";
+
+  /**
+   * Checks if the snapshot content is not changed comparing to the entity tags from If-None-Match header value.
+   *
+   * @param ifNoneMatch - If-None-Match header value, can be null
+   * @return true if any of the entity tags matches the snapshot entity tag, false - otherwise
+   */
+  public boolean isNotModified(String ifNoneMatch) {
+    if (etag == null || isBlank(ifNoneMatch)) {
+      return false;
+    }
+
+    return Arrays.stream(ifNoneMatch.split(","))
+      .map(String::trim)
+      .map(value -> removeStart(value, WEAK_ETAG_PREFIX))
+      .anyMatch(value -> "*".equals(value) || etag.equals(value));
+  }
+}
@@ -0,0 +1,12 @@
+package org.folio.am.domain.model;
+
+import org.folio.am.domain.dto.ModuleDiscovery;
+import org.folio.am.domain.entity.ModuleType;
+
+/**
+ * Module discovery changed by a batch operation.
+ *
+ * @param moduleDiscovery - module discovery descriptor
+ * @param type - module type
+ */
+public record ModuleDiscoveryChange(ModuleDiscovery moduleDiscovery, ModuleType type) {}
@@ -28,6 +28,24 @@ public class ValidationContext {
   @Getter
   private List<ValidationMode> additionalModes;
 
+  /**
+   * Creates validation context for the application descriptor being registered.
+   *
+   * @param descriptor - application descriptor
+   * @param moduleDescriptors - module descriptors loaded by url
+   * @param uiModuleDescriptors - ui module descriptors loaded by url
+   * @return {@link ValidationContext} with {@link ValidationMode#ON_CREATE} mode
+   */
+  public static ValidationContext onCreate(ApplicationDescriptor descriptor, List<ModuleDescriptor> moduleDescriptors,
+    List<ModuleDescriptor> uiModuleDescriptors) {
+    return ValidationContext.builder()
+      .applicationDescriptor(descriptor)
+      .loadedModuleDescriptors(moduleDescriptors)
+      .loadedUiModuleDescriptors(uiModuleDescriptors)
+      .additionalModes(List.of(ValidationMode.ON_CREATE))
+      .build();
+  }
+
   public List<ModuleDescriptor> getAllModuleDescriptors() {
     if (isNull(allModuleDescriptors)) {
       var moduleDescriptors = new HashSet<>(emptyIfNull(loadedModuleDescriptors));
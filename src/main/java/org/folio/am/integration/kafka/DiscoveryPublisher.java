@@ -1,9 +1,15 @@
 package org.folio.am.integration.kafka;
 
+import static org.folio.common.utils.CollectionUtils.mapItems;
+
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.folio.am.domain.dto.ModuleDiscovery;
 import org.folio.am.domain.entity.ModuleType;
+import org.folio.am.domain.model.ModuleDiscoveryChange;
+import org.folio.am.integration.kafka.model.DiscoveryBatchEvent;
 import org.folio.am.integration.kafka.model.DiscoveryEvent;
 import org.folio.am.integration.messaging.MessagePublisher;
 import org.folio.am.service.ApplicationDiscoveryListener;
@@ -14,25 +20,78 @@ public class DiscoveryPublisher implements ApplicationDiscoveryListener {
 
   public static final String DISCOVERY_DESTINATION = "discovery";
 
+  /**
+   * Destination of {@link DiscoveryBatchEvent} messages. Batch events have no key and a different schema, so they are
+   * not mixed with the keyed per-module events of {@link #DISCOVERY_DESTINATION}, and they are not ordered relative to
+   * per-module events or to each other.
+   */
+  public static final String DISCOVERY_BATCH_DESTINATION = "discovery-batch";
+
   private final MessagePublisher<DiscoveryEvent> messagePublisher;
 
+  /**
+   * Publisher for {@link DiscoveryBatchEvent} messages. If it is not set, a separate {@link DiscoveryEvent} is sent for
+   * each module of a batch operation.
+   */
+  @Setter private MessagePublisher<DiscoveryBatchEvent> batchMessagePublisher;
+
   @Override
   public void onDiscoveryCreate(ModuleDiscovery moduleDiscovery, ModuleType type, String token) {
     sendMessage(moduleDiscovery.getId());
   }
 
+  @Override
+  public void onDiscoveryCreateAll(List<ModuleDiscoveryChange> changes, String token) {
+    if (batchMessagePublisher == null) {
+      ApplicationDiscoveryListener.super.onDiscoveryCreateAll(changes, token);
+      return;
+    }
+
+    sendBatchMessage(changes);
+  }
+
   @Override
   public void onDiscoveryUpdate(ModuleDiscovery moduleDiscovery, ModuleType type, String token) {
     sendMessage(moduleDiscovery.getId());
   }
 
+  @Override
+  public void onDiscoveryUpdateAll(List<ModuleDiscoveryChange> changes, String token) {
+    if (batchMessagePublisher == null) {
+      ApplicationDiscoveryListener.super.onDiscoveryUpdateAll(changes, token);
+      return;
+    }
+
+    sendBatchMessage(changes);
+  }
+
   @Override
   public void onDiscoveryDelete(String serviceId, String instanceId, ModuleType type, String token) {
     sendMessage(serviceId);
   }
 
+  @Override
+  public void onDiscoveryDeleteAll(List<ModuleDiscoveryChange> changes, String token) {
+    if (batchMessagePublisher == null) {
+      ApplicationDiscoveryListener.super.onDiscoveryDeleteAll(changes, token);
+      return;
+    }
+
+    sendBatchMessage(changes);
+  }
+
   private void sendMessage(String serviceId) {
     log.debug("Sending discovery event for module {}", serviceId);
-    messagePublisher.send(DISCOVERY_DESTINATION, new DiscoveryEvent(serviceId));
+    messagePublisher.send(DISCOVERY_DESTINATION, serviceId, new DiscoveryEvent(serviceId));
+  }
+
+  private void sendBatchMessage(List<ModuleDiscoveryChange> changes) {
+    var serviceIds = mapItems(changes, change -> change.moduleDiscovery().getId());
+    if (serviceIds.isEmpty()) {
+      return;
+    }
+
+    log.debug("Sending discovery batch event for modules {}", serviceIds);
+    batchMessagePublisher.send(DISCOVERY_BATCH_DESTINATION, new DiscoveryBatchEvent(serviceIds));
   }
 }
@@ -1,6 +1,7 @@
 package org.folio.am.integration.kafka.config;
 
 import org.folio.am.integration.kafka.DiscoveryPublisher;
+import org.folio.am.integration.kafka.model.DiscoveryBatchEvent;
 import org.folio.am.integration.kafka.model.DiscoveryEvent;
 import org.folio.am.integration.messaging.GenericMessagePublisher;
 import org.folio.am.integration.messaging.MessagePublisher;
@@ -9,6 +10,7 @@ import org.folio.am.integration.messaging.outbox.config.TrxOutboxConfiguration;
 import org.folio.am.integration.messaging.outbox.config.TrxOutboxPublishingConfiguration;
 import org.folio.am.utils.ConditionalOnFarModeDisabled;
 import org.folio.integration.kafka.producer.EnableKafkaProducer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -25,7 +27,14 @@ public class DiscoveryPublisherConfiguration {
   }
 
   @Bean
-  public DiscoveryPublisher discoveryPublisher(MessagePublisher<DiscoveryEvent> messagePublisher) {
-    return new DiscoveryPublisher(messagePublisher);
+  public DiscoveryPublisher discoveryPublisher(MessagePublisher<DiscoveryEvent> messagePublisher,
+    GenericMessagingTemplate messagingTemplate,
+    @Value("${application.kafka.discovery.batch-events-enabled:false}") boolean batchEventsEnabled) {
+    var discoveryPublisher = new DiscoveryPublisher(messagePublisher);
+    if (batchEventsEnabled) {
+      discoveryPublisher.setBatchMessagePublisher(new GenericMessagePublisher<DiscoveryBatchEvent>(messagingTemplate));
+    }
+
+    return discoveryPublisher;
   }
 }
@@ -0,0 +1,11 @@
+package org.folio.am.integration.kafka.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DiscoveryBatchEvent {
+  private List<String> moduleIds;
+}
@@ -12,6 +12,7 @@ public class GenericMessageHeaderAccessor extends MessageHeaderAccessor {
   public static final String PRIMARY_ID_HEADER = "primaryId";
   public static final String DESTINATION_HEADER = "destination";
   public static final String CREATED_HEADER = "created";
+  public static final String KEY_HEADER = "key";
 
   private static final IdGenerator ID_GENERATOR = new AlternativeJdkIdGenerator();
 
@@ -56,6 +57,15 @@ public class GenericMessageHeaderAccessor extends MessageHeaderAccessor {
     setHeader(DESTINATION_HEADER, destination);
   }
 
+  @Nullable
+  public String getKey() {
+    return getHeader(KEY_HEADER, String.class);
+  }
+
+  public void setKey(@Nullable String key) {
+    setHeader(KEY_HEADER, key);
+  }
+
   @Nullable
   public Long getCreated() {
     return getHeader(CREATED_HEADER, Long.class);
@@ -10,5 +10,17 @@ public interface MessagePublisher<T> {
     send(destination, msg);
   }
 
+  /**
+   * Sends the payload with a message key. Messages with the same key are published in the order they are sent.
+   *
+   * @param destination - message destination
+   * @param key - message key
+   * @param payload - message payload
+   */
+  default void send(String destination, String key, T payload) {
+    var msg = MessageBuilder.withPayload(payload).setHeader(GenericMessageHeaderAccessor.KEY_HEADER, key).build();
+    send(destination, msg);
+  }
+
   void send(String destination, Message<T> message);
 }
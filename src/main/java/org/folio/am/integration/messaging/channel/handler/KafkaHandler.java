@@ -31,8 +31,8 @@ public class KafkaHandler implements MessageHandler {
     }
 
     var topic = getEnvTopicName(destination);
-    kafkaTemplate.send(topic, message.getPayload());
+    kafkaTemplate.send(topic, accessor.getKey(), message.getPayload());
 
-    log.debug("Message sent to the topic: {}", topic);
+    log.debug("Message sent to the topic: topic = {}, key = {}", topic, accessor.getKey());
   }
 }
@@ -41,6 +41,16 @@ public class MessagingConfiguration {
     return channel;
   }
 
+  @Bean("discovery-batch")
+  public MessageChannel discoveryBatchChannel(@Qualifier("discoveryMessageHandler") MessageHandler handler,
+    List<ChannelInterceptor> interceptors) {
+    var channel = new ExecutorSubscribableChannel();
+    channel.subscribe(handler);
+    channel.setInterceptors(interceptors);
+
+    return channel;
+  }
+
   @Bean
   public GenericMessagingTemplate messagingTemplate(BeanFactory beanFactory) {
     var template = new GenericMessagingTemplate();
@@ -9,6 +9,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.concurrent.Executor;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -16,6 +17,7 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.folio.am.integration.messaging.outbox.data.TrxOutboxRepository;
 import org.folio.am.integration.messaging.outbox.publisher.Publishing;
 import org.folio.am.integration.messaging.outbox.publisher.Scheduling;
+import org.folio.am.integration.messaging.outbox.publisher.TrxOutboxNotificationListener;
 import org.folio.am.integration.messaging.outbox.publisher.TrxOutboxPollingPublisher;
 import org.folio.am.integration.messaging.outbox.publisher.lock.TrxOutboxLockManager;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
@@ -40,7 +42,10 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 @Log4j2
-@Import(TrxOutboxPublishingConfiguration.SchedulingConfiguration.class)
+@Import({
+  TrxOutboxPublishingConfiguration.SchedulingConfiguration.class,
+  TrxOutboxPublishingConfiguration.NotificationConfiguration.class
+})
 @EnableAsync
 @RequiredArgsConstructor
 public class TrxOutboxPublishingConfiguration {
@@ -165,6 +170,17 @@ public class TrxOutboxPublishingConfiguration {
     }
   }
 
+  @ConditionalOnProperty("messaging.trx-outbox.publishing.notification.enabled")
+  public static class NotificationConfiguration {
+
+    @Bean
+    public TrxOutboxNotificationListener trxOutboxNotificationListener(DataSource dataSource,
+      TrxOutboxPollingPublisher pollingPublisher, @Qualifier(PUBLISHING_TASK_EXECUTOR_BEAN_NAME) Executor executor,
+      Publishing publishing) {
+      return new TrxOutboxNotificationListener(dataSource, pollingPublisher, executor, publishing.getNotification());
+    }
+  }
+
   private static final class AsyncExceptionHandlerConfigurer implements AsyncConfigurer {
 
     @Override
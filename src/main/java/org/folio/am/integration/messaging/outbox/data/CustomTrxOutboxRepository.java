@@ -1,5 +1,6 @@
 package org.folio.am.integration.messaging.outbox.data;
 
+import java.time.Duration;
 import java.util.List;
 
 public interface CustomTrxOutboxRepository {
@@ -7,4 +8,44 @@ public interface CustomTrxOutboxRepository {
   boolean isAnyData();
 
   List<TrxOutboxEntity> findAllOrderedByIdAndLimitedTo(int limit);
+
+  /**
+   * Retrieves the oldest messages of a publishing lane. Messages are assigned to lanes by the hash of the message key,
+   * or of the message id if the key is not set, so all messages with the same key belong to the same lane.
+   *
+   * @param lane - lane number, from 0 to lanes - 1
+   * @param lanes - total number of lanes
+   * @param limit - maximum number of messages
+   * @return list of messages ordered by id
+   */
+  List<TrxOutboxEntity> findAllByLaneOrderedByIdAndLimitedTo(int lane, int lanes, int limit);
+
+  /**
+   * Claims the oldest messages of a publishing lane until the given timeout expires. Claimed messages are published
+   * outside of the claiming transaction, messages locked by other transactions are skipped.
+   *
+   * @param lane - lane number, from 0 to lanes - 1
+   * @param lanes - total number of lanes
+   * @param limit - maximum number of messages
+   * @param claimTimeout - time the messages are claimed for
+   * @return list of claimed messages ordered by id
+   */
+  List<TrxOutboxEntity> claimBatch(int lane, int lanes, int limit, Duration claimTimeout);
+
+  /**
+   * Checks if the publishing lane has messages claimed by a publisher, expired claims are ignored.
+   *
+   * @param lane - lane number, from 0 to lanes - 1
+   * @param lanes - total number of lanes
+   * @return true if any message of the lane is claimed
+   */
+  boolean isLaneClaimed(int lane, int lanes);
+
+  /**
+   * Tries to acquire a transaction-level advisory lock for the publishing lane, without waiting.
+   *
+   * @param lane - lane number
+   * @return true if the lock is acquired, false if the lane is locked by another transaction
+   */
+  boolean tryLockLane(int lane);
 }
@@ -1,13 +1,45 @@
 package org.folio.am.integration.messaging.outbox.data;
 
+import static java.util.Comparator.comparing;
+
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
+import java.time.Duration;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class CustomTrxOutboxRepositoryImpl implements CustomTrxOutboxRepository {
 
+  private static final String LANE_CONDITION =
+    "(hashtext(COALESCE(message_key, CAST(message_id AS text))) & 2147483647) % :lanes = :lane";
+
+  private static final String FIND_BY_LANE_QUERY = """
+    SELECT * FROM trx_outbox
+      WHERE %s
+      ORDER BY id
+      LIMIT :limit
+    """.formatted(LANE_CONDITION);
+
+  private static final String CLAIM_QUERY = """
+    UPDATE trx_outbox SET claimed_until = CURRENT_TIMESTAMP + :claimTimeout * INTERVAL '1 millisecond'
+      WHERE id IN (
+        SELECT id FROM trx_outbox
+          WHERE :lanes <= 1 OR %s
+          ORDER BY id
+          LIMIT :limit
+          FOR UPDATE SKIP LOCKED)
+      RETURNING *
+    """.formatted(LANE_CONDITION);
+
+  private static final String IS_LANE_CLAIMED_QUERY = """
+    SELECT EXISTS (
+      SELECT 1 FROM trx_outbox
+        WHERE (:lanes <= 1 OR %s) AND claimed_until > CURRENT_TIMESTAMP)
+    """.formatted(LANE_CONDITION);
+
+  private static final String TRY_LOCK_LANE_QUERY = "SELECT pg_try_advisory_xact_lock(hashtext('trx_outbox'), :lane)";
+
   private final EntityManager em;
 
   @Override
@@ -27,4 +59,47 @@ public class CustomTrxOutboxRepositoryImpl implements CustomTrxOutboxRepository
     return em.createQuery("SELECT entity FROM TrxOutboxEntity entity ORDER BY entity.id ASC", TrxOutboxEntity.class)
       .setMaxResults(limit).getResultList();
   }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<TrxOutboxEntity> findAllByLaneOrderedByIdAndLimitedTo(int lane, int lanes, int limit) {
+    if (lanes <= 1) {
+      return findAllOrderedByIdAndLimitedTo(limit);
+    }
+
+    return em.createNativeQuery(FIND_BY_LANE_QUERY, TrxOutboxEntity.class)
+      .setParameter("lane", lane)
+      .setParameter("lanes", lanes)
+      .setParameter("limit", limit)
+      .getResultList();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<TrxOutboxEntity> claimBatch(int lane, int lanes, int limit, Duration claimTimeout) {
+    List<TrxOutboxEntity> claimed = em.createNativeQuery(CLAIM_QUERY, TrxOutboxEntity.class)
+      .setParameter("lane", lane)
+      .setParameter("lanes", Math.max(1, lanes))
+      .setParameter("limit", limit)
+      .setParameter("claimTimeout", claimTimeout.toMillis())
+      .getResultList();
+    return claimed.stream().sorted(comparing(TrxOutboxEntity::getId)).toList();
+  }
+
+  @Override
+  public boolean isLaneClaimed(int lane, int lanes) {
+    var result = em.createNativeQuery(IS_LANE_CLAIMED_QUERY, Boolean.class)
+      .setParameter("lane", lane)
+      .setParameter("lanes", Math.max(1, lanes))
+      .getSingleResult();
+    return Boolean.TRUE.equals(result);
+  }
+
+  @Override
+  public boolean tryLockLane(int lane) {
+    var result = em.createNativeQuery(TRY_LOCK_LANE_QUERY, Boolean.class)
+      .setParameter("lane", lane)
+      .getSingleResult();
+    return Boolean.TRUE.equals(result);
+  }
 }
@@ -24,6 +24,9 @@ public class TrxOutboxEntity {
   @Column(name = "messageId", nullable = false)
   private UUID messageId;
 
+  @Column(name = "messageKey")
+  private String messageKey;
+
   @Column(name = "destination", nullable = false)
   private String destination;
 
@@ -1,5 +1,6 @@
 package org.folio.am.integration.messaging.outbox.data;
 
+import java.util.Collection;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
@@ -9,6 +10,10 @@ import org.springframework.stereotype.Repository;
 public interface TrxOutboxRepository extends CrudRepository<TrxOutboxEntity, Long>, CustomTrxOutboxRepository {
 
   @Modifying(clearAutomatically = true)
-  @Query(value = "DELETE FROM TrxOutboxEntity entity WHERE entity.id BETWEEN :lowerBound AND :highBound")
-  void deleteAllByIdBetween(long lowerBound, long highBound);
+  @Query(value = "DELETE FROM TrxOutboxEntity entity WHERE entity.id IN :ids")
+  void deleteAllByIdIn(Collection<Long> ids);
+
+  @Modifying
+  @Query(value = "UPDATE trx_outbox SET claimed_until = NULL WHERE id IN :ids", nativeQuery = true)
+  void releaseClaims(Collection<Long> ids);
 }
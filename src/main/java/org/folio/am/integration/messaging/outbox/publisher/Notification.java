@@ -0,0 +1,24 @@
+package org.folio.am.integration.messaging.outbox.publisher;
+
+import java.time.Duration;
+import lombok.Data;
+
+@Data
+public class Notification {
+
+  private static final boolean DEFAULT_ENABLED = false;
+  private static final Duration DEFAULT_POLL_TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration DEFAULT_RECONNECT_DELAY = Duration.ofSeconds(5);
+
+  private boolean enabled = DEFAULT_ENABLED;
+
+  /**
+   * Maximum time to wait for notifications before checking if the listener is still running.
+   */
+  private Duration pollTimeout = DEFAULT_POLL_TIMEOUT;
+
+  /**
+   * Time to wait before the listening connection is re-established after a failure.
+   */
+  private Duration reconnectDelay = DEFAULT_RECONNECT_DELAY;
+}
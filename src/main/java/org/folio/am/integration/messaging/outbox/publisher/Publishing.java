@@ -1,5 +1,8 @@
 package org.folio.am.integration.messaging.outbox.publisher;
 
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
 import lombok.Data;
 import org.folio.am.integration.messaging.outbox.publisher.lock.Locking;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
@@ -8,13 +11,40 @@ import org.springframework.boot.context.properties.NestedConfigurationProperty;
 public class Publishing {
 
   private static final int DEFAULT_FETCH_SIZE = 100;
+  private static final Duration DEFAULT_SEND_TIMEOUT = Duration.ofSeconds(30);
+  private static final int DEFAULT_LANES = 1;
 
   private int fetchSize = DEFAULT_FETCH_SIZE;
 
+  /**
+   * Number of lanes the outbox is partitioned into by message key. Lanes are published concurrently, messages with the
+   * same key are always published by the same lane in the order they are stored.
+   */
+  private int lanes = DEFAULT_LANES;
+
+  /**
+   * Maximum time to wait for all messages of a batch to be acknowledged by Kafka.
+   */
+  private Duration sendTimeout = DEFAULT_SEND_TIMEOUT;
+
+  /**
+   * Defines if messages of a batch with the same destination and key are coalesced into a single record with the
+   * latest payload. Only messages of {@link #compactionDestinations} are coalesced.
+   */
+  private boolean compaction;
+
+  /**
+   * Destinations which messages are coalesced if compaction is enabled. Must contain only destinations where every
+   * message fully supersedes the previous ones with the same key, messages of other destinations are never coalesced.
+   */
+  private Set<String> compactionDestinations = new HashSet<>();
+
   @NestedConfigurationProperty
   private TaskExecution taskExecution = new TaskExecution();
   @NestedConfigurationProperty
   private Scheduling scheduling = new Scheduling();
   @NestedConfigurationProperty
   private Locking locking = new Locking();
+  @NestedConfigurationProperty
+  private Notification notification = new Notification();
 }
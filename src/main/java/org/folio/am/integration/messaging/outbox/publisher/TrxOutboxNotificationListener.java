@@ -0,0 +1,139 @@
+package org.folio.am.integration.messaging.outbox.publisher;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+import javax.sql.DataSource;
+import lombok.extern.log4j.Log4j2;
+import org.postgresql.PGConnection;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Listens to notifications sent by the database when messages are inserted into the outbox table.
+ *
+ * <p>A dedicated connection is kept on every instance, so messages stored by any instance are published right after
+ * the transaction is committed, without waiting for the scheduled publishing. The connection is opened outside of the
+ * application connection pool, otherwise it would permanently take one pooled connection. Publishing is submitted to
+ * the publishing task executor, which discards tasks while publishing is in progress, so a burst of notifications
+ * results in a single publishing run. Publishing is also triggered each time the connection is (re-)established, to
+ * pick up messages stored while the instance was not listening.</p>
+ */
+@Log4j2
+public class TrxOutboxNotificationListener implements SmartLifecycle {
+
+  public static final String CHANNEL = "trx_outbox_updated";
+
+  private final DataSource dataSource;
+  private final TrxOutboxPollingPublisher publisher;
+  private final Executor publishingExecutor;
+  private final Notification notification;
+
+  private volatile boolean running;
+  private Thread listenerThread;
+
+  public TrxOutboxNotificationListener(DataSource dataSource, TrxOutboxPollingPublisher publisher,
+    Executor publishingExecutor, Notification notification) {
+    this.dataSource = createListenerDataSource(dataSource);
+    this.publisher = publisher;
+    this.publishingExecutor = publishingExecutor;
+    this.notification = notification;
+  }
+
+  @Override
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+
+    running = true;
+    listenerThread = Thread.ofPlatform().name("trx-outbox-listener").daemon().start(this::listen);
+    log.info("Outbox notification listener started: channel = {}", CHANNEL);
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+
+    running = false;
+    listenerThread.interrupt();
+    log.info("Outbox notification listener stopped");
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Creates a non-pooled data source with the connection settings of the application connection pool. Other data
+   * sources are used as is.
+   *
+   * @param dataSource - application data source
+   * @return data source opening a new physical connection on each request
+   */
+  static DataSource createListenerDataSource(DataSource dataSource) {
+    try {
+      if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+        log.warn("Outbox notification listener uses application data source: type = {}", dataSource.getClass());
+        return dataSource;
+      }
+
+      var pool = dataSource.unwrap(HikariDataSource.class);
+      var listenerDataSource = new DriverManagerDataSource(pool.getJdbcUrl(), pool.getUsername(), pool.getPassword());
+      if (pool.getDriverClassName() != null) {
+        listenerDataSource.setDriverClassName(pool.getDriverClassName());
+      }
+      listenerDataSource.setConnectionProperties(pool.getDataSourceProperties());
+      return listenerDataSource;
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to create data source for outbox notification listener", e);
+    }
+  }
+
+  private void listen() {
+    while (running) {
+      try (var connection = dataSource.getConnection()) {
+        var pgConnection = connection.unwrap(PGConnection.class);
+        try (var statement = connection.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+
+        log.debug("Listening to outbox notifications: channel = {}", CHANNEL);
+        publishAsync();
+        receiveNotifications(pgConnection);
+      } catch (SQLException e) {
+        if (running) {
+          log.warn("Outbox notification listener failed, reconnecting in {}", notification.getReconnectDelay(), e);
+          awaitReconnect();
+        }
+      }
+    }
+  }
+
+  private void receiveNotifications(PGConnection pgConnection) throws SQLException {
+    var pollTimeout = (int) notification.getPollTimeout().toMillis();
+    while (running) {
+      var notifications = pgConnection.getNotifications(pollTimeout);
+      if (notifications != null && notifications.length > 0) {
+        log.debug("Outbox notifications received: count = {}", notifications.length);
+        publishAsync();
+      }
+    }
+  }
+
+  private void publishAsync() {
+    publishingExecutor.execute(publisher::publish);
+  }
+
+  private void awaitReconnect() {
+    try {
+      Thread.sleep(notification.getReconnectDelay());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
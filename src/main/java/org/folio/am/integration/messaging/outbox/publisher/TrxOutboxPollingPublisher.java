@@ -1,17 +1,30 @@
 package org.folio.am.integration.messaging.outbox.publisher;
 
+import static java.util.function.Predicate.not;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.folio.integration.kafka.producer.KafkaUtils.getEnvTopicName;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.am.integration.messaging.outbox.data.TrxOutboxEntity;
 import org.folio.am.integration.messaging.outbox.data.TrxOutboxRepository;
 import org.folio.am.integration.messaging.outbox.event.OutboxUpdatedEvent;
+import org.folio.am.integration.messaging.outbox.publisher.lock.Locking;
 import org.folio.am.integration.messaging.outbox.publisher.lock.TrxOutboxLockManager;
 import org.springframework.context.event.EventListener;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -39,18 +52,46 @@ public class TrxOutboxPollingPublisher {
   }
 
   public void publish() {
-    log.debug("Acquiring READ lock on outbox table");
-    var lockOpt = lockManager.acquire(this);
+    var lanes = Math.max(1, publishing.getLanes());
+    if (lanes == 1) {
+      publishLane(0, 1);
+      return;
+    }
+
+    var threadFactory = Thread.ofVirtual().name("trx-outbox-lane-", 0).factory();
+    try (var executor = Executors.newThreadPerTaskExecutor(threadFactory)) {
+      for (int lane = 0; lane < lanes; lane++) {
+        var laneNumber = lane;
+        executor.execute(() -> publishLane(laneNumber, lanes));
+      }
+    }
+  }
+
+  private void publishLane(int lane, int lanes) {
+    try {
+      if (publishing.getLocking().getMode() == Locking.Mode.SKIP_LOCKED) {
+        publishClaimedMessages(lane, lanes);
+      } else {
+        publishLockedLane(lane, lanes);
+      }
+    } catch (Exception e) {
+      log.warn("Failed to publish messages from outbox: lane = {}", lane, e);
+    }
+  }
+
+  private void publishLockedLane(int lane, int lanes) {
+    log.debug("Acquiring READ lock on outbox lane: lane = {}", lane);
+    var lockOpt = lockManager.acquire(this, lane);
 
     if (lockOpt.isEmpty()) {
-      log.info("Outbox table lock cannot be acquired within the given timeout. Publishing interrupted");
+      log.info("Outbox lane lock cannot be acquired within the given timeout. Publishing interrupted: lane = {}", lane);
       return;
     }
     var lock = lockOpt.get();
     log.debug("Lock acquired: {}", lock);
 
     try {
-      publishMessages();
+      publishMessages(lane, lanes);
     } finally {
       log.debug("Releasing READ lock on outbox table");
       lockManager.release(lock);
@@ -75,51 +116,225 @@ public class TrxOutboxPollingPublisher {
     }
   }
 
-  private void publishMessages() {
-    log.info("Publishing messages from outbox");
+  private void publishMessages(int lane, int lanes) {
+    log.info("Publishing messages from outbox: lane = {}", lane);
     var started = System.currentTimeMillis();
 
-    var batch = loadBatch();
+    var batch = loadBatch(lane, lanes);
     var batchNumber = 1;
 
     while (isNotEmpty(batch)) {
-      processBatch(batch, batchNumber);
+      var acknowledgedIds = sendBatch(batch, batchNumber);
+      deleteMessages(acknowledgedIds);
+      if (acknowledgedIds.size() != batch.size()) {
+        log.warn("Publishing interrupted: not all messages of {}th batch are acknowledged, retrying later",
+          batchNumber);
+        return;
+      }
 
-      batch = loadBatch();
+      batch = loadBatch(lane, lanes);
       batchNumber++;
     }
 
-    log.info("All messages published in {}mills", System.currentTimeMillis() - started);
+    log.info("All messages published in {}mills: lane = {}", System.currentTimeMillis() - started, lane);
   }
 
-  private void processBatch(List<TrxOutboxEntity> batch, int batchNumber) {
-    log.info("Processing {}th batch of messages: messageCount = {}", batchNumber, batch.size());
+  /**
+   * Publishes messages claimed with {@code FOR UPDATE SKIP LOCKED}, without the outbox lock table. Each batch is
+   * claimed in a short transaction, sent without holding a database connection, and then acknowledged messages are
+   * removed and claims of the others are released in a second short transaction. The lane is skipped immediately if
+   * another publisher claims it, so there is no lock polling.
+   */
+  private void publishClaimedMessages(int lane, int lanes) {
+    log.info("Publishing claimed messages from outbox: lane = {}", lane);
+    var started = System.currentTimeMillis();
 
-    transactionTemplate.executeWithoutResult(status -> {
-      batch.forEach(this::send);
+    var batchNumber = 1;
+    ClaimResult result;
+    do {
+      result = claimAndPublishBatch(lane, lanes, batchNumber++);
+    } while (result == ClaimResult.PUBLISHED);
 
-      deleteBatch(batch);
-    });
+    switch (result) {
+      case LANE_BUSY -> log.info("Outbox lane is published by another publisher: lane = {}", lane);
+      case INCOMPLETE -> log.warn("Publishing interrupted: not all messages of {}th batch are acknowledged, "
+        + "retrying later: lane = {}", batchNumber - 1, lane);
+      default -> log.info("All messages published in {}mills: lane = {}", System.currentTimeMillis() - started, lane);
+    }
   }
 
-  private void deleteBatch(List<TrxOutboxEntity> batch) {
-    var first = batch.get(0);
-    var last = batch.get(batch.size() - 1);
+  private ClaimResult claimAndPublishBatch(int lane, int lanes, int batchNumber) {
+    var claimedBatch = transactionTemplate.execute(status -> claimBatch(lane, lanes));
+    if (claimedBatch == null || claimedBatch.isEmpty()) {
+      return ClaimResult.LANE_BUSY;
+    }
 
-    log.debug("Removing messages from outbox table: startingFromId = {}, endingWithId = {}",
-      first.getId(), last.getId());
-    repository.deleteAllByIdBetween(first.getId(), last.getId());
+    var batch = claimedBatch.get();
+    if (batch.isEmpty()) {
+      return ClaimResult.EMPTY;
+    }
+
+    var acknowledgedIds = sendBatch(batch, batchNumber);
+    var unacknowledgedIds = batch.stream()
+      .map(TrxOutboxEntity::getId)
+      .filter(not(new HashSet<>(acknowledgedIds)::contains))
+      .toList();
+    transactionTemplate.executeWithoutResult(status -> completeBatch(acknowledgedIds, unacknowledgedIds));
+
+    return unacknowledgedIds.isEmpty() ? ClaimResult.PUBLISHED : ClaimResult.INCOMPLETE;
+  }
+
+  /**
+   * Claims the next batch of the lane. The lane advisory lock serializes claiming, and a new batch is claimed only when
+   * the previous one is completed, so messages with the same key are never sent by two publishers at once.
+   *
+   * @return claimed batch, empty if the lane is claimed by another publisher
+   */
+  private Optional<List<TrxOutboxEntity>> claimBatch(int lane, int lanes) {
+    if (!repository.tryLockLane(lane) || repository.isLaneClaimed(lane, lanes)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(repository.claimBatch(lane, lanes, publishing.getFetchSize(), getClaimTimeout()));
+  }
+
+  private void completeBatch(List<Long> acknowledgedIds, List<Long> unacknowledgedIds) {
+    if (!acknowledgedIds.isEmpty()) {
+      repository.deleteAllByIdIn(acknowledgedIds);
+    }
+    if (!unacknowledgedIds.isEmpty()) {
+      repository.releaseClaims(unacknowledgedIds);
+    }
   }
 
-  private void send(TrxOutboxEntity entity) {
+  /**
+   * Claims expire if the publisher fails before the batch is completed. The timeout is twice the send timeout, so a
+   * publisher never loses a claim while it still waits for acknowledgements.
+   */
+  private Duration getClaimTimeout() {
+    return publishing.getSendTimeout().multipliedBy(2);
+  }
+
+  /**
+   * Sends all messages of the batch without waiting for each acknowledgement, then awaits the acknowledgements
+   * together. Only acknowledged messages must be removed from the outbox, failed ones are kept to be sent again.
+   * Once a message fails, the following messages with the same destination and key are treated as not acknowledged,
+   * so they are sent again after the failed one and their order is preserved.
+   *
+   * <p>If compaction is enabled, messages of compaction destinations with the same destination and key are sent as a
+   * single record with the latest payload, all of them are acknowledged by that record.</p>
+   *
+   * @return ids of acknowledged messages
+   */
+  private List<Long> sendBatch(List<TrxOutboxEntity> batch, int batchNumber) {
+    var groups = publishing.isCompaction() ? compact(batch) : batch.stream().map(List::of).toList();
+    log.info("Processing {}th batch of messages: messageCount = {}, recordCount = {}",
+      batchNumber, batch.size(), groups.size());
+
+    var futures = new ArrayList<CompletableFuture<SendResult<String, String>>>(groups.size());
+    for (var group : groups) {
+      futures.add(send(group.getLast()));
+    }
+
+    var deadline = System.nanoTime() + publishing.getSendTimeout().toNanos();
+    var acknowledgedIds = new ArrayList<Long>(batch.size());
+    var failedKeys = new HashSet<RecordKey>();
+    for (int i = 0; i < groups.size(); i++) {
+      var group = groups.get(i);
+      var entity = group.getLast();
+      var acknowledged = awaitAcknowledgement(entity, futures.get(i), deadline);
+      var recordKey = RecordKey.of(entity);
+      if (recordKey != null && failedKeys.contains(recordKey)) {
+        log.debug("Message is kept after a failed message with the same key: messageId = {}", entity.getMessageId());
+      } else if (acknowledged) {
+        group.forEach(message -> acknowledgedIds.add(message.getId()));
+      } else if (recordKey != null) {
+        failedKeys.add(recordKey);
+      }
+    }
+
+    return acknowledgedIds;
+  }
+
+  /**
+   * Groups messages of the batch by destination and key, groups are ordered by their first message. Messages without
+   * key or of destinations not listed for compaction are never coalesced.
+   */
+  private List<List<TrxOutboxEntity>> compact(List<TrxOutboxEntity> batch) {
+    var compactionDestinations = publishing.getCompactionDestinations();
+    var groups = new ArrayList<List<TrxOutboxEntity>>(batch.size());
+    var groupsByKey = new HashMap<RecordKey, List<TrxOutboxEntity>>();
+    for (var entity : batch) {
+      var recordKey = RecordKey.of(entity);
+      if (recordKey == null || !compactionDestinations.contains(recordKey.destination())) {
+        groups.add(List.of(entity));
+        continue;
+      }
+
+      groupsByKey.computeIfAbsent(recordKey, key -> {
+        var group = new ArrayList<TrxOutboxEntity>();
+        groups.add(group);
+        return group;
+      }).add(entity);
+    }
+
+    return groups;
+  }
+
+  private boolean awaitAcknowledgement(TrxOutboxEntity entity, CompletableFuture<SendResult<String, String>> future,
+    long deadline) {
+    try {
+      future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      return true;
+    } catch (ExecutionException e) {
+      log.warn("Failed to send message: messageId = {}", entity.getMessageId(), e.getCause());
+    } catch (TimeoutException e) {
+      log.warn("Message is not acknowledged within {}: messageId = {}", publishing.getSendTimeout(),
+        entity.getMessageId());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while waiting for message acknowledgement: messageId = {}", entity.getMessageId());
+    }
+
+    return false;
+  }
+
+  private void deleteMessages(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    log.debug("Removing acknowledged messages from outbox table: messageCount = {}", ids.size());
+    transactionTemplate.executeWithoutResult(status -> repository.deleteAllByIdIn(ids));
+  }
+
+  private CompletableFuture<SendResult<String, String>> send(TrxOutboxEntity entity) {
     var topic = getEnvTopicName(entity.getDestination());
 
-    log.debug("Sending message to topic: messageId = {}, payload = {}, topic = {}", entity.getMessageId(),
-      entity.getPayload(), topic);
-    kafkaTemplate.send(topic, entity.getPayload()); // temporary ignore Future<> returned by send() method
+    log.debug("Sending message to topic: messageId = {}, key = {}, payload = {}, topic = {}", entity.getMessageId(),
+      entity.getMessageKey(), entity.getPayload(), topic);
+    try {
+      return kafkaTemplate.send(topic, entity.getMessageKey(), entity.getPayload());
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private List<TrxOutboxEntity> loadBatch(int lane, int lanes) {
+    return repository.findAllByLaneOrderedByIdAndLimitedTo(lane, lanes, publishing.getFetchSize());
   }
 
-  private List<TrxOutboxEntity> loadBatch() {
-    return repository.findAllOrderedByIdAndLimitedTo(publishing.getFetchSize());
+  private enum ClaimResult {
+    PUBLISHED, INCOMPLETE, EMPTY, LANE_BUSY
+  }
+
+  private record RecordKey(String destination, String key) {
+
+    /**
+     * Creates the record key of the message, messages without key have no ordering and so no record key.
+     */
+    static RecordKey of(TrxOutboxEntity entity) {
+      return entity.getMessageKey() != null ? new RecordKey(entity.getDestination(), entity.getMessageKey()) : null;
+    }
   }
 }
@@ -10,4 +10,23 @@ public class Locking {
 
   private long timeout = DEFAULT_TIMEOUT;
   private long retryDelay = DEFAULT_RETRY_DELAY;
+
+  /**
+   * Defines how publishers exclude each other from publishing the same messages.
+   */
+  private Mode mode = Mode.LOCK_TABLE;
+
+  public enum Mode {
+
+    /**
+     * Publishing lane is locked with a record of the outbox lock table, lock acquisition is retried until timeout.
+     */
+    LOCK_TABLE,
+
+    /**
+     * Messages are claimed with {@code SELECT ... FOR UPDATE SKIP LOCKED}, a lane busy with another publisher is
+     * skipped without waiting.
+     */
+    SKIP_LOCKED
+  }
 }
@@ -2,6 +2,8 @@ package org.folio.am.integration.messaging.outbox.publisher.lock;
 
 import java.time.OffsetDateTime;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -24,6 +26,12 @@ public class TrxOutboxLockManager {
       FOR UPDATE NOWAIT
     """;
 
+  private static final String LOCK_INSERT = """
+    INSERT INTO trx_outbox_lock (id, locked, locked_time)
+      VALUES (?, FALSE, NULL)
+      ON CONFLICT (id) DO NOTHING
+    """;
+
   private static final String LOCK_UPDATE = """
     UPDATE trx_outbox_lock
       SET locked = ?
@@ -36,6 +44,7 @@ public class TrxOutboxLockManager {
   private final JdbcTemplate jdbcTemplate;
   private final long timeout;
   private final long retryDelay;
+  private final Set<Long> createdLocks = ConcurrentHashMap.newKeySet();
 
   public TrxOutboxLockManager(Locking locking, TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate) {
     this.timeout = locking.getTimeout() < 0 ? INFINITE_TIMEOUT : locking.getTimeout();
@@ -57,11 +66,26 @@ public class TrxOutboxLockManager {
   }
 
   public Optional<TrxOutboxLock> acquire(Object requester) {
+    return acquire(requester, 0);
+  }
+
+  /**
+   * Acquires the lock of a publishing lane, each lane has its own lock record, so different lanes can be published
+   * concurrently. The lock record is created on the first acquisition.
+   *
+   * @param requester - lock owner
+   * @param lane - lane number, starting from 0
+   * @return {@link Optional} with acquired lock, empty if the lock cannot be acquired within the timeout
+   */
+  public Optional<TrxOutboxLock> acquire(Object requester, int lane) {
+    var lockId = LOCK_REC_ID + lane;
+    createLockIfMissing(lockId);
+
     TrxOutboxLock lock;
     long startTime = System.currentTimeMillis();
 
     do {
-      lock = acquireDbLock(requester);
+      lock = acquireDbLock(requester, lockId);
 
       if (lock == null) {
         log.debug("Lock cannot be acquired, suspending...");
@@ -76,14 +100,21 @@ public class TrxOutboxLockManager {
     releaseLock(lock);
   }
 
-  private TrxOutboxLock acquireDbLock(Object requester) {
-    return transactionTemplate.execute(status -> canBeLocked() ? saveLock(requester) : null);
+  private void createLockIfMissing(long lockId) {
+    if (lockId != LOCK_REC_ID && !createdLocks.contains(lockId)) {
+      jdbcTemplate.update(LOCK_INSERT, lockId);
+      createdLocks.add(lockId);
+    }
+  }
+
+  private TrxOutboxLock acquireDbLock(Object requester, long lockId) {
+    return transactionTemplate.execute(status -> canBeLocked(lockId) ? saveLock(requester, lockId) : null);
   }
 
-  private Boolean canBeLocked() {
+  private Boolean canBeLocked(long lockId) {
     try {
       var result = jdbcTemplate.queryForObject(LOCK_CHECK_QUERY,
-        (rs, rowNum) -> rs.getInt(1) == 1, LOCK_REC_ID, false);
+        (rs, rowNum) -> rs.getInt(1) == 1, lockId, false);
       log.trace("Lock acquisition checking query result: {}", result);
 
       return result;
@@ -117,14 +148,14 @@ public class TrxOutboxLockManager {
     return result;
   }
 
-  private TrxOutboxLock saveLock(Object requester) {
+  private TrxOutboxLock saveLock(Object requester, long lockId) {
     var lockedBy = ObjectUtils.identityToString(requester);
     var lockedTime = OffsetDateTime.now();
 
-    updateDbEntry(LOCK_REC_ID, true, lockedBy, lockedTime);
-    log.trace("Lock saved: lockedBy = {}, lockedTime = {}", lockedBy, lockedTime);
+    updateDbEntry(lockId, true, lockedBy, lockedTime);
+    log.trace("Lock saved: lockId = {}, lockedBy = {}, lockedTime = {}", lockId, lockedBy, lockedTime);
 
-    return new TrxOutboxLock(LOCK_REC_ID, lockedBy, lockedTime);
+    return new TrxOutboxLock(lockId, lockedBy, lockedTime);
   }
 
   private void releaseLock(TrxOutboxLock lock) {
@@ -87,6 +87,7 @@ abstract class AbstractTrxOutboxStore implements TrxOutboxStore, TransactionSync
 
     var accessor = GenericMessageHeaderAccessor.getOrNewAccessor(message);
     entity.setMessageId(accessor.getPrimaryId());
+    entity.setMessageKey(accessor.getKey());
     entity.setDestination(accessor.getDestination());
     entity.setPayload(serialize(message.getPayload()));
     entity.setCreated(millisToOffsetDate(accessor.getCreated()));
@@ -0,0 +1,97 @@
+package org.folio.am.integration.mte;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Bounded in-memory cache of application id to the list of tenants the application is installed for.
+ *
+ * <p>Found entitlements are cached for the configured TTL, empty results (negative cache) use a separate, usually
+ * shorter TTL, because a stale negative result allows removal of an installed application. New entries are not cached
+ * if the cache is full after expired entries are removed.</p>
+ */
+@Log4j2
+public class EntitlementCache {
+
+  private final long ttl;
+  private final long negativeTtl;
+  private final int maxSize;
+  private final Clock clock;
+  private final Map<String, CachedTenants> entries = new ConcurrentHashMap<>();
+
+  public EntitlementCache(Duration ttl, Duration negativeTtl, int maxSize) {
+    this(ttl, negativeTtl, maxSize, Clock.systemUTC());
+  }
+
+  EntitlementCache(Duration ttl, Duration negativeTtl, int maxSize, Clock clock) {
+    this.ttl = ttl.toMillis();
+    this.negativeTtl = negativeTtl.toMillis();
+    this.maxSize = maxSize;
+    this.clock = clock;
+  }
+
+  /**
+   * Provides cached tenants for application id.
+   *
+   * @param applicationId - application identifier
+   * @return {@link Optional} with cached tenants, empty if there is no valid entry
+   */
+  public Optional<List<String>> get(String applicationId) {
+    var cached = entries.get(applicationId);
+    if (cached == null) {
+      return Optional.empty();
+    }
+
+    if (cached.isExpired(clock.millis())) {
+      entries.remove(applicationId, cached);
+      return Optional.empty();
+    }
+
+    return Optional.of(cached.tenants());
+  }
+
+  /**
+   * Caches tenants for application id.
+   *
+   * @param applicationId - application identifier
+   * @param tenants - tenants the application is installed for
+   */
+  public void put(String applicationId, List<String> tenants) {
+    var entryTtl = tenants.isEmpty() ? negativeTtl : ttl;
+    if (entryTtl <= 0) {
+      return;
+    }
+
+    var now = clock.millis();
+    if (entries.size() >= maxSize && !entries.containsKey(applicationId)) {
+      entries.values().removeIf(cached -> cached.isExpired(now));
+      if (entries.size() >= maxSize) {
+        log.debug("Entitlement cache is full, entry is not cached: applicationId = {}", applicationId);
+        return;
+      }
+    }
+
+    entries.put(applicationId, new CachedTenants(List.copyOf(tenants), now + entryTtl));
+  }
+
+  /**
+   * Removes cached tenants for application id.
+   *
+   * @param applicationId - application identifier
+   */
+  public void evict(String applicationId) {
+    entries.remove(applicationId);
+  }
+
+  private record CachedTenants(List<String> tenants, long expiresAt) {
+
+    boolean isExpired(long now) {
+      return now >= expiresAt;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package org.folio.am.integration.mte;
+
+import java.time.Clock;
+import java.time.Duration;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Circuit breaker for requests to mgr-tenant-entitlements.
+ *
+ * <p>The circuit is opened after the configured number of consecutive failed requests, only connection failures and
+ * server errors are counted. All requests are rejected while it is open. Once the open duration has passed, a single
+ * trial request is allowed: the circuit is closed if it succeeds, otherwise it is opened again.</p>
+ */
+@Log4j2
+public class EntitlementCircuitBreaker {
+
+  private final int failureThreshold;
+  private final long openDuration;
+  private final Clock clock;
+
+  private int failures;
+  private long openedUntil;
+  private boolean trialInProgress;
+
+  public EntitlementCircuitBreaker(int failureThreshold, Duration openDuration) {
+    this(failureThreshold, openDuration, Clock.systemUTC());
+  }
+
+  EntitlementCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+    this.failureThreshold = Math.max(1, failureThreshold);
+    this.openDuration = openDuration.toMillis();
+    this.clock = clock;
+  }
+
+  /**
+   * Checks if a request is allowed.
+   *
+   * @return true if the circuit is closed or a trial request is allowed, false if the request must be rejected
+   */
+  public synchronized boolean tryAcquire() {
+    if (failures < failureThreshold) {
+      return true;
+    }
+
+    if (trialInProgress || clock.millis() < openedUntil) {
+      return false;
+    }
+
+    trialInProgress = true;
+    return true;
+  }
+
+  /**
+   * Records a successful request and closes the circuit.
+   */
+  public synchronized void onSuccess() {
+    if (failures >= failureThreshold) {
+      log.info("Circuit breaker for mgr-tenant-entitlements is closed");
+    }
+
+    failures = 0;
+    trialInProgress = false;
+  }
+
+  /**
+   * Records a request that failed for a reason not related to availability of mgr-tenant-entitlements, e.g. a client
+   * error response. Failures are not counted, a trial request slot is released so another trial can be made.
+   */
+  public synchronized void onIgnoredFailure() {
+    trialInProgress = false;
+  }
+
+  /**
+   * Records a failed request, opens the circuit if the failure threshold is reached or the trial request failed.
+   */
+  public synchronized void onFailure() {
+    failures = Math.min(failures + 1, failureThreshold);
+    trialInProgress = false;
+    if (failures >= failureThreshold) {
+      openedUntil = clock.millis() + openDuration;
+      log.warn("Circuit breaker for mgr-tenant-entitlements is open for {} ms", openDuration);
+    }
+  }
+}
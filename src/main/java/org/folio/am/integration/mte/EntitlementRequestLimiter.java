@@ -0,0 +1,137 @@
+package org.folio.am.integration.mte;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Limits the number of concurrent requests to mgr-tenant-entitlements.
+ *
+ * <p>The JDK HTTP client keeps connections alive and reuses them, but does not limit the size of its connection pool.
+ * The limiter bounds the number of connections opened by concurrent callers: a request waits for a free slot up to the
+ * acquire timeout and fails with {@link ResourceAccessException} if none is released. A slot is held until the
+ * response is closed, because the connection is not returned to the client before the response body is read. Active,
+ * pending and maximum number of requests are exposed as gauges to monitor the saturation.</p>
+ */
+public class EntitlementRequestLimiter implements ClientHttpRequestInterceptor, MeterBinder {
+
+  private static final String METRIC_PREFIX = "tenant.entitlement.client.requests.";
+
+  private final int maxRequests;
+  private final long acquireTimeout;
+  private final Semaphore permits;
+  private final AtomicInteger pending = new AtomicInteger();
+
+  public EntitlementRequestLimiter(int maxRequests, Duration acquireTimeout) {
+    this.maxRequests = Math.max(1, maxRequests);
+    this.acquireTimeout = acquireTimeout.toMillis();
+    this.permits = new Semaphore(this.maxRequests, true);
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+    throws IOException {
+    acquire();
+    try {
+      return new PermitReleasingResponse(execution.execute(request, body));
+    } catch (IOException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder(METRIC_PREFIX + "active", this, EntitlementRequestLimiter::getActive)
+      .description("Number of requests to mgr-tenant-entitlements in progress")
+      .register(registry);
+    Gauge.builder(METRIC_PREFIX + "pending", this, EntitlementRequestLimiter::getPending)
+      .description("Number of requests to mgr-tenant-entitlements waiting for a free connection")
+      .register(registry);
+    Gauge.builder(METRIC_PREFIX + "max", this, EntitlementRequestLimiter::getMaxRequests)
+      .description("Maximum number of concurrent requests to mgr-tenant-entitlements")
+      .register(registry);
+  }
+
+  public int getActive() {
+    return maxRequests - permits.availablePermits();
+  }
+
+  public int getPending() {
+    return pending.get();
+  }
+
+  public int getMaxRequests() {
+    return maxRequests;
+  }
+
+  private void acquire() {
+    pending.incrementAndGet();
+    try {
+      if (!permits.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS)) {
+        throw new ResourceAccessException(
+          "Timed out waiting for a free connection to mgr-tenant-entitlements: maxRequests = " + maxRequests);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ResourceAccessException("Interrupted while waiting for a free connection to mgr-tenant-entitlements");
+    } finally {
+      pending.decrementAndGet();
+    }
+  }
+
+  private final class PermitReleasingResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse response;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private PermitReleasingResponse(ClientHttpResponse response) {
+      this.response = response;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return response.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return response.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return response.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      return response.getBody();
+    }
+
+    @Override
+    public void close() {
+      try {
+        response.close();
+      } finally {
+        if (released.compareAndSet(false, true)) {
+          permits.release();
+        }
+      }
+    }
+  }
+}
@@ -1,40 +1,183 @@
 package org.folio.am.integration.mte;
 
+import static java.util.stream.Collectors.joining;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
+import static org.folio.am.utils.TransactionUtils.afterCommit;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
 import org.folio.am.exception.ServiceException;
 import org.folio.am.integration.mte.model.Entitlement;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 
 @Log4j2
 @RequiredArgsConstructor
 public class EntitlementService {
 
+  private static final int DEFAULT_BATCH_SIZE = 50;
+  private static final int PAGE_SIZE = 500;
+
   private final TenantEntitlementClient entitlementClient;
 
+  /**
+   * Maximum number of application ids requested by a single query in {@link #getTenantsByApplicationIds}.
+   */
+  @Setter private int batchSize = DEFAULT_BATCH_SIZE;
+
+  /**
+   * Optional cache of retrieved entitlements, mgr-tenant-entitlements is requested on each call if not set.
+   */
+  @Setter private EntitlementCache cache;
+
+  /**
+   * Optional circuit breaker, rejects requests to mgr-tenant-entitlements after repeated failures if set.
+   */
+  @Setter private EntitlementCircuitBreaker circuitBreaker;
+
   public List<String> getTenants(String id, String authToken) {
+    var cached = getCached(id);
+    if (cached.isPresent()) {
+      log.debug("Entitlement found in cache [appId: {}]", id);
+      return cached.get();
+    }
+
     log.debug("Retrieving entitlement [appId: {}]", id);
     var query = getEntitlementQuery(id);
+    var result = callClient(() -> entitlementClient.findByQuery(query, authToken));
+    var tenants = isNotEmpty(result.getRecords())
+      ? result.getRecords().stream().map(Entitlement::getTenantId).toList()
+      : Collections.<String>emptyList();
 
-    try {
-      var result = entitlementClient.findByQuery(query, authToken);
-      if (isNotEmpty(result.getRecords())) {
-        return result.getRecords()
-          .stream().map(Entitlement::getTenantId)
-          .toList();
+    cacheTenants(id, tenants);
+    return tenants;
+  }
+
+  /**
+   * Retrieves tenants for several applications. Application ids are requested in chunks of the configured batch size,
+   * so a single remote call is made per chunk instead of a call per application.
+   *
+   * @param ids - application identifiers
+   * @param authToken - x-okapi-token value
+   * @return map of application id to the list of tenants it is installed for, contains an entry for each given id
+   * @throws ServiceException if mgr-tenant-entitlements is not available
+   */
+  public Map<String, List<String>> getTenantsByApplicationIds(Collection<String> ids, String authToken) {
+    var result = new LinkedHashMap<String, List<String>>();
+    var missingIds = new ArrayList<String>();
+    for (var id : ids) {
+      var cached = getCached(id);
+      if (cached.isPresent()) {
+        result.put(id, cached.get());
       } else {
-        return Collections.emptyList();
+        result.put(id, new ArrayList<>());
+        missingIds.add(id);
+      }
+    }
+
+    for (var chunk : ListUtils.partition(missingIds, Math.max(1, batchSize))) {
+      log.debug("Retrieving entitlements [appIds: {}]", chunk);
+      for (var entitlement : findAllByQuery(getEntitlementQuery(chunk), authToken)) {
+        var tenants = result.get(entitlement.getApplicationId());
+        if (tenants != null) {
+          tenants.add(entitlement.getTenantId());
+        }
+      }
+      chunk.forEach(id -> cacheTenants(id, result.get(id)));
+    }
+
+    return result;
+  }
+
+  /**
+   * Removes cached entitlements of the application once the current transaction is committed.
+   *
+   * @param id - application identifier
+   */
+  public void evict(String id) {
+    if (cache != null) {
+      afterCommit(() -> cache.evict(id));
+    }
+  }
+
+  /**
+   * Retrieves all entitlements matching the query page by page. Pages are requested until the total number of records
+   * is retrieved, because mgr-tenant-entitlements can return less records than requested limit. The query must define
+   * a stable sort order, otherwise offset paging can skip or repeat records.
+   */
+  private List<Entitlement> findAllByQuery(String query, String authToken) {
+    var entitlements = new ArrayList<Entitlement>();
+    List<Entitlement> records;
+    int totalRecords;
+    do {
+      var offset = entitlements.size();
+      var page = callClient(() -> entitlementClient.findByQuery(query, PAGE_SIZE, offset, authToken));
+      records = ListUtils.emptyIfNull(page.getRecords());
+      totalRecords = page.getTotalRecords();
+      entitlements.addAll(records);
+    } while (!records.isEmpty() && entitlements.size() < totalRecords);
+
+    return entitlements;
+  }
+
+  private <T> T callClient(Supplier<T> request) {
+    if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+      throw new ServiceException("mgr-tenant-entitlements is not available: circuit breaker is open", null);
+    }
+
+    try {
+      var result = request.get();
+      if (circuitBreaker != null) {
+        circuitBreaker.onSuccess();
+      }
+      return result;
+    } catch (RuntimeException cause) {
+      if (circuitBreaker != null) {
+        recordFailure(cause);
       }
-    } catch (RestClientException cause) {
-      throw new ServiceException("mgr-tenant-entitlements is not available", cause);
+      if (cause instanceof RestClientException) {
+        throw new ServiceException("mgr-tenant-entitlements is not available", cause);
+      }
+      throw cause;
+    }
+  }
+
+  private void recordFailure(RuntimeException cause) {
+    if (cause instanceof ResourceAccessException || cause instanceof HttpServerErrorException) {
+      circuitBreaker.onFailure();
+    } else {
+      circuitBreaker.onIgnoredFailure();
+    }
+  }
+
+  private Optional<List<String>> getCached(String id) {
+    return cache != null ? cache.get(id) : Optional.empty();
+  }
+
+  private void cacheTenants(String id, List<String> tenants) {
+    if (cache != null) {
+      cache.put(id, tenants);
     }
   }
 
   private String getEntitlementQuery(String id) {
     return "applicationId=" + id;
   }
+
+  private static String getEntitlementQuery(List<String> ids) {
+    return ids.stream()
+      .map(id -> "\"" + id + "\"")
+      .collect(joining(" or ", "applicationId==(", ") sortBy applicationId tenantId"));
+  }
 }
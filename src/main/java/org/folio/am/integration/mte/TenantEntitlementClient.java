@@ -15,4 +15,10 @@ public interface TenantEntitlementClient {
   @GetExchange("/entitlements")
   ResultList<Entitlement> findByQuery(@RequestParam(value = "query", required = false) String query,
                                       @RequestHeader(TOKEN) String token);
+
+  @GetExchange("/entitlements")
+  ResultList<Entitlement> findByQuery(@RequestParam(value = "query", required = false) String query,
+                                      @RequestParam("limit") int limit,
+                                      @RequestParam("offset") int offset,
+                                      @RequestHeader(TOKEN) String token);
 }
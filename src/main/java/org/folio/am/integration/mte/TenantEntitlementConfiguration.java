@@ -1,12 +1,17 @@
 package org.folio.am.integration.mte;
 
+import io.micrometer.observation.ObservationRegistry;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import lombok.Data;
 import org.folio.am.utils.ConditionalOnFarModeDisabled;
 import org.folio.common.configuration.properties.TlsProperties;
 import org.folio.common.utils.tls.HttpClientTlsUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
 import org.springframework.web.client.RestClient;
 import tools.jackson.databind.json.JsonMapper;
@@ -21,9 +26,45 @@ public class TenantEntitlementConfiguration {
 
   private TlsProperties tls;
 
+  /**
+   * Maximum number of application ids requested from mgr-tenant-entitlements by a single query.
+   */
+  private int batchSize = 50;
+
+  /**
+   * HTTP client settings for requests to mgr-tenant-entitlements.
+   */
+  private ClientProperties client = new ClientProperties();
+
+  /**
+   * Cache of retrieved entitlements.
+   */
+  private CacheProperties cache = new CacheProperties();
+
+  /**
+   * Circuit breaker for requests to mgr-tenant-entitlements.
+   */
+  private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
+  @Bean
+  public EntitlementRequestLimiter entitlementRequestLimiter() {
+    return new EntitlementRequestLimiter(client.getMaxConnections(), client.getAcquireTimeout());
+  }
+
   @Bean
-  public TenantEntitlementClient tenantEntitlementClient(JsonMapper jsonMapper) {
+  public TenantEntitlementClient tenantEntitlementClient(JsonMapper jsonMapper,
+    EntitlementRequestLimiter entitlementRequestLimiter, ObjectProvider<ObservationRegistry> observationRegistry) {
+    var httpClient = HttpClient.newBuilder()
+      .version(client.getHttpVersion())
+      .connectTimeout(client.getConnectTimeout())
+      .build();
+    var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+    requestFactory.setReadTimeout(client.getReadTimeout());
+
     var restClientBuilder = RestClient.builder()
+      .requestFactory(requestFactory)
+      .requestInterceptor(entitlementRequestLimiter)
+      .observationRegistry(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
       .configureMessageConverters(converters -> converters
         .registerDefaults()
         .withJsonConverter(new JacksonJsonHttpMessageConverter(jsonMapper)));
@@ -32,6 +73,81 @@ public class TenantEntitlementConfiguration {
 
   @Bean
   public EntitlementService entitlementService(TenantEntitlementClient client) {
-    return new EntitlementService(client);
+    var entitlementService = new EntitlementService(client);
+    entitlementService.setBatchSize(batchSize);
+    if (cache.isEnabled()) {
+      entitlementService.setCache(new EntitlementCache(cache.getTtl(), cache.getNegativeTtl(), cache.getMaxSize()));
+    }
+    if (circuitBreaker.isEnabled()) {
+      entitlementService.setCircuitBreaker(
+        new EntitlementCircuitBreaker(circuitBreaker.getFailureThreshold(), circuitBreaker.getOpenDuration()));
+    }
+    return entitlementService;
+  }
+
+  @Data
+  public static class ClientProperties {
+
+    /**
+     * HTTP protocol version, HTTP/2 is negotiated with fallback to HTTP/1.1 if {@code HTTP_2} is set.
+     */
+    private HttpClient.Version httpVersion = HttpClient.Version.HTTP_1_1;
+
+    /**
+     * Time limit to establish a connection.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Time limit to receive a response for a single request.
+     */
+    private Duration readTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of concurrent requests, and so of connections opened by the client.
+     */
+    private int maxConnections = 20;
+
+    /**
+     * Time limit to wait for a free connection if the maximum number of concurrent requests is reached.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(10);
+  }
+
+  @Data
+  public static class CacheProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Time to live of cached tenants for an installed application.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /**
+     * Time to live of cached empty results, caching of empty results is disabled if zero.
+     */
+    private Duration negativeTtl = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of cached applications.
+     */
+    private int maxSize = 1000;
+  }
+
+  @Data
+  public static class CircuitBreakerProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Number of consecutive failed requests to open the circuit.
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * Time to reject requests for, before a trial request is allowed.
+     */
+    private Duration openDuration = Duration.ofSeconds(30);
   }
 }
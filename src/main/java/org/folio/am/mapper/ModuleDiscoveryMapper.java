@@ -4,6 +4,7 @@ import java.util.List;
 import org.folio.am.domain.dto.ModuleDiscovery;
 import org.folio.am.domain.entity.ApplicationModuleDiscoveryProjection;
 import org.folio.am.domain.entity.ModuleDiscoveryEntity;
+import org.folio.am.domain.entity.ModuleDiscoveryRecord;
 import org.folio.am.domain.entity.ModuleEntity;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
@@ -29,6 +30,14 @@ public interface ModuleDiscoveryMapper {
    */
   ModuleDiscovery convert(ModuleDiscoveryEntity entity);
 
+  /**
+   * Converts {@link ModuleDiscoveryRecord} to {@link ModuleDiscovery} object.
+   *
+   * @param moduleDiscoveryRecord - {@link ModuleDiscoveryRecord} object
+   * @return converted {@link ModuleDiscovery} object
+   */
+  ModuleDiscovery convert(ModuleDiscoveryRecord moduleDiscoveryRecord);
+
   /**
    * Converts {@link ApplicationModuleDiscoveryProjection} projection to {@link ModuleDiscovery} object.
    *
@@ -0,0 +1,176 @@
+package org.folio.am.repository;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.am.domain.entity.ApplicationEntity;
+import org.folio.am.domain.entity.ModuleEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Stores and deletes applications with their modules using JDBC batch and set-based statements instead of entity
+ * cascades.
+ */
+@Log4j2
+@Repository
+@RequiredArgsConstructor
+public class ApplicationBatchRepository {
+
+  private static final int BATCH_SIZE = 500;
+
+  private static final String INSERT_APPLICATION = """
+    INSERT INTO application (id, name, version, application_descriptor)
+      VALUES (?, ?, ?, ?::jsonb)
+    """;
+
+  private static final String UPSERT_MODULE = """
+    INSERT INTO module (id, name, version, type, descriptor)
+      VALUES (?, ?, ?, ?::module_type, ?::jsonb)
+      ON CONFLICT (id) DO UPDATE
+        SET name = EXCLUDED.name,
+            version = EXCLUDED.version,
+            type = EXCLUDED.type,
+            descriptor = EXCLUDED.descriptor
+    """;
+
+  private static final String DELETE_INTERFACE_REFERENCES = """
+    DELETE FROM module_interface_reference
+      WHERE module_id = ?
+    """;
+
+  private static final String INSERT_INTERFACE_REFERENCE = """
+    INSERT INTO module_interface_reference (module_id, id, version, type)
+      VALUES (?, ?, ?, ?::interface_ref_type)
+    """;
+
+  private static final String INSERT_APPLICATION_MODULE = """
+    INSERT INTO application_module (application_id, module_id)
+      VALUES (?, ?)
+    """;
+
+  private static final String DELETE_APPLICATION_MODULES = """
+    DELETE FROM application_module
+      WHERE application_id = ?
+    """;
+
+  private static final String DELETE_MODULE_INTERFACE_REFERENCES = """
+    DELETE FROM module_interface_reference
+      WHERE module_id = ANY(?)
+    """;
+
+  private static final String DELETE_MODULES = """
+    DELETE FROM module
+      WHERE id = ANY(?)
+    """;
+
+  private static final String DELETE_APPLICATION = """
+    DELETE FROM application
+      WHERE id = ?
+    """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final JsonMapper jsonMapper;
+
+  /**
+   * Inserts applications together with their modules, module interface references and application-module relations.
+   * Modules shared by several applications are written once, already existing modules are updated in the same way as
+   * entity merge does, except for the discovery url which is kept as is.
+   *
+   * <p>Must be called within a transaction.</p>
+   *
+   * @param applications - applications to insert
+   */
+  public void insertAll(Collection<ApplicationEntity> applications) {
+    var modules = getDistinctModules(applications);
+
+    jdbcTemplate.batchUpdate(INSERT_APPLICATION, applications, BATCH_SIZE, (ps, application) -> {
+      ps.setString(1, application.getId());
+      ps.setString(2, application.getName());
+      ps.setString(3, application.getVersion());
+      ps.setString(4, jsonMapper.writeValueAsString(application.getApplicationDescriptor()));
+    });
+
+    jdbcTemplate.batchUpdate(UPSERT_MODULE, modules, BATCH_SIZE, (ps, module) -> {
+      ps.setString(1, module.getId());
+      ps.setString(2, module.getName());
+      ps.setString(3, module.getVersion());
+      ps.setString(4, module.getType().name());
+      ps.setString(5, jsonMapper.writeValueAsString(module.getDescriptor()));
+    });
+
+    jdbcTemplate.batchUpdate(DELETE_INTERFACE_REFERENCES, modules, BATCH_SIZE,
+      (ps, module) -> ps.setString(1, module.getId()));
+
+    var interfaces = modules.stream().flatMap(module -> module.getInterfaces().stream()).toList();
+    jdbcTemplate.batchUpdate(INSERT_INTERFACE_REFERENCE, interfaces, BATCH_SIZE, (ps, interfaceReference) -> {
+      ps.setString(1, interfaceReference.getModuleId());
+      ps.setString(2, interfaceReference.getId());
+      ps.setString(3, interfaceReference.getVersion());
+      ps.setString(4, interfaceReference.getType().name());
+    });
+
+    var applicationModules = getApplicationModules(applications);
+    jdbcTemplate.batchUpdate(INSERT_APPLICATION_MODULE, applicationModules, BATCH_SIZE, (ps, applicationModule) -> {
+      ps.setString(1, applicationModule.applicationId());
+      ps.setString(2, applicationModule.moduleId());
+    });
+
+    log.debug("Applications inserted: applications = {}, modules = {}, interfaces = {}",
+      applications.size(), modules.size(), interfaces.size());
+  }
+
+  /**
+   * Deletes application together with its application-module relations and the given modules. Each table is
+   * cleaned with a single statement regardless of the number of modules.
+   *
+   * <p>Must be called within a transaction.</p>
+   *
+   * @param applicationId - application identifier
+   * @param moduleIds - identifiers of modules that are not referenced by other applications
+   */
+  public void deleteApplication(String applicationId, Collection<String> moduleIds) {
+    jdbcTemplate.update(DELETE_APPLICATION_MODULES, applicationId);
+    if (!moduleIds.isEmpty()) {
+      var moduleIdsArray = moduleIds.toArray(String[]::new);
+      jdbcTemplate.update(DELETE_MODULE_INTERFACE_REFERENCES, ps -> setTextArray(ps, moduleIdsArray));
+      jdbcTemplate.update(DELETE_MODULES, ps -> setTextArray(ps, moduleIdsArray));
+    }
+    jdbcTemplate.update(DELETE_APPLICATION, applicationId);
+
+    log.debug("Application deleted: id = {}, modules = {}", applicationId, moduleIds.size());
+  }
+
+  private static void setTextArray(PreparedStatement ps, String[] values) throws SQLException {
+    ps.setArray(1, ps.getConnection().createArrayOf("text", values));
+  }
+
+  private static List<ModuleEntity> getDistinctModules(Collection<ApplicationEntity> applications) {
+    Map<String, ModuleEntity> modulesById = applications.stream()
+      .flatMap(application -> application.getModules().stream())
+      .collect(toMap(ModuleEntity::getId, identity(), (first, second) -> first, LinkedHashMap::new));
+    return new ArrayList<>(modulesById.values());
+  }
+
+  private static List<ApplicationModule> getApplicationModules(Collection<ApplicationEntity> applications) {
+    var result = new ArrayList<ApplicationModule>();
+    for (var application : applications) {
+      for (var module : application.getModules()) {
+        result.add(new ApplicationModule(application.getId(), module.getId()));
+      }
+    }
+    return result;
+  }
+
+  private record ApplicationModule(String applicationId, String moduleId) {}
+}
@@ -0,0 +1,159 @@
+package org.folio.am.repository;
+
+import static org.folio.am.domain.entity.ApplicationCleanupJobRecord.STATUS_IN_PROGRESS;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.am.domain.entity.ApplicationCleanupJobRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Stores applications cleanup jobs, so they can be polled from any instance. A unique index on the in-progress status
+ * allows a single running job across all instances. Dates are set by the database to avoid clock differences between
+ * instances.
+ */
+@Log4j2
+@Repository
+@RequiredArgsConstructor
+public class ApplicationCleanupJobRepository {
+
+  private static final String COLUMNS =
+    "id, status, started_date, finished_date, total, error, cleaned_ids, skipped_ids, failed_ids";
+
+  private static final String CREATE = """
+    INSERT INTO application_cleanup_job (id, status, started_date, updated_date)
+      VALUES (?, '%s', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+      ON CONFLICT DO NOTHING
+      RETURNING %s
+    """.formatted(STATUS_IN_PROGRESS, COLUMNS);
+
+  private static final String FIND_BY_ID = """
+    SELECT %s FROM application_cleanup_job
+      WHERE id = ?
+    """.formatted(COLUMNS);
+
+  private static final String FIND_RUNNING = """
+    SELECT %s FROM application_cleanup_job
+      WHERE status = '%s'
+    """.formatted(COLUMNS, STATUS_IN_PROGRESS);
+
+  private static final String UPDATE = """
+    UPDATE application_cleanup_job
+      SET status = ?, total = ?, error = ?, cleaned_ids = ?, skipped_ids = ?, failed_ids = ?,
+        updated_date = CURRENT_TIMESTAMP,
+        finished_date = CASE WHEN ? = '%s' THEN NULL ELSE CURRENT_TIMESTAMP END
+      WHERE id = ? AND status = '%s'
+    """.formatted(STATUS_IN_PROGRESS, STATUS_IN_PROGRESS);
+
+  private static final String FAIL_ABANDONED = """
+    UPDATE application_cleanup_job
+      SET status = 'FAILED', error = ?, updated_date = CURRENT_TIMESTAMP, finished_date = CURRENT_TIMESTAMP
+      WHERE status = '%s'
+        AND updated_date < CURRENT_TIMESTAMP - ? * INTERVAL '1 millisecond'
+    """.formatted(STATUS_IN_PROGRESS);
+
+  private static final String DELETE_EXPIRED = """
+    DELETE FROM application_cleanup_job
+      WHERE finished_date < CURRENT_TIMESTAMP - ? * INTERVAL '1 millisecond'
+    """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Creates an in-progress cleanup job if no other job is in progress.
+   *
+   * @param id - cleanup job identifier
+   * @return {@link Optional} with created job, empty if another job is in progress
+   */
+  public Optional<ApplicationCleanupJobRecord> create(UUID id) {
+    return jdbcTemplate.query(CREATE, ApplicationCleanupJobRepository::toRecord, id).stream().findFirst();
+  }
+
+  /**
+   * Retrieves cleanup job by id.
+   *
+   * @param id - cleanup job identifier
+   * @return {@link Optional} with found job, empty if job does not exist
+   */
+  public Optional<ApplicationCleanupJobRecord> findById(UUID id) {
+    return jdbcTemplate.query(FIND_BY_ID, ApplicationCleanupJobRepository::toRecord, id).stream().findFirst();
+  }
+
+  /**
+   * Retrieves the cleanup job in progress.
+   *
+   * @return {@link Optional} with running job, empty if no job is in progress
+   */
+  public Optional<ApplicationCleanupJobRecord> findRunning() {
+    return jdbcTemplate.query(FIND_RUNNING, ApplicationCleanupJobRepository::toRecord).stream().findFirst();
+  }
+
+  /**
+   * Updates status and progress of the cleanup job in progress, the finished date is set once the job leaves the
+   * in-progress status. Dates of the given job are ignored.
+   *
+   * @param job - cleanup job with the current status and progress
+   * @return true if job is updated, false if job is not in progress anymore
+   */
+  public boolean update(ApplicationCleanupJobRecord job) {
+    var updated = jdbcTemplate.update(UPDATE, ps -> {
+      ps.setString(1, job.status());
+      ps.setObject(2, job.total(), Types.INTEGER);
+      ps.setString(3, job.error());
+      ps.setArray(4, ps.getConnection().createArrayOf("text", job.cleanedIds().toArray()));
+      ps.setArray(5, ps.getConnection().createArrayOf("text", job.skippedIds().toArray()));
+      ps.setArray(6, ps.getConnection().createArrayOf("text", job.failedIds().toArray()));
+      ps.setString(7, job.status());
+      ps.setObject(8, job.id());
+    });
+
+    return updated > 0;
+  }
+
+  /**
+   * Fails in-progress jobs which progress is not updated for the given timeout, such jobs are abandoned by a stopped
+   * instance.
+   *
+   * @param timeout - time since the last progress update
+   * @param error - error message of the failed jobs
+   * @return number of failed jobs
+   */
+  public int failAbandoned(Duration timeout, String error) {
+    var failed = jdbcTemplate.update(FAIL_ABANDONED, error, timeout.toMillis());
+    log.debug("Abandoned applications cleanup jobs failed: count = {}", failed);
+    return failed;
+  }
+
+  /**
+   * Deletes jobs finished earlier than the given retention time ago.
+   *
+   * @param retention - time to keep finished jobs
+   * @return number of deleted jobs
+   */
+  public int deleteExpired(Duration retention) {
+    var deleted = jdbcTemplate.update(DELETE_EXPIRED, retention.toMillis());
+    log.debug("Expired applications cleanup jobs deleted: count = {}", deleted);
+    return deleted;
+  }
+
+  private static ApplicationCleanupJobRecord toRecord(ResultSet rs, int rowNum) throws SQLException {
+    return new ApplicationCleanupJobRecord(rs.getObject("id", UUID.class), rs.getString("status"),
+      rs.getObject("started_date", OffsetDateTime.class), rs.getObject("finished_date", OffsetDateTime.class),
+      rs.getObject("total", Integer.class), rs.getString("error"), toList(rs.getArray("cleaned_ids")),
+      toList(rs.getArray("skipped_ids")), toList(rs.getArray("failed_ids")));
+  }
+
+  private static List<String> toList(Array array) throws SQLException {
+    return List.of((String[]) array.getArray());
+  }
+}
@@ -3,6 +3,7 @@ package org.folio.am.repository;
 import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
 import org.folio.am.domain.entity.ApplicationEntity;
@@ -45,18 +46,12 @@ public interface ApplicationRepository extends JpaCqlRepository<ApplicationEntit
     """)
   List<ApplicationEntity> findApplicationsByModuleIds(@Param("ids") List<String> moduleIds);
 
-  @Query(value = """
-    SELECT CASE WHEN COUNT(app) > 0 THEN true ELSE false END
-      FROM ApplicationEntity app
-      INNER JOIN app.modules module
-      WHERE module.id = :moduleId
-        AND app.id <> :id
-    """)
-  boolean existsByNotIdAndModuleId(@Param("id") String id, @Param("moduleId") String moduleId);
-
   @Query(value = "SELECT a.id, a.name, a.version FROM application a WHERE a.name = :name", nativeQuery = true)
   List<ApplicationProjection> findAllAppArtifactsByName(String name);
 
   @Query(value = "SELECT a.id FROM application a", nativeQuery = true)
   List<String> findAllApplicationIds();
+
+  @Query(value = "SELECT a.id FROM application a WHERE a.id IN :ids", nativeQuery = true)
+  List<String> findExistingIds(@Param("ids") Collection<String> ids);
 }
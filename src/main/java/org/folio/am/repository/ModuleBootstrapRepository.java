@@ -1,5 +1,6 @@
 package org.folio.am.repository;
 
+import java.util.Collection;
 import java.util.List;
 import org.folio.am.domain.entity.ModuleBootstrapView;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -43,6 +44,23 @@ public interface ModuleBootstrapRepository extends JpaRepository<ModuleBootstrap
   List<ModuleBootstrapView> findAllRequiredByModuleIdAndApplicationIdsIn(
     @Param("moduleId") String moduleId, @Param("applicationIds") List<String> applicationIds);
 
+  /**
+   * Batch variant of {@link #findAllRequiredByModuleIdAndApplicationIdsIn(String, List)}: returns in-scope rows of the
+   * given modules and of all modules providing interfaces required by any of them. Providers are not linked to the
+   * requesting module, the caller must match them by the provided interface ids.
+   *
+   * @param moduleIds the module identifiers
+   * @param applicationIds the application scope
+   * @return List of in-scope module views
+   */
+  @Query(value = "SELECT view FROM ModuleBootstrapView view WHERE view.applicationId IN :applicationIds "
+    + "AND (view.id IN :moduleIds OR (view.location is not null AND view.id IN "
+    + "(SELECT p.moduleId FROM InterfaceReferenceEntity p WHERE p.type = 'PROVIDES' AND "
+    + "p.id IN (SELECT r.id FROM InterfaceReferenceEntity r WHERE r.moduleId IN :moduleIds AND "
+    + "(r.type = 'REQUIRES' OR r.type = 'OPTIONAL')))))")
+  List<ModuleBootstrapView> findAllRequiredByModuleIdsAndApplicationIdsIn(
+    @Param("moduleIds") Collection<String> moduleIds, @Param("applicationIds") List<String> applicationIds);
+
   /**
    * Returns the bootstrap view row(s) for a single module id. A list is returned (not Optional) because the same
    * module id can appear once per owning application.
@@ -0,0 +1,213 @@
+package org.folio.am.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.am.domain.entity.ModuleDiscoveryRecord;
+import org.folio.am.domain.entity.ModuleType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads and changes module discovery urls with targeted and set-based statements, the module descriptor is never
+ * loaded.
+ */
+@Log4j2
+@Repository
+@RequiredArgsConstructor
+public class ModuleDiscoveryBatchRepository {
+
+  private static final String FIND_BY_IDS = """
+    SELECT id, name, version, CAST(type AS text) AS type, discovery_url
+      FROM module
+      WHERE id = ANY(?)
+    """;
+
+  private static final String FIND_BY_ID = """
+    SELECT id, name, version, CAST(type AS text) AS type, discovery_url
+      FROM module
+      WHERE id = ?
+    """;
+
+  private static final String UPDATE_DISCOVERY_URL = """
+    UPDATE module
+      SET discovery_url = ?
+      WHERE id = ?
+      RETURNING id, name, version, CAST(type AS text) AS type, discovery_url
+    """;
+
+  private static final String CREATE_DISCOVERY_URL = """
+    UPDATE module
+      SET discovery_url = ?
+      WHERE id = ?
+        AND discovery_url IS NULL
+      RETURNING id, name, version, CAST(type AS text) AS type, discovery_url
+    """;
+
+  private static final String REMOVE_DISCOVERY_URL = """
+    UPDATE module
+      SET discovery_url = NULL
+      WHERE id = ?
+        AND discovery_url IS NOT NULL
+      RETURNING id, name, version, CAST(type AS text) AS type, discovery_url
+    """;
+
+  private static final String UPDATE_DISCOVERY_URLS = """
+    UPDATE module m
+      SET discovery_url = v.discovery_url
+      FROM unnest(?::text[], ?::text[]) AS v(id, discovery_url)
+      WHERE m.id = v.id
+      RETURNING m.id, m.name, m.version, CAST(m.type AS text) AS type, m.discovery_url
+    """;
+
+  private static final String CREATE_DISCOVERY_URLS = """
+    UPDATE module m
+      SET discovery_url = v.discovery_url
+      FROM unnest(?::text[], ?::text[]) AS v(id, discovery_url)
+      WHERE m.id = v.id
+        AND m.discovery_url IS NULL
+      RETURNING m.id, m.name, m.version, CAST(m.type AS text) AS type, m.discovery_url
+    """;
+
+  private static final String REMOVE_DISCOVERY_URLS = """
+    UPDATE module
+      SET discovery_url = NULL
+      WHERE id = ANY(?)
+        AND discovery_url IS NOT NULL
+      RETURNING id, name, version, CAST(type AS text) AS type, discovery_url
+    """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Retrieves discovery data of the module.
+   *
+   * @param id - module identifier
+   * @return {@link Optional} with found module, empty if module does not exist
+   */
+  public Optional<ModuleDiscoveryRecord> findById(String id) {
+    return jdbcTemplate.query(FIND_BY_ID, ModuleDiscoveryBatchRepository::toRecord, id).stream().findFirst();
+  }
+
+  /**
+   * Sets discovery url of the module if it has no discovery url yet.
+   *
+   * @param id - module identifier
+   * @param location - discovery url
+   * @return {@link Optional} with updated module, empty if module does not exist or already has a discovery url
+   */
+  public Optional<ModuleDiscoveryRecord> createDiscoveryUrl(String id, String location) {
+    return jdbcTemplate.query(CREATE_DISCOVERY_URL, ModuleDiscoveryBatchRepository::toRecord, location, id).stream()
+      .findFirst();
+  }
+
+  /**
+   * Sets discovery url of the module.
+   *
+   * @param id - module identifier
+   * @param location - discovery url
+   * @return {@link Optional} with updated module, empty if module does not exist
+   */
+  public Optional<ModuleDiscoveryRecord> updateDiscoveryUrl(String id, String location) {
+    return jdbcTemplate.query(UPDATE_DISCOVERY_URL, ModuleDiscoveryBatchRepository::toRecord, location, id).stream()
+      .findFirst();
+  }
+
+  /**
+   * Removes discovery url of the module.
+   *
+   * @param id - module identifier
+   * @return {@link Optional} with updated module, empty if module does not exist or has no discovery url
+   */
+  public Optional<ModuleDiscoveryRecord> removeDiscoveryUrl(String id) {
+    return jdbcTemplate.query(REMOVE_DISCOVERY_URL, ModuleDiscoveryBatchRepository::toRecord, id).stream()
+      .findFirst();
+  }
+
+  /**
+   * Retrieves discovery data of the modules.
+   *
+   * @param ids - module identifiers
+   * @return list with found modules, in no particular order
+   */
+  public List<ModuleDiscoveryRecord> findAllByIds(Collection<String> ids) {
+    var idsArray = ids.toArray(String[]::new);
+    return jdbcTemplate.query(FIND_BY_IDS,
+      ps -> ps.setArray(1, ps.getConnection().createArrayOf("text", idsArray)),
+      ModuleDiscoveryBatchRepository::toRecord);
+  }
+
+  /**
+   * Sets discovery urls of the modules with a single statement regardless of the number of modules.
+   *
+   * <p>Must be called within a transaction.</p>
+   *
+   * @param locationsById - discovery urls by module identifiers, null value removes the discovery url
+   * @return list with updated modules, in no particular order
+   */
+  public List<ModuleDiscoveryRecord> updateDiscoveryUrls(Map<String, String> locationsById) {
+    var updated = setDiscoveryUrls(UPDATE_DISCOVERY_URLS, locationsById);
+    log.debug("Module discovery urls updated: modules = {}", updated.size());
+    return updated;
+  }
+
+  /**
+   * Sets discovery urls of the modules without discovery url with a single statement, modules which already have a
+   * discovery url are skipped.
+   *
+   * <p>Must be called within a transaction.</p>
+   *
+   * @param locationsById - discovery urls by module identifiers
+   * @return list with updated modules, in no particular order
+   */
+  public List<ModuleDiscoveryRecord> createDiscoveryUrls(Map<String, String> locationsById) {
+    var created = setDiscoveryUrls(CREATE_DISCOVERY_URLS, locationsById);
+    log.debug("Module discovery urls created: modules = {}", created.size());
+    return created;
+  }
+
+  /**
+   * Removes discovery urls of the modules with a single statement, modules without discovery are skipped.
+   *
+   * <p>Must be called within a transaction.</p>
+   *
+   * @param ids - module identifiers
+   * @return list with modules which discovery url is removed, in no particular order
+   */
+  public List<ModuleDiscoveryRecord> removeDiscoveryUrls(Collection<String> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    var idsArray = ids.toArray(String[]::new);
+    var updated = jdbcTemplate.query(REMOVE_DISCOVERY_URLS,
+      ps -> ps.setArray(1, ps.getConnection().createArrayOf("text", idsArray)),
+      ModuleDiscoveryBatchRepository::toRecord);
+
+    log.debug("Module discovery urls removed: modules = {}", updated.size());
+    return updated;
+  }
+
+  private List<ModuleDiscoveryRecord> setDiscoveryUrls(String query, Map<String, String> locationsById) {
+    if (locationsById.isEmpty()) {
+      return List.of();
+    }
+
+    var ids = locationsById.keySet().toArray(String[]::new);
+    var locations = locationsById.values().toArray(String[]::new);
+    return jdbcTemplate.query(query, ps -> {
+      ps.setArray(1, ps.getConnection().createArrayOf("text", ids));
+      ps.setArray(2, ps.getConnection().createArrayOf("text", locations));
+    }, ModuleDiscoveryBatchRepository::toRecord);
+  }
+
+  private static ModuleDiscoveryRecord toRecord(ResultSet rs, int rowNum) throws SQLException {
+    return new ModuleDiscoveryRecord(rs.getString("id"), rs.getString("name"), rs.getString("version"),
+      ModuleType.valueOf(rs.getString("type")), rs.getString("discovery_url"));
+  }
+}
@@ -1,6 +1,7 @@
 package org.folio.am.repository;
 
-import java.util.Optional;
+import java.util.List;
+import org.folio.am.domain.entity.ApplicationModuleProjection;
 import org.folio.am.domain.entity.ModuleEntity;
 import org.folio.spring.cql.JpaCqlRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,9 +12,15 @@ import org.springframework.stereotype.Repository;
 public interface ModuleRepository extends JpaCqlRepository<ModuleEntity, String> {
 
   @Query(value = """
-    SELECT module FROM ModuleEntity module
-      WHERE module.discoveryUrl IS NOT NULL
-        AND module.id = :id
-    """)
-  Optional<ModuleEntity> findByHasDiscoveryAndId(@Param("id") String id);
+    SELECT m.id AS id, CAST(m.type AS text) AS type, m.discovery_url AS discoveryUrl,
+           NOT EXISTS (
+             SELECT 1 FROM application_module other
+               WHERE other.module_id = am.module_id
+                 AND other.application_id <> am.application_id
+           ) AS orphan
+      FROM application_module am
+      INNER JOIN module m ON m.id = am.module_id
+      WHERE am.application_id = :applicationId
+    """, nativeQuery = true)
+  List<ApplicationModuleProjection> findAllByApplicationId(@Param("applicationId") String applicationId);
 }
@@ -0,0 +1,173 @@
+package org.folio.am.service;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
+import static org.folio.common.utils.CollectionUtils.mapItems;
+import static org.folio.common.utils.CollectionUtils.toStream;
+
+import jakarta.persistence.EntityExistsException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.am.domain.dto.ApplicationDescriptor;
+import org.folio.am.domain.dto.Module;
+import org.folio.am.domain.entity.ApplicationEntity;
+import org.folio.am.domain.entity.ModuleEntity;
+import org.folio.am.domain.model.ValidationContext;
+import org.folio.am.exception.RequestValidationException;
+import org.folio.am.mapper.ApplicationDescriptorMapper;
+import org.folio.am.repository.ApplicationBatchRepository;
+import org.folio.am.repository.ApplicationRepository;
+import org.folio.am.utils.ApplicationDescriptorUtils;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ApplicationBatchService {
+
+  private final ApplicationRepository appRepository;
+  private final ApplicationBatchRepository batchRepository;
+  private final ApplicationDescriptorMapper mapper;
+  private final ModuleDescriptorLoader moduleDescriptorLoader;
+  private final ApplicationValidatorService applicationValidatorService;
+  private final ApplicationDescriptorsValidationService descriptorsValidationService;
+  private final ModuleBootstrapRefresher moduleBootstrapRefresher;
+  private final PlatformTransactionManager transactionManager;
+
+  /**
+   * Registers several application descriptors at once.
+   *
+   * <p>Module descriptors are loaded once per module, even if the module is shared by several applications. Each
+   * application is validated separately, dependencies and interfaces are validated for the whole set. Loading and
+   * validation are done outside of any transaction, all applications are stored in a single write transaction using
+   * JDBC batch statements.</p>
+   *
+   * @param descriptors - application descriptors to register
+   * @param token - x-okapi-token value
+   * @param check - defines if application descriptors must be validated
+   * @return list with registered {@link ApplicationDescriptor} objects
+   * @throws EntityExistsException if any of the applications is already registered
+   */
+  public List<ApplicationDescriptor> createAll(List<ApplicationDescriptor> descriptors, String token, boolean check) {
+    log.debug("Creating Application Descriptors: count = {}", descriptors.size());
+
+    descriptors.forEach(ApplicationDescriptorUtils::fillIdForArtifacts);
+    var ids = mapItems(descriptors, ApplicationDescriptor::getId);
+    checkNoDuplicates(ids);
+    checkApplicationsNotExist(ids);
+
+    var moduleDescriptorsById = loadModuleDescriptors(descriptors, ApplicationDescriptor::getModules);
+    var uiModuleDescriptorsById = loadModuleDescriptors(descriptors, ApplicationDescriptor::getUiModules);
+    for (var descriptor : descriptors) {
+      var moduleDescriptors = selectLoaded(descriptor.getModules(), moduleDescriptorsById);
+      var uiModuleDescriptors = selectLoaded(descriptor.getUiModules(), uiModuleDescriptorsById);
+
+      if (check) {
+        var validationContext = ValidationContext.onCreate(descriptor, moduleDescriptors, uiModuleDescriptors);
+        applicationValidatorService.validate(validationContext);
+      }
+
+      descriptor.setModuleDescriptors(union(descriptor.getModuleDescriptors(), moduleDescriptors));
+      descriptor.setUiModuleDescriptors(union(descriptor.getUiModuleDescriptors(), uiModuleDescriptors));
+    }
+
+    if (check) {
+      descriptorsValidationService.validateDescriptors(descriptors);
+    }
+
+    var entities = mapItems(descriptors, mapper::convert);
+    try {
+      new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+        checkApplicationsNotExist(ids);
+        batchRepository.insertAll(entities);
+      });
+    } catch (DuplicateKeyException e) {
+      throw new EntityExistsException("Application descriptors already created with ids: " + ids, e);
+    }
+
+    log.debug("Application Descriptors saved: ids = {}", ids);
+    moduleBootstrapRefresher.refresh(getModuleIds(entities));
+    return mapItems(entities, ApplicationEntity::getApplicationDescriptor);
+  }
+
+  /**
+   * Loads descriptors of the distinct modules with url. The loader returns descriptors in the order of the given
+   * modules, each descriptor must have the id of the module it is loaded for, otherwise it would be silently dropped
+   * from the application.
+   */
+  private Map<String, ModuleDescriptor> loadModuleDescriptors(List<ApplicationDescriptor> descriptors,
+    Function<ApplicationDescriptor, List<Module>> modulesExtractor) {
+    var distinctModules = toStream(descriptors)
+      .flatMap(descriptor -> toStream(modulesExtractor.apply(descriptor)))
+      .filter(module -> module.getUrl() != null)
+      .collect(toMap(Module::getId, identity(), (first, second) -> first, LinkedHashMap::new));
+
+    var modules = new ArrayList<>(distinctModules.values());
+    var loadedDescriptors = moduleDescriptorLoader.loadByUrls(modules);
+    var result = new HashMap<String, ModuleDescriptor>();
+    for (int i = 0; i < modules.size(); i++) {
+      var module = modules.get(i);
+      var moduleDescriptor = loadedDescriptors.get(i);
+      if (!module.getId().equals(moduleDescriptor.getId())) {
+        throw new RequestValidationException("Module descriptor loaded by url does not match the module: "
+          + "module id = " + module.getId() + ", module descriptor id = " + moduleDescriptor.getId(),
+          "url", module.getUrl());
+      }
+      result.put(module.getId(), moduleDescriptor);
+    }
+
+    return result;
+  }
+
+  private void checkApplicationsNotExist(List<String> ids) {
+    var existingIds = appRepository.findExistingIds(ids);
+    if (!existingIds.isEmpty()) {
+      throw new EntityExistsException("Application descriptors already created with ids: " + existingIds);
+    }
+  }
+
+  private static List<String> getModuleIds(List<ApplicationEntity> entities) {
+    return toStream(entities)
+      .flatMap(entity -> entity.getModules().stream())
+      .map(ModuleEntity::getId)
+      .distinct()
+      .toList();
+  }
+
+  private static void checkNoDuplicates(List<String> ids) {
+    var uniqueIds = new LinkedHashSet<String>();
+    for (var id : ids) {
+      if (!uniqueIds.add(id)) {
+        throw new RequestValidationException("Duplicate application descriptor in the request", "id", id);
+      }
+    }
+  }
+
+  private static List<ModuleDescriptor> selectLoaded(List<Module> modules, Map<String, ModuleDescriptor> loaded) {
+    return toStream(modules)
+      .map(module -> loaded.get(module.getId()))
+      .filter(Objects::nonNull)
+      .toList();
+  }
+
+  private static List<ModuleDescriptor> union(Collection<ModuleDescriptor> current, List<ModuleDescriptor> loaded) {
+    var result = new ArrayList<>(emptyIfNull(current));
+    result.addAll(loaded);
+    return result;
+  }
+
+}
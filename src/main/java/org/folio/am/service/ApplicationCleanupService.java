@@ -1,69 +1,202 @@
 package org.folio.am.service;
 
+import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
+import static org.apache.commons.lang3.exception.ExceptionUtils.throwableOfType;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
+import org.folio.am.config.properties.ApplicationCleanupProperties;
+import org.folio.am.domain.dto.ApplicationCleanupJob;
+import org.folio.am.domain.dto.ApplicationCleanupJob.StatusEnum;
 import org.folio.am.domain.dto.ApplicationCleanupResult;
-import org.folio.am.exception.ApplicationInstalledException;
+import org.folio.am.domain.entity.ApplicationCleanupJobRecord;
+import org.folio.am.exception.ServiceException;
 import org.folio.am.integration.mte.EntitlementService;
+import org.folio.am.repository.ApplicationCleanupJobRepository;
 import org.folio.am.repository.ApplicationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 
+/**
+ * Removes application descriptors that are not installed for any tenant.
+ *
+ * <p>Cleanup is executed asynchronously, only one job runs at a time across all instances. Applications are processed
+ * in chunks: tenant entitlements are retrieved for the whole chunk with bulk lookups and unused applications are
+ * deleted concurrently up to the configured limit, each application is deleted in its own transaction. Jobs are stored
+ * in the database, so they can be polled from any instance, the job progress is stored after each chunk. Finished jobs
+ * are available for the configured retention time, a job without progress updates for the configured timeout is
+ * considered abandoned by a stopped instance and failed.</p>
+ *
+ * <p>The job uses x-okapi-token of the start request for all entitlement requests, the job fails once
+ * mgr-tenant-entitlements rejects it as unauthorized.</p>
+ */
 @Log4j2
 @Service
-@RequiredArgsConstructor
 public class ApplicationCleanupService {
 
   private final ApplicationRepository applicationRepository;
+  private final ApplicationCleanupJobRepository jobRepository;
   private final ApplicationService applicationService;
+  private final ApplicationCleanupProperties cleanupProperties;
+  private final ExecutorService jobExecutor;
 
   @Autowired(required = false)
   private EntitlementService entitlementService;
 
-  public ApplicationCleanupResult cleanup(String token) {
+  public ApplicationCleanupService(ApplicationRepository applicationRepository,
+    ApplicationCleanupJobRepository jobRepository, ApplicationService applicationService,
+    ApplicationCleanupProperties cleanupProperties) {
+    this.applicationRepository = applicationRepository;
+    this.jobRepository = jobRepository;
+    this.applicationService = applicationService;
+    this.cleanupProperties = cleanupProperties;
+    this.jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+      var thread = new Thread(runnable, "application-cleanup");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @PreDestroy
+  public void destroy() {
+    jobExecutor.shutdownNow();
+  }
+
+  /**
+   * Starts asynchronous cleanup of application descriptors that are not installed for any tenant. If a cleanup job is
+   * already running on any instance, it is returned instead of starting a new one.
+   *
+   * @param token - x-okapi-token value, used to retrieve tenant entitlements during the whole job
+   * @return started or running {@link ApplicationCleanupJob}
+   * @throws UnsupportedOperationException if entitlement service is not available
+   */
+  public ApplicationCleanupJob startCleanup(String token) {
     ensureCleanupSupported();
-    var ids = loadAllApplicationIds();
-    var cleanedIds = new ArrayList<String>();
-    var skippedIds = new ArrayList<String>();
-    var failedIds = new ArrayList<String>();
+    var jobTimeout = cleanupProperties.getJobTimeout();
+    jobRepository.failAbandoned(jobTimeout,
+      "Applications cleanup job is abandoned: the job progress is not updated for " + jobTimeout);
+    jobRepository.deleteExpired(cleanupProperties.getJobRetention());
 
-    for (var id : ids) {
-      cleanupApplication(id, token, cleanedIds, skippedIds, failedIds);
+    var createdJob = jobRepository.create(UUID.randomUUID());
+    if (createdJob.isEmpty()) {
+      var runningJob = jobRepository.findRunning()
+        .orElseThrow(() -> new IllegalStateException("Failed to start applications cleanup: "
+          + "another cleanup job is finished concurrently, retry the request"));
+      log.info("Applications cleanup is already running: jobId = {}", runningJob.id());
+      return toDto(runningJob);
     }
 
-    return buildResult(ids.size(), cleanedIds, skippedIds, failedIds);
+    var job = new CleanupJob(createdJob.get().id());
+    jobExecutor.execute(() -> run(job, token));
+    log.info("Applications cleanup started: jobId = {}", job.id);
+    return toDto(createdJob.get());
   }
 
-  private List<String> loadAllApplicationIds() {
-    return applicationRepository.findAllApplicationIds();
+  /**
+   * Retrieves cleanup job by id.
+   *
+   * @param jobId - cleanup job identifier
+   * @return {@link ApplicationCleanupJob} with the current status and progress
+   * @throws EntityNotFoundException if job is not found or already expired
+   */
+  public ApplicationCleanupJob getJob(UUID jobId) {
+    return jobRepository.findById(jobId)
+      .map(ApplicationCleanupService::toDto)
+      .orElseThrow(() -> new EntityNotFoundException("Unable to find applications cleanup job with id " + jobId));
   }
 
-  private void cleanupApplication(String id, String token, List<String> cleanedIds, List<String> skippedIds,
-    List<String> failedIds) {
+  private void run(CleanupJob job, String token) {
     try {
-      applicationService.delete(id, token);
-      cleanedIds.add(id);
-    } catch (ApplicationInstalledException e) {
-      skippedIds.add(id);
-      log.debug("Application is installed, skipping cleanup: id = {}", id);
+      var ids = applicationRepository.findAllApplicationIds();
+      job.start(ids.size());
+      saveProgress(job);
+
+      var concurrency = Math.max(1, cleanupProperties.getConcurrency());
+      var chunkSize = Math.max(1, cleanupProperties.getChunkSize());
+      var threadFactory = Thread.ofVirtual().name("application-cleanup-", 0).factory();
+      try (var executor = Executors.newFixedThreadPool(concurrency, threadFactory)) {
+        for (var chunk : ListUtils.partition(ids, chunkSize)) {
+          cleanup(chunk, token, job, executor);
+          saveProgress(job);
+          log.debug("Applications cleanup progress: jobId = {}, processed = {}, total = {}",
+            job.id, job.getProcessed(), ids.size());
+        }
+      }
+
+      job.complete();
+      saveProgress(job);
+      log.info("Applications cleanup finished: jobId = {}, total = {}", job.id, ids.size());
     } catch (Exception e) {
-      failedIds.add(id);
+      log.warn("Applications cleanup failed: jobId = {}", job.id, e);
+      failJob(job, e);
+    }
+  }
+
+  private void cleanup(List<String> ids, String token, CleanupJob job, ExecutorService executor) {
+    Map<String, List<String>> tenantsByApplicationId;
+    try {
+      tenantsByApplicationId = entitlementService.getTenantsByApplicationIds(ids, token);
+    } catch (Exception e) {
+      if (throwableOfType(e, HttpClientErrorException.Unauthorized.class) != null) {
+        throw new ServiceException("Failed to retrieve entitlements for applications: "
+          + "request is unauthorized, x-okapi-token of the cleanup request is expired or invalid", e);
+      }
+
+      ids.forEach(job::addFailed);
+      log.warn("Failed to retrieve entitlements for applications: ids = {}", ids, e);
+      return;
+    }
+
+    var futures = new ArrayList<CompletableFuture<Void>>();
+    for (var id : ids) {
+      if (isNotEmpty(tenantsByApplicationId.get(id))) {
+        job.addSkipped(id);
+        log.debug("Application is installed, skipping cleanup: id = {}", id);
+      } else {
+        futures.add(CompletableFuture.runAsync(() -> delete(id, token, job), executor));
+      }
+    }
+
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+  }
+
+  private void delete(String id, String token, CleanupJob job) {
+    try {
+      applicationService.deleteNotInstalled(id, token);
+      job.addCleaned(id);
+    } catch (Exception e) {
+      job.addFailed(id);
       log.warn("Failed to cleanup application: id = {}", id, e);
     }
   }
 
-  private static ApplicationCleanupResult buildResult(int inspected, List<String> cleanedIds, List<String> skippedIds,
-    List<String> failedIds) {
-    return new ApplicationCleanupResult()
-      .inspected(inspected)
-      .cleaned(cleanedIds.size())
-      .skipped(skippedIds.size())
-      .failed(failedIds.size())
-      .cleanedIds(cleanedIds)
-      .skippedIds(skippedIds)
-      .failedIds(failedIds);
+  /**
+   * Stores the job progress, the job is stopped if it is not in progress anymore, e.g. it is failed as abandoned
+   * because a chunk took longer than the job timeout.
+   */
+  private void saveProgress(CleanupJob job) {
+    if (!jobRepository.update(job.toRecord())) {
+      throw new IllegalStateException("Applications cleanup job is not in progress anymore: jobId = " + job.id);
+    }
+  }
+
+  private void failJob(CleanupJob job, Exception cause) {
+    try {
+      job.fail(cause);
+      jobRepository.update(job.toRecord());
+    } catch (Exception e) {
+      log.warn("Failed to store applications cleanup job failure: jobId = {}", job.id, e);
+    }
   }
 
   private void ensureCleanupSupported() {
@@ -72,4 +205,76 @@ public class ApplicationCleanupService {
         "Applications cleanup is not supported: entitlement service is not available");
     }
   }
+
+  private static ApplicationCleanupJob toDto(ApplicationCleanupJobRecord job) {
+    var result = new ApplicationCleanupResult()
+      .inspected(job.cleanedIds().size() + job.skippedIds().size() + job.failedIds().size())
+      .cleaned(job.cleanedIds().size())
+      .skipped(job.skippedIds().size())
+      .failed(job.failedIds().size())
+      .cleanedIds(new ArrayList<>(job.cleanedIds()))
+      .skippedIds(new ArrayList<>(job.skippedIds()))
+      .failedIds(new ArrayList<>(job.failedIds()));
+
+    return new ApplicationCleanupJob()
+      .id(job.id())
+      .status(StatusEnum.fromValue(job.status()))
+      .startedDate(job.startedDate())
+      .finishedDate(job.finishedDate())
+      .total(job.total())
+      .error(job.error())
+      .result(result);
+  }
+
+  /**
+   * Progress of the job executed by this instance, stored with {@link ApplicationCleanupJobRepository}.
+   */
+  private static final class CleanupJob {
+
+    private final UUID id;
+    private final List<String> cleanedIds = new ArrayList<>();
+    private final List<String> skippedIds = new ArrayList<>();
+    private final List<String> failedIds = new ArrayList<>();
+    private StatusEnum status = StatusEnum.IN_PROGRESS;
+    private Integer total;
+    private String error;
+
+    private CleanupJob(UUID id) {
+      this.id = id;
+    }
+
+    synchronized void start(int total) {
+      this.total = total;
+    }
+
+    synchronized void addCleaned(String id) {
+      cleanedIds.add(id);
+    }
+
+    synchronized void addSkipped(String id) {
+      skippedIds.add(id);
+    }
+
+    synchronized void addFailed(String id) {
+      failedIds.add(id);
+    }
+
+    synchronized void complete() {
+      status = StatusEnum.COMPLETED;
+    }
+
+    synchronized void fail(Exception cause) {
+      error = cause.getMessage();
+      status = StatusEnum.FAILED;
+    }
+
+    synchronized int getProcessed() {
+      return cleanedIds.size() + skippedIds.size() + failedIds.size();
+    }
+
+    synchronized ApplicationCleanupJobRecord toRecord() {
+      return new ApplicationCleanupJobRecord(id, status.getValue(), null, null, total, error,
+        List.copyOf(cleanedIds), List.copyOf(skippedIds), List.copyOf(failedIds));
+    }
+  }
 }
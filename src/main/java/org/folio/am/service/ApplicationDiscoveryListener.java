@@ -1,7 +1,9 @@
 package org.folio.am.service;
 
+import java.util.List;
 import org.folio.am.domain.dto.ModuleDiscovery;
 import org.folio.am.domain.entity.ModuleType;
+import org.folio.am.domain.model.ModuleDiscoveryChange;
 
 /**
  * An application discovery event listener.
@@ -17,6 +19,17 @@ public interface ApplicationDiscoveryListener {
    */
   default void onDiscoveryCreate(ModuleDiscovery moduleDiscovery, ModuleType type, String token) {}
 
+  /**
+   * Handles discovery create event for modules created by a single batch operation. By default, each module is handled
+   * by {@link #onDiscoveryCreate(ModuleDiscovery, ModuleType, String)}.
+   *
+   * @param changes created module discoveries
+   * @param token   authentication token
+   */
+  default void onDiscoveryCreateAll(List<ModuleDiscoveryChange> changes, String token) {
+    changes.forEach(change -> onDiscoveryCreate(change.moduleDiscovery(), change.type(), token));
+  }
+
   /**
    * Handles discovery update event.
    *
@@ -26,6 +39,17 @@ public interface ApplicationDiscoveryListener {
    */
   default void onDiscoveryUpdate(ModuleDiscovery moduleDiscovery, ModuleType type, String token) {}
 
+  /**
+   * Handles discovery update event for modules updated by a single batch operation. By default, each module is handled
+   * by {@link #onDiscoveryUpdate(ModuleDiscovery, ModuleType, String)}.
+   *
+   * @param changes updated module discoveries
+   * @param token   authentication token
+   */
+  default void onDiscoveryUpdateAll(List<ModuleDiscoveryChange> changes, String token) {
+    changes.forEach(change -> onDiscoveryUpdate(change.moduleDiscovery(), change.type(), token));
+  }
+
   /**
    * Handles discovery delete event.
    *
@@ -35,4 +59,18 @@ public interface ApplicationDiscoveryListener {
    * @param token      authentication token
    */
   default void onDiscoveryDelete(String serviceId, String instanceId, ModuleType type, String token) {}
+
+  /**
+   * Handles discovery delete event for modules removed by a single batch operation. By default, each module is handled
+   * by {@link #onDiscoveryDelete(String, String, ModuleType, String)}.
+   *
+   * @param changes removed module discoveries
+   * @param token   authentication token
+   */
+  default void onDiscoveryDeleteAll(List<ModuleDiscoveryChange> changes, String token) {
+    changes.forEach(change -> {
+      var moduleId = change.moduleDiscovery().getId();
+      onDiscoveryDelete(moduleId, moduleId, change.type(), token);
+    });
+  }
 }
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.am.domain.dto.ModuleDiscovery;
 import org.folio.am.domain.entity.ModuleType;
+import org.folio.am.domain.model.ModuleDiscoveryChange;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -18,13 +19,28 @@ public class ApplicationEventPublisher {
     discoveryListeners.forEach(listener -> listener.onDiscoveryCreate(moduleDiscovery, type, token));
   }
 
+  public void publishDiscoveryCreateAll(List<ModuleDiscoveryChange> changes, String token) {
+    log.info("Executing 'onDiscoveryCreateAll' handlers for services: count = {}", changes.size());
+    discoveryListeners.forEach(listener -> listener.onDiscoveryCreateAll(changes, token));
+  }
+
   public void publishDiscoveryUpdate(ModuleDiscovery moduleDiscovery, ModuleType type, String token) {
     log.info("Executing 'onDiscoveryUpdate' handlers for service: id = {}", moduleDiscovery.getId());
     discoveryListeners.forEach(listener -> listener.onDiscoveryUpdate(moduleDiscovery, type, token));
   }
 
+  public void publishDiscoveryUpdateAll(List<ModuleDiscoveryChange> changes, String token) {
+    log.info("Executing 'onDiscoveryUpdateAll' handlers for services: count = {}", changes.size());
+    discoveryListeners.forEach(listener -> listener.onDiscoveryUpdateAll(changes, token));
+  }
+
   public void publishDiscoveryDelete(String serviceId, String instanceId, ModuleType type, String token) {
     log.info("Executing 'onDiscoveryDelete' handlers for service: id = {}", serviceId);
     discoveryListeners.forEach(listener -> listener.onDiscoveryDelete(serviceId, instanceId, type, token));
   }
+
+  public void publishDiscoveryDeleteAll(List<ModuleDiscoveryChange> changes, String token) {
+    log.info("Executing 'onDiscoveryDeleteAll' handlers for services: count = {}", changes.size());
+    discoveryListeners.forEach(listener -> listener.onDiscoveryDeleteAll(changes, token));
+  }
 }
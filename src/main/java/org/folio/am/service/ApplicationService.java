@@ -1,21 +1,16 @@
 package org.folio.am.service;
 
 import static java.util.Objects.isNull;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toMap;
-import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.isBlank;
-import static org.folio.am.service.validator.ValidationMode.ON_CREATE;
+import static org.folio.am.utils.ApplicationDescriptorUtils.fillIdForArtifacts;
 import static org.folio.am.utils.CollectionUtils.filterAndMap;
 import static org.folio.common.utils.CollectionUtils.mapItems;
-import static org.folio.common.utils.CollectionUtils.toStream;
 
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -28,12 +23,15 @@ import org.apache.commons.lang3.StringUtils;
 import org.folio.am.domain.dto.ApplicationDescriptor;
 import org.folio.am.domain.dto.ApplicationDescriptors;
 import org.folio.am.domain.entity.ApplicationEntity;
+import org.folio.am.domain.entity.ApplicationModuleProjection;
 import org.folio.am.domain.entity.ApplicationProjection;
 import org.folio.am.domain.entity.ModuleEntity;
+import org.folio.am.domain.entity.ModuleType;
 import org.folio.am.domain.model.ValidationContext;
 import org.folio.am.exception.ApplicationInstalledException;
 import org.folio.am.integration.mte.EntitlementService;
 import org.folio.am.mapper.ApplicationDescriptorMapper;
+import org.folio.am.repository.ApplicationBatchRepository;
 import org.folio.am.repository.ApplicationRepository;
 import org.folio.am.repository.ModuleRepository;
 import org.folio.common.domain.model.ModuleDescriptor;
@@ -42,8 +40,12 @@ import org.folio.common.domain.model.SearchResult;
 import org.semver4j.Semver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Log4j2
 @Service
@@ -53,11 +55,13 @@ public class ApplicationService {
 
   private final ApplicationRepository appRepository;
   private final ModuleRepository moduleRepository;
+  private final ApplicationBatchRepository batchRepository;
   private final ApplicationDescriptorMapper mapper;
   private final ApplicationEventPublisher eventPublisher;
-  private final ModuleDiscoveryService discoveryService;
   @Lazy private final ApplicationValidatorService applicationValidatorService;
   private final ModuleDescriptorLoader moduleDescriptorLoader;
+  private final ModuleBootstrapRefresher moduleBootstrapRefresher;
+  private final PlatformTransactionManager transactionManager;
 
   @Setter(onMethod_ = @Autowired(required = false))
   private EntitlementService entitlementService;
@@ -167,32 +171,40 @@ public class ApplicationService {
   /**
    * Saves application descriptor to the database.
    *
+   * <p>Module descriptors are loaded and validated outside of any transaction, so that no database connection is held
+   * while remote descriptors are fetched. Only the persisting of the application is done in a write transaction. The
+   * existence check is repeated in this transaction, an application registered concurrently after that check is
+   * detected by the unique constraint violation.</p>
+   *
    * @param descriptor - application descriptor object to save.
    * @param token - x-okapi-token value.
    * @return saved {@link ApplicationDescriptor} object
    */
-  @Transactional
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public ApplicationDescriptor create(ApplicationDescriptor descriptor, String token, boolean check) {
     log.debug("Creating Application Descriptor: {}", descriptor);
 
     fillIdForArtifacts(descriptor);
-    var id = descriptor.getId();
-    var descriptorById = appRepository.findById(id).map(descriptorWithModules(false));
-    if (descriptorById.isPresent()) {
-      throw new EntityExistsException("Application descriptor already created with id: " + id);
-    }
+    checkApplicationNotExists(descriptor.getId());
 
     var moduleDescriptors = moduleDescriptorLoader.loadByUrls(descriptor.getModules());
     var uiModuleDescriptors = moduleDescriptorLoader.loadByUrls(descriptor.getUiModules());
 
     if (check) {
-      var validationContext = buildValidationContext(descriptor, moduleDescriptors, uiModuleDescriptors);
+      var validationContext = ValidationContext.onCreate(descriptor, moduleDescriptors, uiModuleDescriptors);
       applicationValidatorService.validate(validationContext);
     }
 
     addModuleDescriptors(descriptor::setModuleDescriptors, descriptor::getModuleDescriptors, moduleDescriptors);
     addModuleDescriptors(descriptor::setUiModuleDescriptors, descriptor::getUiModuleDescriptors, uiModuleDescriptors);
-    return createApplication(descriptor);
+    try {
+      return new TransactionTemplate(transactionManager).execute(status -> {
+        checkApplicationNotExists(descriptor.getId());
+        return createApplication(descriptor);
+      });
+    } catch (DuplicateKeyException e) {
+      throw new EntityExistsException("Application descriptor already created with id: " + descriptor.getId(), e);
+    }
   }
 
   /**
@@ -204,15 +216,23 @@ public class ApplicationService {
    */
   @Transactional
   public void delete(String id, String token) {
-    var application = appRepository.findById(id)
-      .orElseThrow(() -> new EntityNotFoundException("Unable to find application descriptor with id " + id));
-
+    checkApplicationExists(id);
     validateAppInstallations(id, token);
+    deleteApplication(id, token);
+  }
 
-    removeModulesFromApplication(application, token);
-    appRepository.delete(application);
-
-    log.debug("Application Descriptor entity deleted: id = {}", application.getId());
+  /**
+   * Deletes application descriptor by id without checking tenant entitlements, the caller must ensure that the
+   * application is not installed.
+   *
+   * @param id - application descriptor id
+   * @param token - x-okapi-token value.
+   * @throws EntityNotFoundException if application descriptor is not found by id.
+   */
+  @Transactional
+  public void deleteNotInstalled(String id, String token) {
+    checkApplicationExists(id);
+    deleteApplication(id, token);
   }
 
   /**
@@ -244,28 +264,38 @@ public class ApplicationService {
       .uiModuleDescriptors(filterAndMap(entity.getModules(), ModuleEntity::isUiModule, ModuleEntity::getDescriptor));
   }
 
-  private ApplicationDescriptor createApplication(ApplicationDescriptor descriptor) {
-    var entity = mapper.convert(descriptor);
-    populateDiscoveryFromDb(entity.getModules());
+  private void checkApplicationExists(String id) {
+    if (!appRepository.existsById(id)) {
+      throw new EntityNotFoundException("Unable to find application descriptor with id " + id);
+    }
+  }
 
-    var saved = appRepository.save(entity);
-    log.debug("Application Descriptor entity saved: id = {}", saved.getId());
+  private void deleteApplication(String id, String token) {
+    var modules = moduleRepository.findAllByApplicationId(id);
+    var orphanModules = modules.stream().filter(ApplicationModuleProjection::isOrphan).toList();
+    batchRepository.deleteApplication(id, mapItems(orphanModules, ApplicationModuleProjection::getId));
+    orphanModules.forEach(module -> publishDiscoveryDelete(module, token));
+    moduleBootstrapRefresher.refresh(mapItems(modules, ApplicationModuleProjection::getId));
+    if (entitlementService != null) {
+      entitlementService.evict(id);
+    }
 
-    return saved.getApplicationDescriptor();
+    log.debug("Application Descriptor entity deleted: id = {}, removed modules = {}", id, orphanModules.size());
   }
 
-  private void populateDiscoveryFromDb(Set<ModuleEntity> modules) {
-    if (isEmpty(modules)) {
-      return;
+  private void checkApplicationNotExists(String id) {
+    if (appRepository.findById(id).isPresent()) {
+      throw new EntityExistsException("Application descriptor already created with id: " + id);
     }
+  }
 
-    var modulesById = modules.stream().collect(toMap(ModuleEntity::getId, identity()));
-    var dbModules = moduleRepository.findAllById(modulesById.keySet());
+  private ApplicationDescriptor createApplication(ApplicationDescriptor descriptor) {
+    var entity = mapper.convert(descriptor);
+    batchRepository.insertAll(List.of(entity));
+    log.debug("Application Descriptor entity saved: id = {}", entity.getId());
+    moduleBootstrapRefresher.refresh(mapItems(entity.getModules(), ModuleEntity::getId));
 
-    dbModules.forEach(dbModule -> {
-      var m = modulesById.get(dbModule.getId());
-      m.setDiscoveryUrl(dbModule.getDiscoveryUrl());
-    });
+    return entity.getApplicationDescriptor();
   }
 
   private void validateAppInstallations(String id, String token) {
@@ -278,24 +308,12 @@ public class ApplicationService {
     }
   }
 
-  private void removeModulesFromApplication(ApplicationEntity application, String token) {
-    application.removeAllModules(onModuleRemovedFromApplication(application, token));
-  }
-
-  private Consumer<ModuleEntity> onModuleRemovedFromApplication(ApplicationEntity application, String token) {
-    return module -> {
-      if (!isAnotherAppRelatedToModule(application, module)) {
-        discoveryService.delete(module.getId(), token);
-        moduleRepository.delete(module);
-        log.debug("Module removed: id = {}", module.getId());
-      } else {
-        log.debug("Module is included in other application(s) and cannot be delete: id = {}", module.getId());
-      }
-    };
-  }
-
-  private boolean isAnotherAppRelatedToModule(ApplicationEntity application, ModuleEntity module) {
-    return appRepository.existsByNotIdAndModuleId(application.getId(), module.getId());
+  private void publishDiscoveryDelete(ApplicationModuleProjection module, String token) {
+    if (module.getDiscoveryUrl() != null) {
+      var moduleId = module.getId();
+      eventPublisher.publishDiscoveryDelete(moduleId, moduleId, ModuleType.valueOf(module.getType()), token);
+      log.debug("Module discovery removed: id = {}", module.getId());
+    }
   }
 
   private List<ApplicationDescriptor> streamByNameWithModules(String appName,
@@ -378,24 +396,6 @@ public class ApplicationService {
     return new Semver(version);
   }
 
-  private static ValidationContext buildValidationContext(ApplicationDescriptor descriptor,
-    List<ModuleDescriptor> moduleDescriptors, List<ModuleDescriptor> uiModuleDescriptors) {
-    return ValidationContext.builder()
-      .applicationDescriptor(descriptor)
-      .loadedModuleDescriptors(moduleDescriptors)
-      .loadedUiModuleDescriptors(uiModuleDescriptors)
-      .additionalModes(List.of(ON_CREATE))
-      .build();
-  }
-
-  private static void fillIdForArtifacts(ApplicationDescriptor descriptor) {
-    descriptor.setId(descriptor.getArtifactId());
-    toStream(descriptor.getModules())
-      .forEach(module -> module.setId(module.getArtifactId()));
-    toStream(descriptor.getUiModules())
-      .forEach(module -> module.setId(module.getArtifactId()));
-  }
-
   /**
    * Safely adds module descriptors to the application descriptor.
    *
@@ -0,0 +1,222 @@
+package org.folio.am.service;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toSet;
+import static org.folio.am.utils.TransactionUtils.afterCommit;
+import static org.folio.common.utils.CollectionUtils.toStream;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Stream;
+import lombok.extern.log4j.Log4j2;
+import org.folio.am.domain.dto.ModuleDiscovery;
+import org.folio.am.domain.entity.ModuleBootstrapView;
+import org.folio.am.domain.entity.ModuleType;
+import org.folio.am.repository.ModuleBootstrapRepository;
+import org.folio.common.domain.model.InterfaceDescriptor;
+import org.folio.common.domain.model.InterfaceReference;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * In-memory index of backend modules, that maps interface id to the provider modules and module id to the
+ * required/optional interfaces.
+ *
+ * <p>The index is built on startup, updated after commit of discovery and application changes made by this instance
+ * and fully rebuilt with the configured refresh interval to pick up changes made by other instances. All modifications
+ * are executed by a single index thread, readers always see a consistent immutable snapshot.</p>
+ */
+@Log4j2
+public class ModuleBootstrapIndex implements ApplicationDiscoveryListener {
+
+  private final ModuleBootstrapRepository repository;
+  private final Duration refreshInterval;
+  private final ScheduledExecutorService executor;
+
+  private volatile Snapshot snapshot;
+
+  public ModuleBootstrapIndex(ModuleBootstrapRepository repository, Duration refreshInterval) {
+    this.repository = repository;
+    this.refreshInterval = refreshInterval;
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      var thread = new Thread(runnable, "module-bootstrap-index");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (refreshInterval == null || refreshInterval.isZero() || refreshInterval.isNegative()) {
+      executor.execute(this::rebuild);
+      return;
+    }
+
+    var delay = refreshInterval.toMillis();
+    executor.scheduleWithFixedDelay(this::rebuild, 0, delay, MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Resolves the module and the modules providing its required/optional interfaces from the index. Provider modules
+   * without discovery information are skipped.
+   *
+   * @param moduleId - module identifier
+   * @return mutable list of views with the module view first, or empty {@link Optional} if the index is not built
+   *   yet or the module is not indexed
+   */
+  public Optional<List<ModuleBootstrapView>> findAllRequiredByModuleId(String moduleId) {
+    var current = snapshot;
+    if (current == null) {
+      return Optional.empty();
+    }
+
+    var module = current.modules().get(moduleId);
+    if (module == null) {
+      log.debug("Module is not indexed, bootstrap is resolved from database: moduleId = {}", moduleId);
+      return Optional.empty();
+    }
+
+    var result = new ArrayList<ModuleBootstrapView>();
+    result.add(module.view());
+
+    module.requiredInterfaces().stream()
+      .flatMap(interfaceId -> current.providers().getOrDefault(interfaceId, Set.of()).stream())
+      .distinct()
+      .filter(providerId -> !moduleId.equals(providerId))
+      .map(providerId -> current.modules().get(providerId).view())
+      .filter(view -> view.getLocation() != null)
+      .forEach(result::add);
+
+    return Optional.of(result);
+  }
+
+  /**
+   * Re-reads the given modules from the database once the current transaction is committed. Modules that no longer
+   * exist are removed from the index.
+   *
+   * @param moduleIds - identifiers of the modules added to or removed from an application
+   */
+  public void reload(Collection<String> moduleIds) {
+    var ids = Set.copyOf(moduleIds);
+    afterCommit(() -> executor.execute(() -> reloadModules(ids)));
+  }
+
+  @Override
+  public void onDiscoveryCreate(ModuleDiscovery moduleDiscovery, ModuleType type, String token) {
+    updateLocation(moduleDiscovery.getId(), moduleDiscovery.getLocation());
+  }
+
+  @Override
+  public void onDiscoveryUpdate(ModuleDiscovery moduleDiscovery, ModuleType type, String token) {
+    updateLocation(moduleDiscovery.getId(), moduleDiscovery.getLocation());
+  }
+
+  @Override
+  public void onDiscoveryDelete(String serviceId, String instanceId, ModuleType type, String token) {
+    updateLocation(serviceId, null);
+  }
+
+  void rebuild() {
+    try {
+      var started = System.currentTimeMillis();
+      var modules = new HashMap<String, IndexedModule>();
+      repository.findAll().forEach(view -> modules.putIfAbsent(view.getId(), IndexedModule.of(view)));
+
+      snapshot = Snapshot.of(modules);
+      log.info("Module bootstrap index built: modules = {}, took = {}ms",
+        modules.size(), System.currentTimeMillis() - started);
+    } catch (Exception e) {
+      log.warn("Failed to build module bootstrap index", e);
+    }
+  }
+
+  private void reloadModules(Set<String> moduleIds) {
+    var current = snapshot;
+    if (current == null) {
+      return;
+    }
+
+    try {
+      var modules = new HashMap<>(current.modules());
+      moduleIds.forEach(modules::remove);
+      repository.findAllById(moduleIds).forEach(view -> modules.putIfAbsent(view.getId(), IndexedModule.of(view)));
+
+      snapshot = Snapshot.of(modules);
+      log.debug("Module bootstrap index updated: moduleIds = {}", moduleIds);
+    } catch (Exception e) {
+      log.warn("Failed to update module bootstrap index: moduleIds = {}", moduleIds, e);
+    }
+  }
+
+  private void updateLocation(String moduleId, String location) {
+    afterCommit(() -> executor.execute(() -> {
+      var current = snapshot;
+      if (current == null || !current.modules().containsKey(moduleId)) {
+        return;
+      }
+
+      var modules = new HashMap<>(current.modules());
+      modules.computeIfPresent(moduleId, (id, module) -> module.withLocation(location));
+      snapshot = new Snapshot(Map.copyOf(modules), current.providers());
+      log.debug("Module location updated in bootstrap index: moduleId = {}, location = {}", moduleId, location);
+    }));
+  }
+
+  private record Snapshot(Map<String, IndexedModule> modules, Map<String, Set<String>> providers) {
+
+    static Snapshot of(Map<String, IndexedModule> modules) {
+      var providers = new HashMap<String, Set<String>>();
+      modules.values().forEach(module -> module.providedInterfaces()
+        .forEach(interfaceId -> providers.computeIfAbsent(interfaceId, id -> new HashSet<>()).add(module.id())));
+
+      return new Snapshot(Map.copyOf(modules), Map.copyOf(providers));
+    }
+  }
+
+  private record IndexedModule(ModuleBootstrapView view, Set<String> providedInterfaces,
+    Set<String> requiredInterfaces) {
+
+    static IndexedModule of(ModuleBootstrapView view) {
+      var descriptor = view.getDescriptor();
+      if (descriptor == null) {
+        return new IndexedModule(view, Set.of(), Set.of());
+      }
+
+      var provided = toStream(descriptor.getProvides()).map(InterfaceDescriptor::getId).collect(toSet());
+      var required = Stream.concat(toStream(descriptor.getRequires()), toStream(descriptor.getOptional()))
+        .map(InterfaceReference::getId)
+        .collect(toSet());
+
+      return new IndexedModule(view, provided, required);
+    }
+
+    String id() {
+      return view.getId();
+    }
+
+    IndexedModule withLocation(String location) {
+      var copy = new ModuleBootstrapView();
+      copy.setId(view.getId());
+      copy.setApplicationId(view.getApplicationId());
+      copy.setSystemUserRequired(view.isSystemUserRequired());
+      copy.setDescriptor(view.getDescriptor());
+      copy.setLocation(location);
+      return new IndexedModule(copy, providedInterfaces, requiredInterfaces);
+    }
+  }
+}
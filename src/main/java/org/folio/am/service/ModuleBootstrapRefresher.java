@@ -0,0 +1,39 @@
+package org.folio.am.service;
+
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refreshes module bootstrap data after modules are added to or removed from applications.
+ */
+@Component
+@RequiredArgsConstructor
+public class ModuleBootstrapRefresher {
+
+  private final ModuleBootstrapSnapshotService bootstrapSnapshotService;
+
+  @Setter(onMethod_ = @Autowired(required = false))
+  private ModuleBootstrapIndex moduleBootstrapIndex;
+
+  /**
+   * Invalidates cached module bootstrap snapshots and reloads the given modules in the bootstrap index once the current
+   * transaction is committed.
+   *
+   * @param moduleIds - identifiers of the added or removed modules, nothing is refreshed if empty
+   */
+  public void refresh(Collection<String> moduleIds) {
+    if (isEmpty(moduleIds)) {
+      return;
+    }
+
+    bootstrapSnapshotService.invalidate();
+    if (moduleBootstrapIndex != null) {
+      moduleBootstrapIndex.reload(moduleIds);
+    }
+  }
+}
@@ -6,22 +6,26 @@ import static org.folio.common.utils.CollectionUtils.toStream;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.folio.am.domain.dto.EgressBootstrap;
 import org.folio.am.domain.dto.ModuleBootstrap;
 import org.folio.am.domain.dto.ModuleBootstrapDiscovery;
+import org.folio.am.domain.dto.ModuleBootstrapInterface;
 import org.folio.am.domain.entity.ModuleBootstrapView;
 import org.folio.am.mapper.ModuleBootstrapMapper;
 import org.folio.am.repository.ModuleBootstrapRepository;
-import org.folio.common.domain.model.InterfaceDescriptor;
 import org.folio.common.domain.model.InterfaceReference;
-import org.folio.common.domain.model.ModuleDescriptor;
 import org.folio.common.utils.InterfaceComparisonUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,17 +36,23 @@ public class ModuleBootstrapService {
   private final ModuleBootstrapRepository repository;
   private final ModuleBootstrapMapper mapper;
 
+  @Setter(onMethod_ = @Autowired(required = false))
+  private ModuleBootstrapIndex moduleBootstrapIndex;
+
   /**
    * Retrieves a module bootstrap data including information for the modules that provides interfaces listed in
    * required/optional section of the module descriptor. Endpoint information is only returned for interfaces which the
    * specified module actually uses.
    *
+   * <p>No transaction is opened here: when {@link ModuleBootstrapIndex} is enabled and the module is indexed, the
+   * bootstrap is resolved without borrowing a database connection, otherwise the repository query runs in its own
+   * read-only transaction.</p>
+   *
    * @param moduleId - the module identifier
    * @return Module bootstrap data
    */
-  @Transactional(readOnly = true)
   public ModuleBootstrap getById(String moduleId) {
-    var views = repository.findAllRequiredByModuleId(moduleId);
+    var views = findAllRequiredByModuleId(moduleId);
     var moduleView = removeModuleViewById(moduleId, views);
     return new ModuleBootstrap()
       .module(mapper.convert(moduleView))
@@ -75,6 +85,45 @@ public class ModuleBootstrapService {
       .requiredModules(resolveRequiredModules(moduleView, views));
   }
 
+  /**
+   * Batch egress bootstrap: resolves {@link #getEgressBootstrap(String, List)} for all given modules using a single
+   * query. Modules that are not found within the application scope are not included in the result.
+   *
+   * @param moduleIds - the module identifiers
+   * @param applicationIds - the application scope
+   * @return egress bootstrap by module id
+   */
+  @Transactional(readOnly = true)
+  public Map<String, EgressBootstrap> getEgressBootstraps(List<String> moduleIds, List<String> applicationIds) {
+    var requestedIds = new LinkedHashSet<>(moduleIds);
+    var views = repository.findAllRequiredByModuleIdsAndApplicationIdsIn(requestedIds, applicationIds).stream()
+      .distinct()
+      .toList();
+
+    var viewsById = views.stream()
+      .collect(Collectors.toMap(ModuleBootstrapView::getId, Function.identity(), (first, second) -> first));
+
+    var result = new LinkedHashMap<String, EgressBootstrap>();
+    for (var moduleId : requestedIds) {
+      var moduleView = viewsById.get(moduleId);
+      if (moduleView != null) {
+        var providers = findProviders(moduleView, views);
+        result.put(moduleId, new EgressBootstrap().requiredModules(resolveRequiredModules(moduleView, providers)));
+      }
+    }
+
+    return result;
+  }
+
+  private List<ModuleBootstrapView> findAllRequiredByModuleId(String moduleId) {
+    if (moduleBootstrapIndex == null) {
+      return repository.findAllRequiredByModuleId(moduleId);
+    }
+
+    return moduleBootstrapIndex.findAllRequiredByModuleId(moduleId)
+      .orElseGet(() -> repository.findAllRequiredByModuleId(moduleId));
+  }
+
   private List<ModuleBootstrapDiscovery> resolveRequiredModules(ModuleBootstrapView moduleView,
     List<ModuleBootstrapView> views) {
     var requiredInterfaces = getRequiredOptionalInterfaces(moduleView);
@@ -114,6 +163,16 @@ public class ModuleBootstrapService {
     return view;
   }
 
+  private static List<ModuleBootstrapView> findProviders(ModuleBootstrapView moduleView,
+    List<ModuleBootstrapView> views) {
+    var requiredInterfaces = getRequiredOptionalInterfaces(moduleView);
+    return views.stream()
+      .filter(view -> !moduleView.getId().equals(view.getId()) && view.getLocation() != null)
+      .filter(view -> toStream(view.getDescriptor().getProvides())
+        .anyMatch(provided -> requiredInterfaces.contains(provided.getId())))
+      .collect(Collectors.toList());
+  }
+
   private static List<String> getRequiredOptionalInterfaces(ModuleBootstrapView moduleView) {
     var descriptor = moduleView.getDescriptor();
     return Stream.concat(toStream(descriptor.getRequires()), toStream(descriptor.getOptional()))
@@ -127,20 +186,27 @@ public class ModuleBootstrapService {
       return Collections.emptyList();
     }
 
-    removeNotRequiredInterfaces(requiredInterfaces, moduleViews);
-
-    return moduleViews.stream().map(mapper::convert).collect(Collectors.toList());
+    return moduleViews.stream()
+      .map(mapper::convert)
+      .map(discovery -> removeNotRequiredInterfaces(requiredInterfaces, discovery))
+      .collect(Collectors.toList());
   }
 
-  private static void removeNotRequiredInterfaces(List<String> requiredInterfaces, List<ModuleBootstrapView> views) {
-    views.stream()
-      .map(ModuleBootstrapView::getDescriptor)
-      .map(ModuleDescriptor::getProvides)
-      .filter(Objects::nonNull)
-      .forEach(provides -> provides.removeIf(notRequiredInterface(requiredInterfaces)));
+  /**
+   * Filters interfaces of the converted module discovery, source views are left untouched, because they can be shared
+   * between requests by {@link ModuleBootstrapIndex}.
+   */
+  private static ModuleBootstrapDiscovery removeNotRequiredInterfaces(List<String> requiredInterfaces,
+    ModuleBootstrapDiscovery discovery) {
+    var interfaces = discovery.getInterfaces();
+    if (interfaces != null) {
+      interfaces.removeIf(notRequiredInterface(requiredInterfaces));
+    }
+
+    return discovery;
   }
 
-  private static Predicate<InterfaceDescriptor> notRequiredInterface(List<String> requiredInterfaces) {
+  private static Predicate<ModuleBootstrapInterface> notRequiredInterface(List<String> requiredInterfaces) {
     return i -> !requiredInterfaces.contains(i.getId());
   }
 }
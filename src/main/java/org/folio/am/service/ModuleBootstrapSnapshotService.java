@@ -0,0 +1,115 @@
+package org.folio.am.service;
+
+import static org.folio.am.utils.TransactionUtils.afterCommit;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.folio.am.config.properties.ModuleBootstrapProperties;
+import org.folio.am.domain.dto.ModuleDiscovery;
+import org.folio.am.domain.entity.ModuleType;
+import org.folio.am.domain.model.ModuleBootstrapSnapshot;
+import org.folio.am.domain.model.ModuleDiscoveryChange;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ModuleBootstrapSnapshotService implements ApplicationDiscoveryListener {
+
+  private final ModuleBootstrapService moduleBootstrapService;
+  private final JsonMapper jsonMapper;
+  private final ModuleBootstrapProperties bootstrapProperties;
+
+  private final Map<String, CachedSnapshot> snapshots = new ConcurrentHashMap<>();
+  private final AtomicLong version = new AtomicLong();
+
+  /**
+   * Retrieves module bootstrap snapshot by module id. If caching is enabled, the snapshot is served from memory until
+   * it is invalidated by discovery/application changes or expired. Entity tag is calculated only for cached snapshots,
+   * otherwise there is nothing to save on the server side by answering with 304 (Not Modified).
+   *
+   * @param moduleId - module identifier
+   * @return {@link ModuleBootstrapSnapshot} object
+   */
+  public ModuleBootstrapSnapshot getById(String moduleId) {
+    var cacheProperties = bootstrapProperties.getCache();
+    if (!cacheProperties.isEnabled()) {
+      return new ModuleBootstrapSnapshot(serialize(moduleId), null);
+    }
+
+    var currentVersion = version.get();
+    var now = System.currentTimeMillis();
+    var cached = snapshots.get(moduleId);
+    if (cached != null && cached.isValid(currentVersion, now)) {
+      return cached.snapshot();
+    }
+
+    var content = serialize(moduleId);
+    var snapshot = new ModuleBootstrapSnapshot(content, "\"" + DigestUtils.sha256Hex(content) + "\"");
+    var expiresAt = now + cacheProperties.getTtl().toMillis();
+    snapshots.put(moduleId, new CachedSnapshot(snapshot, currentVersion, expiresAt));
+    return snapshot;
+  }
+
+  /**
+   * Invalidates all cached snapshots once the current transaction is committed.
+   */
+  public void invalidate() {
+    if (!bootstrapProperties.getCache().isEnabled()) {
+      return;
+    }
+
+    afterCommit(() -> {
+      version.incrementAndGet();
+      snapshots.clear();
+      log.debug("Module bootstrap snapshots invalidated");
+    });
+  }
+
+  @Override
+  public void onDiscoveryCreate(ModuleDiscovery moduleDiscovery, ModuleType type, String token) {
+    invalidate();
+  }
+
+  @Override
+  public void onDiscoveryCreateAll(List<ModuleDiscoveryChange> changes, String token) {
+    invalidate();
+  }
+
+  @Override
+  public void onDiscoveryUpdate(ModuleDiscovery moduleDiscovery, ModuleType type, String token) {
+    invalidate();
+  }
+
+  @Override
+  public void onDiscoveryUpdateAll(List<ModuleDiscoveryChange> changes, String token) {
+    invalidate();
+  }
+
+  @Override
+  public void onDiscoveryDelete(String serviceId, String instanceId, ModuleType type, String token) {
+    invalidate();
+  }
+
+  @Override
+  public void onDiscoveryDeleteAll(List<ModuleDiscoveryChange> changes, String token) {
+    invalidate();
+  }
+
+  private byte[] serialize(String moduleId) {
+    return jsonMapper.writeValueAsBytes(moduleBootstrapService.getById(moduleId));
+  }
+
+  private record CachedSnapshot(ModuleBootstrapSnapshot snapshot, long version, long expiresAt) {
+
+    boolean isValid(long currentVersion, long now) {
+      return version == currentVersion && now < expiresAt;
+    }
+  }
+}
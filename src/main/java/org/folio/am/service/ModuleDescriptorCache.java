@@ -0,0 +1,312 @@
+package org.folio.am.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.stream.Collectors.toSet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Local file cache of the loaded module descriptors.
+ *
+ * <p>Descriptor content is stored once per content hash in the {@code content} directory, the entry per url keeps the
+ * content hash together with ETag and Last-Modified values used for revalidation. The total size of the stored content
+ * is limited, least recently used entries are evicted when the limit is exceeded.</p>
+ */
+@Log4j2
+public class ModuleDescriptorCache {
+
+  private static final String CONTENT_DIR = "content";
+  private static final String ENTRIES_DIR = "entries";
+  private static final String URL = "url";
+  private static final String CONTENT_HASH = "contentHash";
+  private static final String ETAG = "etag";
+  private static final String LAST_MODIFIED = "lastModified";
+
+  private final Path contentDir;
+  private final Path entriesDir;
+  private final long maxSize;
+  @Getter private final boolean revalidate;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long size;
+
+  public ModuleDescriptorCache(Path directory, long maxSize, boolean revalidate) {
+    this.contentDir = directory.resolve(CONTENT_DIR);
+    this.entriesDir = directory.resolve(ENTRIES_DIR);
+    this.maxSize = maxSize;
+    this.revalidate = revalidate;
+    loadEntries();
+  }
+
+  /**
+   * Retrieves cached entry by url.
+   *
+   * @param url - module descriptor url
+   * @return {@link Optional} with {@link CacheEntry}, empty if descriptor is not cached
+   */
+  public Optional<CacheEntry> get(String url) {
+    lock.lock();
+    try {
+      var entry = entries.get(url);
+      if (entry == null) {
+        return Optional.empty();
+      }
+
+      if (!Files.exists(entry.contentPath())) {
+        removeEntry(entry);
+        return Optional.empty();
+      }
+
+      return Optional.of(entry);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes the given entry if it is still the current entry for its url, used when cached content cannot be read.
+   *
+   * @param entry - cached entry to remove
+   */
+  public void remove(CacheEntry entry) {
+    lock.lock();
+    try {
+      if (entry.equals(entries.get(entry.url()))) {
+        removeEntry(entry);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stores module descriptor content loaded by url. Errors are logged and ignored, because cache is an optimization
+   * only.
+   *
+   * @param url - module descriptor url
+   * @param content - module descriptor content
+   * @param etag - ETag response header value, nullable
+   * @param lastModified - Last-Modified response header value, nullable
+   */
+  public void put(String url, byte[] content, String etag, String lastModified) {
+    Path contentFile = null;
+    try {
+      contentFile = newContentFile();
+      Files.write(contentFile, content);
+      put(url, contentFile, etag, lastModified);
+    } catch (IOException e) {
+      log.warn("Failed to cache module descriptor: url = {}", url, e);
+    } finally {
+      if (contentFile != null) {
+        deleteQuietly(contentFile);
+      }
+    }
+  }
+
+  /**
+   * Stores module descriptor content from the file created by {@link #newContentFile()}. The file is moved into the
+   * cache, so it must not be used by the caller afterward. Errors are logged and ignored, because cache is an
+   * optimization only.
+   *
+   * @param url - module descriptor url
+   * @param contentFile - file with module descriptor content
+   * @param etag - ETag response header value, nullable
+   * @param lastModified - Last-Modified response header value, nullable
+   */
+  public void put(String url, Path contentFile, String etag, String lastModified) {
+    try {
+      var contentSize = Files.size(contentFile);
+      if (contentSize > maxSize) {
+        log.debug("Module descriptor is too large to be cached: url = {}, size = {}", url, contentSize);
+        return;
+      }
+
+      String contentHash;
+      try (var content = Files.newInputStream(contentFile)) {
+        contentHash = DigestUtils.sha256Hex(content);
+      }
+
+      store(url, contentFile, contentSize, contentHash, etag, lastModified);
+    } catch (IOException e) {
+      log.warn("Failed to cache module descriptor: url = {}", url, e);
+    }
+  }
+
+  /**
+   * Creates temporary file in the cache directory to write module descriptor content to.
+   *
+   * @return path to the created file
+   * @throws IOException if file cannot be created
+   */
+  public Path newContentFile() throws IOException {
+    return Files.createTempFile(contentDir, "content", ".tmp");
+  }
+
+  private void store(String url, Path contentFile, long contentSize, String contentHash, String etag,
+    String lastModified) throws IOException {
+    lock.lock();
+    try {
+      var entry = new CacheEntry(url, contentHash, etag, lastModified, contentDir.resolve(contentHash + ".json"));
+      var previous = entries.get(url);
+      if (previous != null) {
+        removeEntry(previous);
+      }
+
+      if (!Files.exists(entry.contentPath())) {
+        Files.move(contentFile, entry.contentPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+        size += contentSize;
+      }
+
+      writeEntry(entry);
+      entries.put(url, entry);
+      evict();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void evict() {
+    var iterator = new ArrayList<>(entries.values()).iterator();
+    while (size > maxSize && iterator.hasNext()) {
+      var entry = iterator.next();
+      removeEntry(entry);
+      log.debug("Module descriptor evicted from cache: url = {}", entry.url());
+    }
+  }
+
+  private void removeEntry(CacheEntry entry) {
+    entries.remove(entry.url());
+    deleteQuietly(entriesDir.resolve(entryFileName(entry.url())));
+
+    var contentShared = entries.values().stream()
+      .anyMatch(other -> other.contentHash().equals(entry.contentHash()));
+    if (!contentShared) {
+      size -= sizeOf(entry.contentPath());
+      deleteQuietly(entry.contentPath());
+    }
+  }
+
+  private void loadEntries() {
+    try {
+      Files.createDirectories(contentDir);
+      Files.createDirectories(entriesDir);
+
+      try (var files = Files.list(entriesDir)) {
+        files.filter(path -> path.toString().endsWith(".properties"))
+          .map(ModuleDescriptorCache::readEntry)
+          .flatMap(Optional::stream)
+          .filter(entry -> Files.exists(entry.contentPath()))
+          .forEach(entry -> entries.put(entry.url(), entry));
+      }
+
+      var contentPaths = entries.values().stream().map(CacheEntry::contentPath).collect(toSet());
+      try (var files = Files.list(contentDir)) {
+        files.filter(path -> !contentPaths.contains(path)).forEach(ModuleDescriptorCache::deleteQuietly);
+      }
+
+      size = contentPaths.stream().mapToLong(ModuleDescriptorCache::sizeOf).sum();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to initialize module descriptor cache", e);
+    }
+
+    log.info("Module descriptor cache initialized: entries = {}, size = {}", entries.size(), size);
+    evict();
+  }
+
+  private static Optional<CacheEntry> readEntry(Path path) {
+    var properties = new Properties();
+    try (var reader = Files.newBufferedReader(path, UTF_8)) {
+      properties.load(reader);
+    } catch (IOException e) {
+      log.warn("Failed to read module descriptor cache entry: {}", path, e);
+      return Optional.empty();
+    }
+
+    var url = properties.getProperty(URL);
+    var contentHash = properties.getProperty(CONTENT_HASH);
+    if (url == null || contentHash == null) {
+      log.warn("Invalid module descriptor cache entry: {}", path);
+      return Optional.empty();
+    }
+
+    var contentPath = path.getParent().resolveSibling(CONTENT_DIR).resolve(contentHash + ".json");
+    return Optional.of(new CacheEntry(url, contentHash,
+      properties.getProperty(ETAG), properties.getProperty(LAST_MODIFIED), contentPath));
+  }
+
+  private void writeEntry(CacheEntry entry) throws IOException {
+    var properties = new Properties();
+    properties.setProperty(URL, entry.url());
+    properties.setProperty(CONTENT_HASH, entry.contentHash());
+    if (entry.etag() != null) {
+      properties.setProperty(ETAG, entry.etag());
+    }
+    if (entry.lastModified() != null) {
+      properties.setProperty(LAST_MODIFIED, entry.lastModified());
+    }
+
+    var tempFile = Files.createTempFile(entriesDir, "entry", ".tmp");
+    try (Writer writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+      properties.store(writer, null);
+    }
+    Files.move(tempFile, entriesDir.resolve(entryFileName(entry.url())), REPLACE_EXISTING, ATOMIC_MOVE);
+  }
+
+  private static String entryFileName(String url) {
+    return DigestUtils.sha256Hex(url) + ".properties";
+  }
+
+  private static long sizeOf(Path path) {
+    try {
+      return Files.size(path);
+    } catch (IOException e) {
+      return 0L;
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("Failed to delete module descriptor cache file: {}", path, e);
+    }
+  }
+
+  /**
+   * Cached module descriptor.
+   *
+   * @param url - module descriptor url
+   * @param contentHash - SHA-256 hash of the descriptor content
+   * @param etag - ETag value received with the descriptor, nullable
+   * @param lastModified - Last-Modified value received with the descriptor, nullable
+   * @param contentPath - path to the file with descriptor content
+   */
+  public record CacheEntry(String url, String contentHash, String etag, String lastModified, Path contentPath) {
+
+    /**
+     * Opens cached descriptor content.
+     *
+     * @return {@link InputStream} with descriptor content
+     * @throws IOException if content cannot be read
+     */
+    public InputStream openContent() throws IOException {
+      return Files.newInputStream(contentPath);
+    }
+  }
+}
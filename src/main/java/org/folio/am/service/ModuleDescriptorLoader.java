@@ -1,25 +1,44 @@
 package org.folio.am.service;
 
 import static java.lang.Thread.currentThread;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.URI.create;
-import static java.net.http.HttpResponse.BodyHandlers.ofString;
+import static java.net.http.HttpResponse.BodyHandlers.ofInputStream;
 import static java.time.Duration.ofMillis;
-import static java.util.stream.Collectors.toList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.folio.common.utils.CollectionUtils.toStream;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.folio.am.config.properties.HttpClientProperties;
 import org.folio.am.domain.dto.Module;
 import org.folio.am.exception.ServiceException;
+import org.folio.am.service.ModuleDescriptorCache.CacheEntry;
+import org.folio.am.utils.BoundedInputStream;
 import org.folio.common.domain.model.ModuleDescriptor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 
 @Service
@@ -27,26 +46,111 @@ import tools.jackson.databind.ObjectMapper;
 @RequiredArgsConstructor
 public class ModuleDescriptorLoader {
 
+  private static final String ETAG = "ETag";
+  private static final String LAST_MODIFIED = "Last-Modified";
+  private static final String IF_NONE_MATCH = "If-None-Match";
+  private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+  private static final String CONTENT_LENGTH = "Content-Length";
+
   private final HttpClient client;
   private final ObjectMapper objectMapper;
   private final HttpClientProperties httpClientProperties;
 
+  @Setter(onMethod_ = @Autowired(required = false))
+  private ModuleDescriptorCache descriptorCache;
+
+  /**
+   * Loads module descriptors by module urls in parallel. The number of concurrent requests and the total loading time
+   * are limited by {@link HttpClientProperties#getMaxConcurrentRequests()} and
+   * {@link HttpClientProperties#getLoadDeadline()}.
+   *
+   * <p>Descriptors are parsed directly from the response body stream, the size of a single descriptor is limited by
+   * {@link HttpClientProperties#getMaxDescriptorSize()}.</p>
+   *
+   * @param modules - modules to load descriptors for, modules without url are skipped
+   * @return list of loaded {@link ModuleDescriptor} objects in the order of the given modules
+   * @throws ServiceException if any of the descriptors cannot be loaded or the deadline is exceeded
+   */
   public List<ModuleDescriptor> loadByUrls(List<Module> modules) {
-    return toStream(modules)
+    var urls = toStream(modules)
       .map(Module::getUrl)
-      .map(Optional::ofNullable)
-      .filter(Optional::isPresent)
-      .flatMap(Optional::stream)
-      .map(this::loadByUrl)
-      .collect(toList());
+      .filter(Objects::nonNull)
+      .toList();
+
+    if (urls.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    var permits = new Semaphore(getMaxConcurrentRequests(urls.size()));
+    var tasks = urls.stream()
+      .map(url -> (Callable<ModuleDescriptor>) () -> loadByUrl(url, permits))
+      .toList();
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      return collectResults(urls, invokeAll(executor, tasks));
+    }
+  }
+
+  private List<Future<ModuleDescriptor>> invokeAll(ExecutorService executor,
+    List<Callable<ModuleDescriptor>> tasks) {
+    var deadline = httpClientProperties.getLoadDeadline();
+    try {
+      return deadline > 0 ? executor.invokeAll(tasks, deadline, MILLISECONDS) : executor.invokeAll(tasks);
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+      throw new ServiceException("Loading of module descriptors was interrupted", e);
+    }
+  }
+
+  private List<ModuleDescriptor> collectResults(List<String> urls, List<Future<ModuleDescriptor>> futures) {
+    var result = new ArrayList<ModuleDescriptor>(futures.size());
+    for (int i = 0; i < futures.size(); i++) {
+      var future = futures.get(i);
+      if (future.state() == Future.State.CANCELLED) {
+        var deadline = httpClientProperties.getLoadDeadline();
+        throw buildError(urls.get(i), new TimeoutException("Deadline of " + deadline + " ms exceeded"));
+      }
+
+      try {
+        result.add(future.get());
+      } catch (ExecutionException e) {
+        throw e.getCause() instanceof ServiceException serviceException
+          ? serviceException : buildError(urls.get(i), e.getCause());
+      } catch (InterruptedException e) {
+        currentThread().interrupt();
+        throw buildError(urls.get(i), e);
+      }
+    }
+
+    return result;
+  }
+
+  private int getMaxConcurrentRequests(int requestsCount) {
+    var maxConcurrentRequests = httpClientProperties.getMaxConcurrentRequests();
+    return maxConcurrentRequests > 0 ? Math.min(maxConcurrentRequests, requestsCount) : requestsCount;
+  }
+
+  private ModuleDescriptor loadByUrl(String url, Semaphore permits) throws InterruptedException {
+    permits.acquire();
+    try {
+      return loadByUrl(url);
+    } finally {
+      permits.release();
+    }
   }
 
   private ModuleDescriptor loadByUrl(String url) {
-    var request = buildRequest(url);
+    var cachedEntry = descriptorCache != null ? descriptorCache.get(url).orElse(null) : null;
+    if (cachedEntry != null && !descriptorCache.isRevalidate()) {
+      var cachedDescriptor = readCachedDescriptor(cachedEntry);
+      if (cachedDescriptor.isPresent()) {
+        return cachedDescriptor.get();
+      }
+      cachedEntry = null;
+    }
+
     try {
-      HttpResponse<String> response = client.send(request, ofString());
-      var body = response.body();
-      return objectMapper.readValue(body, ModuleDescriptor.class);
+      return fetch(url, cachedEntry);
     } catch (IOException e) {
       throw buildError(url, e);
     } catch (InterruptedException e) {
@@ -55,15 +159,101 @@ public class ModuleDescriptorLoader {
     }
   }
 
-  private HttpRequest buildRequest(String url) {
-    return HttpRequest.newBuilder()
+  /**
+   * Sends request for the module descriptor, conditional if cached entry is provided. If cached content cannot be read
+   * after 304 (Not Modified) response, the descriptor is requested once more without conditional headers.
+   */
+  private ModuleDescriptor fetch(String url, CacheEntry cachedEntry) throws IOException, InterruptedException {
+    HttpResponse<InputStream> response = client.send(buildRequest(url, cachedEntry), ofInputStream());
+    if (response.statusCode() == HTTP_NOT_MODIFIED && cachedEntry != null) {
+      response.body().close();
+      var cachedDescriptor = readCachedDescriptor(cachedEntry);
+      if (cachedDescriptor.isPresent()) {
+        log.debug("Module descriptor is not modified, using cached value: url = {}", url);
+        return cachedDescriptor.get();
+      }
+
+      return fetch(url, null);
+    }
+
+    try (var body = limitSize(response)) {
+      return descriptorCache != null && response.statusCode() == HTTP_OK
+        ? readAndCacheDescriptor(url, body, response.headers())
+        : objectMapper.readValue(body, ModuleDescriptor.class);
+    }
+  }
+
+  private InputStream limitSize(HttpResponse<InputStream> response) throws IOException {
+    var maxDescriptorSize = httpClientProperties.getMaxDescriptorSize();
+    if (maxDescriptorSize == null || maxDescriptorSize.toBytes() <= 0) {
+      return response.body();
+    }
+
+    var maxSize = maxDescriptorSize.toBytes();
+    var contentLength = response.headers().firstValueAsLong(CONTENT_LENGTH).orElse(-1L);
+    if (contentLength > maxSize) {
+      response.body().close();
+      throw new IOException("Module descriptor size " + contentLength + " exceeds the limit of " + maxSize + " bytes");
+    }
+
+    return new BoundedInputStream(response.body(), maxSize);
+  }
+
+  /**
+   * Reads cached descriptor content. The content file can be evicted by a parallel load after the entry is retrieved,
+   * in this case the entry is dropped and an empty result is returned, so the descriptor is loaded by url again.
+   */
+  private Optional<ModuleDescriptor> readCachedDescriptor(CacheEntry cacheEntry) {
+    try (var content = cacheEntry.openContent()) {
+      return Optional.of(objectMapper.readValue(content, ModuleDescriptor.class));
+    } catch (IOException | JacksonException e) {
+      log.warn("Failed to read cached module descriptor, cache entry is dropped: url = {}", cacheEntry.url(), e);
+      descriptorCache.remove(cacheEntry);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Writes descriptor content to a file in the cache directory instead of memory, then parses it from the file and
+   * stores it in the cache.
+   */
+  private ModuleDescriptor readAndCacheDescriptor(String url, InputStream body, HttpHeaders headers)
+    throws IOException {
+    var contentFile = descriptorCache.newContentFile();
+    try {
+      try (var out = Files.newOutputStream(contentFile)) {
+        body.transferTo(out);
+      }
+
+      ModuleDescriptor moduleDescriptor;
+      try (var content = Files.newInputStream(contentFile)) {
+        moduleDescriptor = objectMapper.readValue(content, ModuleDescriptor.class);
+      }
+
+      descriptorCache.put(url, contentFile,
+        headers.firstValue(ETAG).orElse(null), headers.firstValue(LAST_MODIFIED).orElse(null));
+      return moduleDescriptor;
+    } finally {
+      Files.deleteIfExists(contentFile);
+    }
+  }
+
+  private HttpRequest buildRequest(String url, CacheEntry cacheEntry) {
+    var builder = HttpRequest.newBuilder()
       .GET()
       .uri(create(url))
-      .timeout(ofMillis(httpClientProperties.getReadTimeout()))
-      .build();
+      .timeout(ofMillis(httpClientProperties.getReadTimeout()));
+
+    if (cacheEntry != null) {
+      Optional.ofNullable(cacheEntry.etag()).ifPresent(etag -> builder.header(IF_NONE_MATCH, etag));
+      Optional.ofNullable(cacheEntry.lastModified())
+        .ifPresent(lastModified -> builder.header(IF_MODIFIED_SINCE, lastModified));
+    }
+
+    return builder.build();
   }
 
-  private static ServiceException buildError(String url, Exception e) {
+  private static ServiceException buildError(String url, Throwable e) {
     return new ServiceException("Failed to load module descriptor by url: " + url, e);
   }
 }
@@ -1,7 +1,6 @@
 package org.folio.am.service;
 
 import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -10,7 +9,11 @@ import static org.folio.common.utils.CollectionUtils.mapItems;
 
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
@@ -19,13 +22,13 @@ import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.am.domain.dto.ModuleDiscoveries;
 import org.folio.am.domain.dto.ModuleDiscovery;
-import org.folio.am.domain.entity.ArtifactEntity;
 import org.folio.am.domain.entity.ModuleDiscoveryEntity;
-import org.folio.am.domain.entity.ModuleEntity;
+import org.folio.am.domain.entity.ModuleDiscoveryRecord;
+import org.folio.am.domain.model.ModuleDiscoveryChange;
 import org.folio.am.exception.RequestValidationException;
 import org.folio.am.mapper.ModuleDiscoveryMapper;
+import org.folio.am.repository.ModuleDiscoveryBatchRepository;
 import org.folio.am.repository.ModuleDiscoveryRepository;
-import org.folio.am.repository.ModuleRepository;
 import org.folio.common.domain.model.Artifact;
 import org.folio.common.domain.model.OffsetRequest;
 import org.springframework.stereotype.Service;
@@ -37,8 +40,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ModuleDiscoveryService {
 
-  private final ModuleRepository repository;
   private final ModuleDiscoveryRepository moduleDiscoveryRepository;
+  private final ModuleDiscoveryBatchRepository batchRepository;
   private final ModuleDiscoveryMapper mapper;
   private final ApplicationEventPublisher eventPublisher;
 
@@ -84,35 +87,59 @@ public class ModuleDiscoveryService {
    * @return created {@link ModuleDiscovery} information
    */
   public ModuleDiscovery create(String moduleId, ModuleDiscovery moduleDiscovery, String token) {
-    var moduleEntity = findModule(moduleId);
-    if (moduleEntity.getDiscoveryUrl() != null) {
-      throw new EntityExistsException("Discovery information already present for module: " + moduleId);
+    var module = findModule(moduleId);
+    if (module.location() != null) {
+      throw discoveryExists(moduleId);
     }
 
     populateModuleDiscoveryId(moduleDiscovery);
     validateModuleDiscovery(moduleId, moduleDiscovery);
 
-    return addDiscoveryUrlForModule(moduleEntity, moduleDiscovery.getLocation(), token);
+    var location = moduleDiscovery.getLocation();
+    log.info("Creating module discovery: moduleId = {}, discovery = {}", moduleId, location);
+    var createdModule = batchRepository.createDiscoveryUrl(moduleId, location)
+      .orElseThrow(() -> discoveryExists(moduleId));
+
+    var createdModuleDiscovery = mapper.convert(createdModule);
+    eventPublisher.publishDiscoveryCreate(createdModuleDiscovery, createdModule.type(), token);
+    log.info("Module discovery created: moduleId = {}", moduleId);
+    return createdModuleDiscovery;
   }
 
   /**
-   * Creates a module discovery information records for the {@link ModuleDiscoveries} batch request.
+   * Creates a module discovery information records for the {@link ModuleDiscoveries} batch request. Discovery urls of
+   * all modules are stored with a single statement, discovery listeners are notified once for the whole batch. The
+   * statement skips modules with a discovery url, so a discovery created concurrently fails the whole batch.
    *
    * @param moduleDiscoveries - {@link ModuleDiscoveries} information batch request
    * @param token - x-okapi-token value
    * @return created {@link ModuleDiscovery} information
    */
   public ModuleDiscoveries create(ModuleDiscoveries moduleDiscoveries, String token) {
-    var moduleDiscoveryMap = moduleDiscoveries.getDiscovery().stream()
-      .collect(toMap(Artifact::getArtifactId, ModuleDiscovery::getLocation));
+    var locationsById = getLocationsById(moduleDiscoveries);
+    var modules = findValidatedModules(moduleDiscoveries);
+    var moduleIdsWithDiscoveryUrl = filterAndMap(modules, module -> module.location() != null,
+      ModuleDiscoveryRecord::id);
+    if (isNotEmpty(moduleIdsWithDiscoveryUrl)) {
+      throw new EntityExistsException("Module Discovery already exists for ids: " + moduleIdsWithDiscoveryUrl);
+    }
+
+    log.info("Creating module discoveries: moduleIds = {}", locationsById.keySet());
+    var createdModules = batchRepository.createDiscoveryUrls(locationsById);
+    if (createdModules.size() != locationsById.size()) {
+      var createdModuleIds = mapItems(createdModules, ModuleDiscoveryRecord::id);
+      var existingModuleIds = ListUtils.subtract(List.copyOf(locationsById.keySet()), createdModuleIds);
+      throw new EntityExistsException("Module Discovery already exists for ids: " + existingModuleIds);
+    }
 
-    var createdModuleEntities = getValidatedModuleEntities(moduleDiscoveries).stream()
-      .map(entity -> addDiscoveryUrlForModule(entity, moduleDiscoveryMap.get(entity.getId()), token))
-      .collect(toList());
+    var changes = toChanges(locationsById.keySet(), createdModules);
+    eventPublisher.publishDiscoveryCreateAll(changes, token);
+    log.info("Module discoveries created: count = {}", changes.size());
 
+    var createdModuleDiscoveries = mapItems(changes, ModuleDiscoveryChange::moduleDiscovery);
     return new ModuleDiscoveries()
-      .discovery(createdModuleEntities)
-      .totalRecords((long) createdModuleEntities.size());
+      .discovery(createdModuleDiscoveries)
+      .totalRecords((long) createdModuleDiscoveries.size());
   }
 
   /**
@@ -128,16 +155,30 @@ public class ModuleDiscoveryService {
 
     var location = moduleDiscovery.getLocation();
     log.info("Updating module discovery: moduleId = {}, discovery = {}", moduleId, location);
-    var moduleEntity = findModule(moduleId);
-    moduleEntity.setDiscoveryUrl(moduleDiscovery.getLocation());
-    var updatedEntity = repository.saveAndFlush(moduleEntity);
-
-    var newModuleDiscovery = mapper.convert(updatedEntity);
-    eventPublisher.publishDiscoveryUpdate(newModuleDiscovery, moduleEntity.getType(), token);
+    var updatedModule = batchRepository.updateDiscoveryUrl(moduleId, location)
+      .orElseThrow(() -> moduleNotFound(moduleId));
 
+    eventPublisher.publishDiscoveryUpdate(mapper.convert(updatedModule), updatedModule.type(), token);
     log.info("Module discovery updated: moduleId = {}", moduleId);
   }
 
+  /**
+   * Updates module discovery information records for the {@link ModuleDiscoveries} batch request. All changes are
+   * applied with a single statement, discovery listeners are notified once for the whole batch.
+   *
+   * @param moduleDiscoveries - {@link ModuleDiscoveries} information batch request
+   * @param token - x-okapi-token value
+   */
+  public void update(ModuleDiscoveries moduleDiscoveries, String token) {
+    var locationsById = getLocationsById(moduleDiscoveries);
+    findValidatedModules(moduleDiscoveries);
+
+    log.info("Updating module discoveries: moduleIds = {}", locationsById.keySet());
+    var changes = toChanges(locationsById.keySet(), batchRepository.updateDiscoveryUrls(locationsById));
+    eventPublisher.publishDiscoveryUpdateAll(changes, token);
+    log.info("Module discoveries updated: count = {}", changes.size());
+  }
+
   /**
    * Deletes module discovery information record for the given module id.
    *
@@ -147,8 +188,29 @@ public class ModuleDiscoveryService {
   public void delete(String moduleId, String token) {
     log.info("Removing module discovery: moduleId = {}", moduleId);
 
-    repository.findByHasDiscoveryAndId(moduleId)
-      .ifPresent(module -> cleanModuleDiscoveryUrl(moduleId, token, module));
+    batchRepository.removeDiscoveryUrl(moduleId).ifPresent(module -> {
+      eventPublisher.publishDiscoveryDelete(module.id(), module.id(), module.type(), token);
+      log.info("Discovery deleted: moduleId = {}", moduleId);
+    });
+  }
+
+  /**
+   * Deletes module discovery information records for the given module ids with a single statement. Modules without
+   * discovery information are skipped, discovery listeners are notified once for the whole batch.
+   *
+   * @param moduleIds - module identifiers
+   * @param token - x-okapi-token value
+   */
+  public void delete(List<String> moduleIds, String token) {
+    log.info("Removing module discoveries: moduleIds = {}", moduleIds);
+
+    var ids = new LinkedHashSet<>(moduleIds);
+    var changes = toChanges(ids, batchRepository.removeDiscoveryUrls(ids));
+    if (!changes.isEmpty()) {
+      eventPublisher.publishDiscoveryDeleteAll(changes, token);
+    }
+
+    log.info("Module discoveries removed: count = {}", changes.size());
   }
 
   private static void validateModuleDiscovery(String moduleId, ModuleDiscovery moduleDiscovery) {
@@ -163,7 +225,7 @@ public class ModuleDiscoveryService {
     }
   }
 
-  private List<ModuleEntity> getValidatedModuleEntities(ModuleDiscoveries discoveries) {
+  private List<ModuleDiscoveryRecord> findValidatedModules(ModuleDiscoveries discoveries) {
     var discoveryDescriptors = discoveries.getDiscovery();
 
     var invalidIds = filterAndMap(discoveryDescriptors, notEqualIdAndArtifactId(), Artifact::getArtifactId);
@@ -172,41 +234,40 @@ public class ModuleDiscoveryService {
     }
 
     var moduleIds = mapItems(discoveryDescriptors, Artifact::getArtifactId);
-    var moduleEntities = repository.findAllById(moduleIds);
+    var modules = batchRepository.findAllByIds(moduleIds);
 
-    if (moduleEntities.size() != discoveryDescriptors.size()) {
-      var foundModuleIds = mapItems(moduleEntities, ModuleEntity::getId);
+    if (modules.size() != discoveryDescriptors.size()) {
+      var foundModuleIds = mapItems(modules, ModuleDiscoveryRecord::id);
       var notFoundModuleIds = ListUtils.subtract(moduleIds, foundModuleIds);
       throw new EntityNotFoundException("Modules are not found for ids: " + notFoundModuleIds);
     }
 
-    var moduleIdsWithDiscoveryUrl = filterAndMap(moduleEntities, notNullDiscovery(), ArtifactEntity::getId);
-    if (isNotEmpty(moduleIdsWithDiscoveryUrl)) {
-      throw new EntityExistsException("Module Discovery already exists for ids: " + moduleIdsWithDiscoveryUrl);
-    }
-
-    var moduleEntityMap = moduleEntities.stream().collect(toMap(ArtifactEntity::getId, identity()));
-    return mapItems(moduleIds, moduleEntityMap::get);
+    return modules;
   }
 
-  private ModuleDiscovery addDiscoveryUrlForModule(ModuleEntity entity, String location, String token) {
-    var moduleId = entity.getId();
-    log.info("Creating module discovery: moduleId = {}, discovery = {}", moduleId, location);
-    entity.setDiscoveryUrl(location);
-    var savedModule = repository.saveAndFlush(entity);
-    var moduleDiscovery = mapper.convert(savedModule);
-
-    eventPublisher.publishDiscoveryCreate(moduleDiscovery, entity.getType(), token);
-    log.info("Module discovery created: moduleId = {}", moduleId);
+  private static Map<String, String> getLocationsById(ModuleDiscoveries moduleDiscoveries) {
+    var locationsById = new LinkedHashMap<String, String>();
+    for (var moduleDiscovery : moduleDiscoveries.getDiscovery()) {
+      var moduleId = moduleDiscovery.getArtifactId();
+      if (locationsById.containsKey(moduleId)) {
+        throw new RequestValidationException("Duplicate module discovery in the request", "id", moduleId);
+      }
+      locationsById.put(moduleId, moduleDiscovery.getLocation());
+    }
 
-    return moduleDiscovery;
+    return locationsById;
   }
 
-  private void cleanModuleDiscoveryUrl(String moduleId, String token, ModuleEntity module) {
-    module.setDiscoveryUrl(null);
-    repository.save(module);
-    eventPublisher.publishDiscoveryDelete(module.getId(), module.getId(), module.getType(), token);
-    log.info("Discovery deleted: moduleId = {}", moduleId);
+  /**
+   * Converts changed modules to discovery changes ordered as the given module ids.
+   */
+  private List<ModuleDiscoveryChange> toChanges(Collection<String> moduleIds, List<ModuleDiscoveryRecord> modules) {
+    var modulesById = modules.stream().collect(toMap(ModuleDiscoveryRecord::id, identity()));
+    return moduleIds.stream()
+      .map(modulesById::get)
+      .filter(Objects::nonNull)
+      .map(module -> new ModuleDiscoveryChange(mapper.convert(module), module.type()))
+      .toList();
   }
 
   private static void populateModuleDiscoveryId(ModuleDiscovery moduleDiscovery) {
@@ -215,9 +276,16 @@ public class ModuleDiscoveryService {
     }
   }
 
-  private ModuleEntity findModule(String moduleId) {
-    return repository.findById(moduleId).orElseThrow(
-      () -> new EntityNotFoundException("Unable to find module with id: " + moduleId));
+  private ModuleDiscoveryRecord findModule(String moduleId) {
+    return batchRepository.findById(moduleId).orElseThrow(() -> moduleNotFound(moduleId));
+  }
+
+  private static EntityExistsException discoveryExists(String moduleId) {
+    return new EntityExistsException("Discovery information already present for module: " + moduleId);
+  }
+
+  private static EntityNotFoundException moduleNotFound(String moduleId) {
+    return new EntityNotFoundException("Unable to find module with id: " + moduleId);
   }
 
   private ModuleDiscoveryEntity findModuleWithDiscovery(String moduleId) {
@@ -228,8 +296,4 @@ public class ModuleDiscoveryService {
   private static Predicate<ModuleDiscovery> notEqualIdAndArtifactId() {
     return md -> isNotBlank(md.getId()) && !StringUtils.equals(md.getArtifactId(), md.getId());
   }
-
-  private static Predicate<ModuleEntity> notNullDiscovery() {
-    return moduleEntity -> moduleEntity.getDiscoveryUrl() != null;
-  }
 }
@@ -0,0 +1,23 @@
+package org.folio.am.utils;
+
+import static org.folio.common.utils.CollectionUtils.toStream;
+
+import lombok.experimental.UtilityClass;
+import org.folio.am.domain.dto.ApplicationDescriptor;
+
+@UtilityClass
+public class ApplicationDescriptorUtils {
+
+  /**
+   * Sets identifiers of the application descriptor and its modules from their names and versions.
+   *
+   * @param descriptor - application descriptor to update
+   */
+  public static void fillIdForArtifacts(ApplicationDescriptor descriptor) {
+    descriptor.setId(descriptor.getArtifactId());
+    toStream(descriptor.getModules())
+      .forEach(module -> module.setId(module.getArtifactId()));
+    toStream(descriptor.getUiModules())
+      .forEach(module -> module.setId(module.getArtifactId()));
+  }
+}
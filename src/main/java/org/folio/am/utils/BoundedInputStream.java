@@ -0,0 +1,57 @@
+package org.folio.am.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that fails with {@link IOException} as soon as more than the given number of bytes is read from the
+ * underlying stream.
+ */
+public class BoundedInputStream extends FilterInputStream {
+
+  private final long maxSize;
+  private long count;
+
+  public BoundedInputStream(InputStream in, long maxSize) {
+    super(in);
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public int read() throws IOException {
+    var result = super.read();
+    if (result != -1) {
+      onBytesRead(1);
+    }
+    return result;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    var result = super.read(b, off, len);
+    if (result > 0) {
+      onBytesRead(result);
+    }
+    return result;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    var result = super.skip(n);
+    onBytesRead(result);
+    return result;
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  private void onBytesRead(long bytes) throws IOException {
+    count += bytes;
+    if (count > maxSize) {
+      throw new IOException("Stream size exceeds the limit of " + maxSize + " bytes");
+    }
+  }
+}
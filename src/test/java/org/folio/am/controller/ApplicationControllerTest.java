@@ -28,15 +28,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 import lombok.extern.log4j.Log4j2;
 import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.folio.am.domain.dto.ApplicationCleanupJob;
 import org.folio.am.domain.dto.ApplicationCleanupResult;
 import org.folio.am.domain.dto.ApplicationDescriptor;
 import org.folio.am.domain.dto.ApplicationDescriptors;
+import org.folio.am.domain.dto.ApplicationDescriptorsBatch;
 import org.folio.am.domain.dto.ApplicationDescriptorsValidation;
 import org.folio.am.domain.dto.Dependency;
+import org.folio.am.service.ApplicationBatchService;
 import org.folio.am.service.ApplicationCleanupService;
 import org.folio.am.service.ApplicationDescriptorsValidationService;
 import org.folio.am.service.ApplicationReferencesValidationService;
@@ -86,6 +90,7 @@ class ApplicationControllerTest {
   @MockitoBean private ApplicationCleanupService applicationCleanupService;
   @MockitoBean private ApplicationValidatorService applicationValidatorService;
   @MockitoBean private ApplicationService applicationService;
+  @MockitoBean private ApplicationBatchService applicationBatchService;
   @MockitoBean private ApplicationReferencesValidationService applicationReferencesValidationService;
   @MockitoBean private ApplicationDescriptorsValidationService applicationDescriptorsValidationService;
 
@@ -275,6 +280,45 @@ class ApplicationControllerTest {
       .andExpect(jsonPath("$.errors[0].parameters[0].value", is("null")));
   }
 
+  @Test
+  void createAll_positive() throws Exception {
+    var applicationDescriptor = applicationDescriptor();
+    var batch = new ApplicationDescriptorsBatch().applicationDescriptors(List.of(applicationDescriptor));
+
+    when(applicationBatchService.createAll(List.of(applicationDescriptor), OKAPI_AUTH_TOKEN, true))
+      .thenReturn(List.of(applicationDescriptor));
+    when(jsonWebTokenParser.parse(OKAPI_AUTH_TOKEN)).thenReturn(jsonWebToken);
+    when(jsonWebToken.getIssuer()).thenReturn(TOKEN_ISSUER);
+    when(jsonWebToken.getSubject()).thenReturn(TOKEN_SUB);
+
+    var mvcResult = mockMvc.perform(post("/applications/batch")
+        .content(asJsonString(batch))
+        .contentType(APPLICATION_JSON)
+        .header(OkapiHeaders.TOKEN, OKAPI_AUTH_TOKEN))
+      .andExpect(status().isCreated())
+      .andReturn();
+
+    var actual = parseResponse(mvcResult, ApplicationDescriptors.class);
+    assertThat(actual).isEqualTo(new ApplicationDescriptors()
+      .totalRecords(1)
+      .applicationDescriptors(List.of(applicationDescriptor)));
+  }
+
+  @Test
+  void createAll_negative_emptyList() throws Exception {
+    when(jsonWebTokenParser.parse(OKAPI_AUTH_TOKEN)).thenReturn(jsonWebToken);
+    when(jsonWebToken.getIssuer()).thenReturn(TOKEN_ISSUER);
+    when(jsonWebToken.getSubject()).thenReturn(TOKEN_SUB);
+
+    mockMvc.perform(post("/applications/batch")
+        .content(asJsonString(new ApplicationDescriptorsBatch().applicationDescriptors(List.of())))
+        .contentType(APPLICATION_JSON)
+        .header(OkapiHeaders.TOKEN, OKAPI_AUTH_TOKEN))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors[0].code", is("validation_error")));
+    verifyNoInteractions(applicationBatchService);
+  }
+
   @Test
   void create_negative_invalidVersion() throws Exception {
     when(jsonWebTokenParser.parse(OKAPI_AUTH_TOKEN)).thenReturn(jsonWebToken);
@@ -403,32 +447,61 @@ class ApplicationControllerTest {
   }
 
   @Test
-  void cleanup_positive_returnsBestEffortSummary() throws Exception {
-    var cleanupResult = new ApplicationCleanupResult()
-      .inspected(2)
-      .cleaned(1)
-      .skipped(1)
-      .failed(0)
-      .cleanedIds(List.of("app-a-1.0.0"))
-      .skippedIds(List.of("app-b-1.0.0"))
-      .failedIds(emptyList());
+  void cleanup_positive_jobStarted() throws Exception {
+    var jobId = UUID.randomUUID();
+    var cleanupJob = new ApplicationCleanupJob()
+      .id(jobId)
+      .status(ApplicationCleanupJob.StatusEnum.IN_PROGRESS)
+      .startedDate(OffsetDateTime.now())
+      .result(new ApplicationCleanupResult().inspected(0).cleaned(0).skipped(0).failed(0)
+        .cleanedIds(emptyList()).skippedIds(emptyList()).failedIds(emptyList()));
 
     when(jsonWebTokenParser.parse(OKAPI_AUTH_TOKEN)).thenReturn(jsonWebToken);
     when(jsonWebToken.getIssuer()).thenReturn(TOKEN_ISSUER);
     when(jsonWebToken.getSubject()).thenReturn(TOKEN_SUB);
-    when(applicationCleanupService.cleanup(OKAPI_AUTH_TOKEN)).thenReturn(cleanupResult);
+    when(applicationCleanupService.startCleanup(OKAPI_AUTH_TOKEN)).thenReturn(cleanupJob);
 
     mockMvc.perform(post("/applications/cleanup")
         .contentType(APPLICATION_JSON)
         .header(OkapiHeaders.TOKEN, OKAPI_AUTH_TOKEN))
+      .andExpect(status().isAccepted())
+      .andExpect(jsonPath("$.id", is(jobId.toString())))
+      .andExpect(jsonPath("$.status", is("IN_PROGRESS")))
+      .andExpect(jsonPath("$.result.inspected", is(0)));
+  }
+
+  @Test
+  void getCleanupJob_positive() throws Exception {
+    var jobId = UUID.randomUUID();
+    var cleanupJob = new ApplicationCleanupJob()
+      .id(jobId)
+      .status(ApplicationCleanupJob.StatusEnum.COMPLETED)
+      .startedDate(OffsetDateTime.now())
+      .finishedDate(OffsetDateTime.now())
+      .total(2)
+      .result(new ApplicationCleanupResult()
+        .inspected(2)
+        .cleaned(1)
+        .skipped(1)
+        .failed(0)
+        .cleanedIds(List.of("app-a-1.0.0"))
+        .skippedIds(List.of("app-b-1.0.0"))
+        .failedIds(emptyList()));
+
+    when(applicationCleanupService.getJob(jobId)).thenReturn(cleanupJob);
+
+    mockMvc.perform(get("/applications/cleanup/{jobId}", jobId)
+        .header(OkapiHeaders.TOKEN, OKAPI_AUTH_TOKEN))
       .andExpect(status().isOk())
-      .andExpect(jsonPath("$.inspected", is(2)))
-      .andExpect(jsonPath("$.cleaned", is(1)))
-      .andExpect(jsonPath("$.skipped", is(1)))
-      .andExpect(jsonPath("$.failed", is(0)))
-      .andExpect(jsonPath("$.cleanedIds[0]", is("app-a-1.0.0")))
-      .andExpect(jsonPath("$.skippedIds[0]", is("app-b-1.0.0")))
-      .andExpect(jsonPath("$.failedIds", is(emptyList())));
+      .andExpect(jsonPath("$.status", is("COMPLETED")))
+      .andExpect(jsonPath("$.total", is(2)))
+      .andExpect(jsonPath("$.result.inspected", is(2)))
+      .andExpect(jsonPath("$.result.cleaned", is(1)))
+      .andExpect(jsonPath("$.result.skipped", is(1)))
+      .andExpect(jsonPath("$.result.failed", is(0)))
+      .andExpect(jsonPath("$.result.cleanedIds[0]", is("app-a-1.0.0")))
+      .andExpect(jsonPath("$.result.skippedIds[0]", is("app-b-1.0.0")))
+      .andExpect(jsonPath("$.result.failedIds", is(emptyList())));
   }
 
   @Test
@@ -436,7 +509,7 @@ class ApplicationControllerTest {
     when(jsonWebTokenParser.parse(OKAPI_AUTH_TOKEN)).thenReturn(jsonWebToken);
     when(jsonWebToken.getIssuer()).thenReturn(TOKEN_ISSUER);
     when(jsonWebToken.getSubject()).thenReturn(TOKEN_SUB);
-    when(applicationCleanupService.cleanup(OKAPI_AUTH_TOKEN))
+    when(applicationCleanupService.startCleanup(OKAPI_AUTH_TOKEN))
       .thenThrow(new UnsupportedOperationException(
         "Applications cleanup is not supported: entitlement service is not available"));
 
@@ -1,5 +1,6 @@
 package org.folio.am.controller;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.am.support.TestConstants.MODULE_BAR_ID;
 import static org.folio.am.support.TestConstants.MODULE_BAR_INTERFACE_ID;
@@ -14,15 +15,22 @@ import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Map;
 import org.folio.am.domain.dto.EgressBootstrap;
 import org.folio.am.domain.dto.EgressBootstrapRequest;
+import org.folio.am.domain.dto.EgressBootstraps;
+import org.folio.am.domain.dto.EgressBootstrapsRequest;
 import org.folio.am.domain.dto.ModuleBootstrap;
+import org.folio.am.domain.model.ModuleBootstrapSnapshot;
 import org.folio.am.service.ModuleBootstrapService;
+import org.folio.am.service.ModuleBootstrapSnapshotService;
 import org.folio.test.TestUtils;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
@@ -43,9 +51,12 @@ class ModuleBootstrapControllerTest {
 
   private static final String ENDPOINT_PATH = "/modules/{id}";
   private static final String BOOTSTRAP_PATH = "/modules/{id}/bootstrap";
+  private static final String BATCH_BOOTSTRAP_PATH = "/modules/bootstrap";
+  private static final String ETAG = "\"test-etag\"";
 
   @Autowired private MockMvc mockMvc;
   @MockitoBean private ModuleBootstrapService service;
+  @MockitoBean private ModuleBootstrapSnapshotService snapshotService;
 
   @Test
   void get_positive() throws Exception {
@@ -53,21 +64,70 @@ class ModuleBootstrapControllerTest {
     var requiredModules = moduleBootstrapDiscovery(MODULE_BAR_ID, MODULE_BAR_INTERFACE_ID);
     var expectedModuleBootstrap = moduleBootstrap(module, requiredModules);
 
-    when(service.getById(MODULE_FOO_ID)).thenReturn(expectedModuleBootstrap);
+    when(snapshotService.getById(MODULE_FOO_ID)).thenReturn(
+      snapshot(expectedModuleBootstrap, ETAG));
 
     var mvcResult = mockMvc.perform(get(ENDPOINT_PATH, MODULE_FOO_ID)
         .contentType(APPLICATION_JSON))
       .andExpect(status().isOk())
+      .andExpect(header().string("ETag", ETAG))
       .andReturn();
 
     var actual = parseResponse(mvcResult, ModuleBootstrap.class);
     assertThat(actual).isEqualTo(expectedModuleBootstrap);
   }
 
+  @Test
+  void get_positive_notModified() throws Exception {
+    var module = moduleBootstrapDiscovery(MODULE_FOO_ID, MODULE_FOO_INTERFACE_ID);
+    when(snapshotService.getById(MODULE_FOO_ID)).thenReturn(
+      snapshot(moduleBootstrap(module), ETAG));
+
+    mockMvc.perform(get(ENDPOINT_PATH, MODULE_FOO_ID)
+        .header("If-None-Match", ETAG)
+        .contentType(APPLICATION_JSON))
+      .andExpect(status().isNotModified())
+      .andExpect(header().string("ETag", ETAG))
+      .andExpect(content().string(""));
+  }
+
+  @Test
+  void get_positive_etagChanged() throws Exception {
+    var module = moduleBootstrapDiscovery(MODULE_FOO_ID, MODULE_FOO_INTERFACE_ID);
+    var expectedModuleBootstrap = moduleBootstrap(module);
+    when(snapshotService.getById(MODULE_FOO_ID)).thenReturn(
+      snapshot(expectedModuleBootstrap, ETAG));
+
+    var mvcResult = mockMvc.perform(get(ENDPOINT_PATH, MODULE_FOO_ID)
+        .header("If-None-Match", "\"outdated-etag\"")
+        .contentType(APPLICATION_JSON))
+      .andExpect(status().isOk())
+      .andExpect(header().string("ETag", ETAG))
+      .andReturn();
+
+    assertThat(parseResponse(mvcResult, ModuleBootstrap.class)).isEqualTo(expectedModuleBootstrap);
+  }
+
+  @Test
+  void get_positive_etagNotCalculated() throws Exception {
+    var expectedModuleBootstrap = moduleBootstrap(moduleBootstrapDiscovery(MODULE_FOO_ID, MODULE_FOO_INTERFACE_ID));
+    when(snapshotService.getById(MODULE_FOO_ID)).thenReturn(snapshot(expectedModuleBootstrap, null));
+
+    var mvcResult = mockMvc.perform(get(ENDPOINT_PATH, MODULE_FOO_ID)
+        .header("If-None-Match", "*")
+        .contentType(APPLICATION_JSON))
+      .andExpect(status().isOk())
+      .andExpect(content().contentType(APPLICATION_JSON))
+      .andExpect(header().doesNotExist("ETag"))
+      .andReturn();
+
+    assertThat(parseResponse(mvcResult, ModuleBootstrap.class)).isEqualTo(expectedModuleBootstrap);
+  }
+
   @Test
   void get_negative() throws Exception {
     var errorMessage = "Module not found by id: " + MODULE_FOO_ID;
-    when(service.getById(MODULE_FOO_ID)).thenThrow(new EntityNotFoundException(errorMessage));
+    when(snapshotService.getById(MODULE_FOO_ID)).thenThrow(new EntityNotFoundException(errorMessage));
     mockMvc.perform(get(ENDPOINT_PATH, MODULE_FOO_ID)
         .contentType(APPLICATION_JSON))
       .andExpect(status().isNotFound())
@@ -127,4 +187,35 @@ class ModuleBootstrapControllerTest {
       .andExpect(jsonPath("$.errors[0].message", is(errorMessage)))
       .andExpect(jsonPath("$.errors[0].type", is("EntityNotFoundException")));
   }
+
+  @Test
+  void getModuleEgressBootstraps_positive() throws Exception {
+    var requiredModule = moduleBootstrapDiscovery(MODULE_BAR_ID, MODULE_BAR_INTERFACE_ID);
+    var egressBootstrap = new EgressBootstrap().requiredModules(List.of(requiredModule));
+    var scope = List.of("test-app-1.0.0");
+    when(service.getEgressBootstraps(List.of(MODULE_FOO_ID), scope)).thenReturn(Map.of(MODULE_FOO_ID, egressBootstrap));
+
+    var mvcResult = mockMvc.perform(post(BATCH_BOOTSTRAP_PATH)
+        .contentType(APPLICATION_JSON)
+        .content(TestUtils.asJsonString(new EgressBootstrapsRequest()
+          .moduleIds(List.of(MODULE_FOO_ID)).applicationIds(scope))))
+      .andExpect(status().isOk())
+      .andReturn();
+
+    var expected = new EgressBootstraps().bootstraps(Map.of(MODULE_FOO_ID, egressBootstrap));
+    assertThat(parseResponse(mvcResult, EgressBootstraps.class)).isEqualTo(expected);
+  }
+
+  @Test
+  void getModuleEgressBootstraps_negative_emptyModuleIds() throws Exception {
+    mockMvc.perform(post(BATCH_BOOTSTRAP_PATH)
+        .contentType(APPLICATION_JSON)
+        .content(TestUtils.asJsonString(new EgressBootstrapsRequest()
+          .moduleIds(List.of()).applicationIds(List.of("test-app-1.0.0")))))
+      .andExpect(status().isBadRequest());
+  }
+
+  private static ModuleBootstrapSnapshot snapshot(ModuleBootstrap bootstrap, String etag) {
+    return new ModuleBootstrapSnapshot(TestUtils.asJsonString(bootstrap).getBytes(UTF_8), etag);
+  }
 }
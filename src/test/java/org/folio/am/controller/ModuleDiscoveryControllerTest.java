@@ -2,6 +2,7 @@ package org.folio.am.controller;
 
 import static org.folio.am.support.TestConstants.MODULE_ID;
 import static org.folio.am.support.TestConstants.OKAPI_AUTH_TOKEN;
+import static org.folio.am.support.TestConstants.UI_MODULE_ID;
 import static org.folio.am.support.TestValues.moduleDiscoveries;
 import static org.folio.am.support.TestValues.moduleDiscovery;
 import static org.folio.common.utils.OkapiHeaders.TOKEN;
@@ -18,6 +19,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.List;
 import java.util.UUID;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.folio.am.service.ModuleDiscoveryService;
@@ -159,4 +161,35 @@ class ModuleDiscoveryControllerTest {
         .contentType(APPLICATION_JSON))
       .andExpect(status().isNoContent());
   }
+
+  @Test
+  void updateModuleDiscoveries_positive() throws Exception {
+    var request = moduleDiscoveries(moduleDiscovery());
+    when(keycloakAuthClient.evaluatePermissions(any(MultiValueMap.class), anyString())).thenReturn(new TokenResponse());
+    doNothing().when(moduleDiscoveryService).update(request, OKAPI_AUTH_TOKEN);
+    when(jsonWebTokenParser.parse(OKAPI_AUTH_TOKEN)).thenReturn(jsonWebToken);
+    when(jsonWebToken.getIssuer()).thenReturn(TOKEN_ISSUER);
+    when(jsonWebToken.getSubject()).thenReturn(TOKEN_SUB);
+
+    mockMvc.perform(put("/modules/discovery")
+        .content(asJsonString(request))
+        .header(TOKEN, OKAPI_AUTH_TOKEN)
+        .contentType(APPLICATION_JSON))
+      .andExpect(status().isNoContent());
+  }
+
+  @Test
+  void deleteModuleDiscoveries_positive() throws Exception {
+    when(keycloakAuthClient.evaluatePermissions(any(MultiValueMap.class), anyString())).thenReturn(new TokenResponse());
+    doNothing().when(moduleDiscoveryService).delete(List.of(MODULE_ID, UI_MODULE_ID), OKAPI_AUTH_TOKEN);
+    when(jsonWebTokenParser.parse(OKAPI_AUTH_TOKEN)).thenReturn(jsonWebToken);
+    when(jsonWebToken.getIssuer()).thenReturn(TOKEN_ISSUER);
+    when(jsonWebToken.getSubject()).thenReturn(TOKEN_SUB);
+
+    mockMvc.perform(delete("/modules/discovery")
+        .queryParam("id", MODULE_ID, UI_MODULE_ID)
+        .header(TOKEN, OKAPI_AUTH_TOKEN)
+        .contentType(APPLICATION_JSON))
+      .andExpect(status().isNoContent());
+  }
 }
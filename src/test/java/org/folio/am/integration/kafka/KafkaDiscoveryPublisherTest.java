@@ -1,15 +1,23 @@
 package org.folio.am.integration.kafka;
 
+import static org.folio.am.integration.kafka.DiscoveryPublisher.DISCOVERY_BATCH_DESTINATION;
 import static org.folio.am.integration.kafka.DiscoveryPublisher.DISCOVERY_DESTINATION;
 import static org.folio.am.support.TestConstants.MODULE_ID;
+import static org.folio.am.support.TestConstants.UI_MODULE_ID;
 import static org.folio.am.support.TestValues.moduleDiscovery;
+import static org.folio.am.support.TestValues.uiModuleDiscovery;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.List;
 import org.folio.am.domain.entity.ModuleType;
+import org.folio.am.domain.model.ModuleDiscoveryChange;
+import org.folio.am.integration.kafka.model.DiscoveryBatchEvent;
 import org.folio.am.integration.kafka.model.DiscoveryEvent;
 import org.folio.am.integration.messaging.MessagePublisher;
 import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -30,7 +38,7 @@ class KafkaDiscoveryPublisherTest {
   void onDiscoveryCreate_positive(ModuleType moduleType) {
     service.onDiscoveryCreate(moduleDiscovery(), moduleType, "test");
 
-    verify(messagePublisher).send(DISCOVERY_DESTINATION, new DiscoveryEvent(MODULE_ID));
+    verify(messagePublisher).send(DISCOVERY_DESTINATION, MODULE_ID, new DiscoveryEvent(MODULE_ID));
     verifyNoMoreInteractions(messagePublisher);
   }
 
@@ -39,7 +47,7 @@ class KafkaDiscoveryPublisherTest {
   void onDiscoveryUpdate_positive(ModuleType moduleType) {
     service.onDiscoveryUpdate(moduleDiscovery(), moduleType, "test");
 
-    verify(messagePublisher).send(DISCOVERY_DESTINATION, new DiscoveryEvent(MODULE_ID));
+    verify(messagePublisher).send(DISCOVERY_DESTINATION, MODULE_ID, new DiscoveryEvent(MODULE_ID));
     verifyNoMoreInteractions(messagePublisher);
   }
 
@@ -48,7 +56,56 @@ class KafkaDiscoveryPublisherTest {
   void onDiscoveryDelete_positive(ModuleType moduleType) {
     service.onDiscoveryDelete(MODULE_ID, MODULE_ID, moduleType, "test");
 
-    verify(messagePublisher).send(DISCOVERY_DESTINATION, new DiscoveryEvent(MODULE_ID));
+    verify(messagePublisher).send(DISCOVERY_DESTINATION, MODULE_ID, new DiscoveryEvent(MODULE_ID));
     verifyNoMoreInteractions(messagePublisher);
   }
+
+  @Test
+  void onDiscoveryCreateAll_positive_eventPerModule() {
+    service.onDiscoveryCreateAll(moduleDiscoveryChanges(), "test");
+
+    verify(messagePublisher).send(DISCOVERY_DESTINATION, MODULE_ID, new DiscoveryEvent(MODULE_ID));
+    verify(messagePublisher).send(DISCOVERY_DESTINATION, UI_MODULE_ID, new DiscoveryEvent(UI_MODULE_ID));
+    verifyNoMoreInteractions(messagePublisher);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void onDiscoveryCreateAll_positive_batchEvent() {
+    var batchMessagePublisher = (MessagePublisher<DiscoveryBatchEvent>) mock(MessagePublisher.class);
+    service.setBatchMessagePublisher(batchMessagePublisher);
+
+    service.onDiscoveryCreateAll(moduleDiscoveryChanges(), "test");
+
+    verify(batchMessagePublisher).send(DISCOVERY_BATCH_DESTINATION,
+      new DiscoveryBatchEvent(List.of(MODULE_ID, UI_MODULE_ID)));
+    verifyNoMoreInteractions(messagePublisher, batchMessagePublisher);
+  }
+
+  @Test
+  void onDiscoveryDeleteAll_positive_eventPerModule() {
+    service.onDiscoveryDeleteAll(moduleDiscoveryChanges(), "test");
+
+    verify(messagePublisher).send(DISCOVERY_DESTINATION, MODULE_ID, new DiscoveryEvent(MODULE_ID));
+    verify(messagePublisher).send(DISCOVERY_DESTINATION, UI_MODULE_ID, new DiscoveryEvent(UI_MODULE_ID));
+    verifyNoMoreInteractions(messagePublisher);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void onDiscoveryUpdateAll_positive_batchEvent() {
+    var batchMessagePublisher = (MessagePublisher<DiscoveryBatchEvent>) mock(MessagePublisher.class);
+    service.setBatchMessagePublisher(batchMessagePublisher);
+
+    service.onDiscoveryUpdateAll(moduleDiscoveryChanges(), "test");
+
+    verify(batchMessagePublisher).send(DISCOVERY_BATCH_DESTINATION,
+      new DiscoveryBatchEvent(List.of(MODULE_ID, UI_MODULE_ID)));
+    verifyNoMoreInteractions(messagePublisher, batchMessagePublisher);
+  }
+
+  private static List<ModuleDiscoveryChange> moduleDiscoveryChanges() {
+    return List.of(new ModuleDiscoveryChange(moduleDiscovery(), ModuleType.BACKEND),
+      new ModuleDiscoveryChange(uiModuleDiscovery(), ModuleType.UI));
+  }
 }
@@ -42,6 +42,13 @@ public class MessagingTestValues {
     return MessageBuilder.withPayload(PAYLOAD).setHeaders(accessor).build();
   }
 
+  public static Message<Payload> genericMessageWithKey(String key) {
+    GenericMessageHeaderAccessor accessor = getGenericMessageHeaderAccessor();
+    accessor.setKey(key);
+
+    return MessageBuilder.withPayload(PAYLOAD).setHeaders(accessor).build();
+  }
+
   public static <T> Message<T> genericMessageWithPayload(T payload) {
     GenericMessageHeaderAccessor accessor = getGenericMessageHeaderAccessor();
 
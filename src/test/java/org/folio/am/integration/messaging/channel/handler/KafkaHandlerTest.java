@@ -5,7 +5,9 @@ import static org.folio.am.integration.messaging.MessagingTestValues.DESTINATION
 import static org.folio.am.integration.messaging.MessagingTestValues.PAYLOAD;
 import static org.folio.am.integration.messaging.MessagingTestValues.genericMessage;
 import static org.folio.am.integration.messaging.MessagingTestValues.genericMessageWithDestination;
+import static org.folio.am.integration.messaging.MessagingTestValues.genericMessageWithKey;
 import static org.folio.integration.kafka.producer.KafkaUtils.getEnvTopicName;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.folio.am.integration.messaging.MessagingTestValues.Payload;
@@ -29,11 +31,20 @@ class KafkaHandlerTest {
   void handleMessage_positive() {
     var msg = genericMessage();
 
-    when(kafkaTemplate.send(getEnvTopicName(DESTINATION), PAYLOAD)).thenReturn(null);
+    when(kafkaTemplate.send(getEnvTopicName(DESTINATION), null, PAYLOAD)).thenReturn(null);
 
     handler.handleMessage(msg);
   }
 
+  @Test
+  void handleMessage_positive_keyedRecord() {
+    var msg = genericMessageWithKey("mod-foo-1.0.0");
+
+    handler.handleMessage(msg);
+
+    verify(kafkaTemplate).send(getEnvTopicName(DESTINATION), "mod-foo-1.0.0", PAYLOAD);
+  }
+
   @Test
   void handleMessage_negative_emptyDestination() {
     var msg = genericMessageWithDestination("");
@@ -0,0 +1,136 @@
+package org.folio.am.integration.messaging.outbox.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.folio.am.support.base.BaseRepositoryTest;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@IntegrationTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TrxOutboxRepositoryIT extends BaseRepositoryTest {
+
+  @Autowired private TrxOutboxRepository repository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+
+  @BeforeEach
+  void setUp() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM trx_outbox");
+  }
+
+  @Test
+  void findAllByLaneOrderedByIdAndLimitedTo_positive_sameKeyInSameLane() {
+    for (long id = 1; id <= 20; id++) {
+      insertMessage(id, "mod-" + (id % 5) + "-1.0.0");
+    }
+
+    var lanes = 3;
+    var allMessages = new ArrayList<TrxOutboxEntity>();
+    for (int lane = 0; lane < lanes; lane++) {
+      var laneMessages = repository.findAllByLaneOrderedByIdAndLimitedTo(lane, lanes, 100);
+      assertThat(laneMessages).extracting(TrxOutboxEntity::getId).isSorted();
+      allMessages.addAll(laneMessages);
+    }
+
+    assertThat(allMessages).hasSize(20);
+    for (int lane = 0; lane < lanes; lane++) {
+      var laneKeys = repository.findAllByLaneOrderedByIdAndLimitedTo(lane, lanes, 100).stream()
+        .map(TrxOutboxEntity::getMessageKey).distinct().toList();
+      for (int otherLane = lane + 1; otherLane < lanes; otherLane++) {
+        assertThat(repository.findAllByLaneOrderedByIdAndLimitedTo(otherLane, lanes, 100))
+          .extracting(TrxOutboxEntity::getMessageKey)
+          .doesNotContainAnyElementsOf(laneKeys);
+      }
+    }
+  }
+
+  @Test
+  void claimBatch_positive_messagesClaimedUntilReleased() {
+    insertMessage(1L, "mod-foo-1.0.0");
+    insertMessage(2L, "mod-bar-1.0.0");
+
+    var claimed = transactionTemplate.execute(status -> repository.claimBatch(0, 1, 1, Duration.ofMinutes(1)));
+
+    assertThat(claimed).extracting(TrxOutboxEntity::getId).containsExactly(1L);
+    assertThat(transactionTemplate.execute(status -> repository.isLaneClaimed(0, 1))).isTrue();
+
+    transactionTemplate.executeWithoutResult(status -> repository.releaseClaims(List.of(1L)));
+
+    assertThat(transactionTemplate.execute(status -> repository.isLaneClaimed(0, 1))).isFalse();
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM trx_outbox", Integer.class)).isEqualTo(2);
+  }
+
+  @Test
+  void isLaneClaimed_negative_claimExpired() {
+    insertMessage(1L, "mod-foo-1.0.0");
+
+    transactionTemplate.execute(status -> repository.claimBatch(0, 1, 10, Duration.ZERO));
+
+    assertThat(transactionTemplate.execute(status -> repository.isLaneClaimed(0, 1))).isFalse();
+    var reclaimed = transactionTemplate.execute(status -> repository.claimBatch(0, 1, 10, Duration.ofMinutes(1)));
+    assertThat(reclaimed).extracting(TrxOutboxEntity::getId).containsExactly(1L);
+  }
+
+  @Test
+  void tryLockLane_positive_lockedLaneSkipped() throws Exception {
+    var locked = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var otherPublisher = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+      assertThat(repository.tryLockLane(0)).isTrue();
+      locked.countDown();
+      awaitLatch(release);
+    }));
+
+    assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+    var result = transactionTemplate.execute(status -> new LaneLockAttempt(repository.tryLockLane(0),
+      repository.tryLockLane(1)));
+    release.countDown();
+    otherPublisher.get(10, TimeUnit.SECONDS);
+
+    assertThat(result).isNotNull();
+    assertThat(result.busyLaneLocked()).isFalse();
+    assertThat(result.freeLaneLocked()).isTrue();
+  }
+
+  private void insertMessage(long id, String key) {
+    jdbcTemplate.update("""
+      INSERT INTO trx_outbox (id, message_id, message_key, destination, payload)
+        VALUES (?, ?, ?, 'discovery', '{}')
+      """, id, UUID.randomUUID(), key);
+  }
+
+  private record LaneLockAttempt(boolean busyLaneLocked, boolean freeLaneLocked) { }
+
+  private static void awaitLatch(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
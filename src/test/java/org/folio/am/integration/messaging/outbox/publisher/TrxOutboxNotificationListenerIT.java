@@ -0,0 +1,61 @@
+package org.folio.am.integration.messaging.outbox.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.folio.am.support.base.BaseRepositoryTest;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@IntegrationTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TrxOutboxNotificationListenerIT extends BaseRepositoryTest {
+
+  @Autowired private DataSource dataSource;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final Semaphore publishingRuns = new Semaphore(0);
+  private TrxOutboxNotificationListener listener;
+
+  @BeforeEach
+  void setUp() {
+    var notification = new Notification();
+    notification.setPollTimeout(Duration.ofMillis(100));
+    notification.setReconnectDelay(Duration.ofMillis(100));
+    var publisher = mock(TrxOutboxPollingPublisher.class);
+    listener = new TrxOutboxNotificationListener(dataSource, publisher, task -> publishingRuns.release(), notification);
+  }
+
+  @AfterEach
+  void tearDown() {
+    listener.stop();
+    jdbcTemplate.update("DELETE FROM trx_outbox");
+  }
+
+  @Test
+  void start_positive_publishingTriggeredByInsertedMessage() throws Exception {
+    listener.start();
+    assertThat(publishingRuns.tryAcquire(10, TimeUnit.SECONDS)).isTrue();
+    var activeConnections = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+    assertThat(activeConnections).isZero();
+
+    jdbcTemplate.update("""
+      INSERT INTO trx_outbox (id, message_id, message_key, destination, payload)
+        VALUES (1, ?, 'mod-foo-1.0.0', 'discovery', '{}')
+      """, UUID.randomUUID());
+
+    assertThat(publishingRuns.tryAcquire(10, TimeUnit.SECONDS)).isTrue();
+  }
+}
@@ -0,0 +1,130 @@
+package org.folio.am.integration.messaging.outbox.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import javax.sql.DataSource;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TrxOutboxNotificationListenerTest {
+
+  @Mock private DataSource dataSource;
+  @Mock private Connection connection;
+  @Mock private PGConnection pgConnection;
+  @Mock private PGNotification pgNotification;
+  @Mock private Statement statement;
+  @Mock private TrxOutboxPollingPublisher publisher;
+  @Mock private Executor executor;
+
+  private TrxOutboxNotificationListener listener;
+
+  @BeforeEach
+  void setUp() {
+    var notification = new Notification();
+    notification.setPollTimeout(Duration.ofMillis(10));
+    notification.setReconnectDelay(Duration.ofMillis(10));
+    listener = new TrxOutboxNotificationListener(dataSource, publisher, executor, notification);
+  }
+
+  @AfterEach
+  void tearDown() {
+    listener.stop();
+  }
+
+  @Test
+  void start_positive_publishingTriggeredOnConnectAndNotification() throws SQLException {
+    mockConnection();
+    when(pgConnection.getNotifications(anyInt()))
+      .thenReturn(new PGNotification[] {pgNotification})
+      .thenAnswer(invocation -> awaitPollTimeout());
+
+    listener.start();
+
+    assertThat(listener.isRunning()).isTrue();
+    verify(executor, timeout(5000).times(2)).execute(any());
+    verify(statement).execute("LISTEN trx_outbox_updated");
+  }
+
+  @Test
+  void start_positive_reconnectedAfterFailure() throws SQLException {
+    when(dataSource.getConnection())
+      .thenThrow(new SQLException("Connection refused"))
+      .thenReturn(connection);
+    when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+    when(connection.createStatement()).thenReturn(statement);
+    when(pgConnection.getNotifications(anyInt())).thenAnswer(invocation -> awaitPollTimeout());
+
+    listener.start();
+
+    verify(executor, timeout(5000)).execute(any());
+    verify(dataSource, atLeast(2)).getConnection();
+  }
+
+  @Test
+  void stop_positive() {
+    listener.stop();
+
+    assertThat(listener.isRunning()).isFalse();
+  }
+
+  @Test
+  void createListenerDataSource_positive_poolSettingsCopied() {
+    try (var pool = new HikariDataSource()) {
+      pool.setJdbcUrl("jdbc:postgresql://localhost:5432/test");
+      pool.setUsername("test_user");
+      pool.setPassword("test_password");
+      pool.addDataSourceProperty("reWriteBatchedInserts", "true");
+
+      var actual = TrxOutboxNotificationListener.createListenerDataSource(pool);
+
+      assertThat(actual).isInstanceOfSatisfying(DriverManagerDataSource.class, listenerDataSource -> {
+        assertThat(listenerDataSource.getUrl()).isEqualTo("jdbc:postgresql://localhost:5432/test");
+        assertThat(listenerDataSource.getUsername()).isEqualTo("test_user");
+        assertThat(listenerDataSource.getPassword()).isEqualTo("test_password");
+        assertThat(listenerDataSource.getConnectionProperties()).containsEntry("reWriteBatchedInserts", "true");
+      });
+    }
+  }
+
+  @Test
+  void createListenerDataSource_positive_notPooledDataSourceUsedAsIs() {
+    assertThat(TrxOutboxNotificationListener.createListenerDataSource(dataSource)).isSameAs(dataSource);
+  }
+
+  private void mockConnection() throws SQLException {
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+    when(connection.createStatement()).thenReturn(statement);
+  }
+
+  private static PGNotification[] awaitPollTimeout() {
+    try {
+      Thread.sleep(10);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+}
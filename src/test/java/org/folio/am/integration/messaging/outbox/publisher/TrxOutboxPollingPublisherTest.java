@@ -0,0 +1,328 @@
+package org.folio.am.integration.messaging.outbox.publisher;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.apache.kafka.common.KafkaException;
+import org.folio.am.integration.messaging.outbox.data.TrxOutboxEntity;
+import org.folio.am.integration.messaging.outbox.data.TrxOutboxRepository;
+import org.folio.am.integration.messaging.outbox.publisher.lock.Locking;
+import org.folio.am.integration.messaging.outbox.publisher.lock.TrxOutboxLock;
+import org.folio.am.integration.messaging.outbox.publisher.lock.TrxOutboxLockManager;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TrxOutboxPollingPublisherTest {
+
+  private static final String KEY = "mod-foo-1.0.0";
+  private static final TrxOutboxLock LOCK = new TrxOutboxLock(1L, "publisher", OffsetDateTime.now());
+  private static final Duration CLAIM_TIMEOUT = Duration.ofSeconds(60);
+
+  @Mock private TrxOutboxLockManager lockManager;
+  @Mock private TransactionTemplate transactionTemplate;
+  @Mock private TrxOutboxRepository repository;
+  @Mock private KafkaTemplate<String, String> kafkaTemplate;
+  @Mock private SendResult<String, String> sendResult;
+
+  private TrxOutboxPollingPublisher publisher;
+
+  @BeforeEach
+  void setUp() {
+    publisher = new TrxOutboxPollingPublisher(new Publishing(), lockManager, transactionTemplate, repository,
+      kafkaTemplate);
+  }
+
+  @Test
+  void publish_positive_acknowledgedMessagesDeleted() {
+    var batch = List.of(outboxEntity(1L, "payload-1"), outboxEntity(2L, "payload-2"));
+    when(lockManager.acquire(publisher, 0)).thenReturn(Optional.of(LOCK));
+    when(repository.findAllByLaneOrderedByIdAndLimitedTo(0, 1, 100)).thenReturn(batch, List.of());
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-1"))).thenReturn(completedFuture(sendResult));
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-2"))).thenReturn(completedFuture(sendResult));
+    mockTransactionTemplate();
+
+    publisher.publish();
+
+    verify(repository).deleteAllByIdIn(List.of(1L, 2L));
+    verify(repository, times(2)).findAllByLaneOrderedByIdAndLimitedTo(0, 1, 100);
+    verify(lockManager).release(LOCK);
+  }
+
+  @Test
+  void publish_positive_failedMessagesKept() {
+    var batch = List.of(outboxEntity(1L, "payload-1"), outboxEntity(2L, "payload-2"));
+    when(lockManager.acquire(publisher, 0)).thenReturn(Optional.of(LOCK));
+    when(repository.findAllByLaneOrderedByIdAndLimitedTo(0, 1, 100)).thenReturn(batch);
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-1"))).thenReturn(completedFuture(sendResult));
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-2")))
+      .thenReturn(failedFuture(new KafkaException("Broker is not available")));
+    mockTransactionTemplate();
+
+    publisher.publish();
+
+    verify(repository).deleteAllByIdIn(List.of(1L));
+    verify(repository).findAllByLaneOrderedByIdAndLimitedTo(0, 1, 100);
+    verify(lockManager).release(LOCK);
+  }
+
+  @Test
+  void publish_positive_messagesAfterFailedMessageWithSameKeyKept() {
+    var otherKeyEntity = outboxEntity(3L, "payload-3");
+    otherKeyEntity.setMessageKey("mod-bar-1.0.0");
+    var batch = List.of(outboxEntity(1L, "payload-1"), outboxEntity(2L, "payload-2"), otherKeyEntity);
+    when(lockManager.acquire(publisher, 0)).thenReturn(Optional.of(LOCK));
+    when(repository.findAllByLaneOrderedByIdAndLimitedTo(0, 1, 100)).thenReturn(batch);
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-1")))
+      .thenReturn(failedFuture(new KafkaException("Broker is not available")));
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-2"))).thenReturn(completedFuture(sendResult));
+    when(kafkaTemplate.send(anyString(), eq("mod-bar-1.0.0"), eq("payload-3"))).thenReturn(completedFuture(sendResult));
+    mockTransactionTemplate();
+
+    publisher.publish();
+
+    verify(repository).deleteAllByIdIn(List.of(3L));
+    verify(repository).findAllByLaneOrderedByIdAndLimitedTo(0, 1, 100);
+    verify(lockManager).release(LOCK);
+  }
+
+  @Test
+  void publish_positive_compactedMessagesDeleted() {
+    var publishing = new Publishing();
+    publishing.setCompaction(true);
+    publishing.setCompactionDestinations(Set.of("discovery"));
+    publisher = new TrxOutboxPollingPublisher(publishing, lockManager, transactionTemplate, repository, kafkaTemplate);
+    var unkeyedEntity = outboxEntity(3L, "payload-3");
+    unkeyedEntity.setMessageKey(null);
+    var batch = List.of(outboxEntity(1L, "payload-1"), outboxEntity(2L, "payload-2"), unkeyedEntity);
+    when(lockManager.acquire(publisher, 0)).thenReturn(Optional.of(LOCK));
+    when(repository.findAllByLaneOrderedByIdAndLimitedTo(0, 1, 100)).thenReturn(batch, List.of());
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-2"))).thenReturn(completedFuture(sendResult));
+    when(kafkaTemplate.send(anyString(), isNull(), eq("payload-3"))).thenReturn(completedFuture(sendResult));
+    mockTransactionTemplate();
+
+    publisher.publish();
+
+    verify(kafkaTemplate, never()).send(anyString(), eq(KEY), eq("payload-1"));
+    verify(repository).deleteAllByIdIn(List.of(1L, 2L, 3L));
+    verify(lockManager).release(LOCK);
+  }
+
+  @Test
+  void publish_positive_otherDestinationNotCompacted() {
+    var publishing = new Publishing();
+    publishing.setCompaction(true);
+    publishing.setCompactionDestinations(Set.of("discovery"));
+    publisher = new TrxOutboxPollingPublisher(publishing, lockManager, transactionTemplate, repository, kafkaTemplate);
+    var firstEntity = outboxEntity(1L, "payload-1");
+    firstEntity.setDestination("other");
+    var secondEntity = outboxEntity(2L, "payload-2");
+    secondEntity.setDestination("other");
+    when(lockManager.acquire(publisher, 0)).thenReturn(Optional.of(LOCK));
+    when(repository.findAllByLaneOrderedByIdAndLimitedTo(0, 1, 100)).thenReturn(List.of(firstEntity, secondEntity),
+      List.of());
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-1"))).thenReturn(completedFuture(sendResult));
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-2"))).thenReturn(completedFuture(sendResult));
+    mockTransactionTemplate();
+
+    publisher.publish();
+
+    verify(repository).deleteAllByIdIn(List.of(1L, 2L));
+    verify(lockManager).release(LOCK);
+  }
+
+  @Test
+  void publish_positive_compactedRecordFailed() {
+    var publishing = new Publishing();
+    publishing.setCompaction(true);
+    publishing.setCompactionDestinations(Set.of("discovery"));
+    publisher = new TrxOutboxPollingPublisher(publishing, lockManager, transactionTemplate, repository, kafkaTemplate);
+    var batch = List.of(outboxEntity(1L, "payload-1"), outboxEntity(2L, "payload-2"));
+    when(lockManager.acquire(publisher, 0)).thenReturn(Optional.of(LOCK));
+    when(repository.findAllByLaneOrderedByIdAndLimitedTo(0, 1, 100)).thenReturn(batch);
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-2")))
+      .thenReturn(failedFuture(new KafkaException("Broker is not available")));
+
+    publisher.publish();
+
+    verifyNoInteractions(transactionTemplate);
+    verify(lockManager).release(LOCK);
+  }
+
+  @Test
+  void publish_positive_nothingAcknowledged() {
+    when(lockManager.acquire(publisher, 0)).thenReturn(Optional.of(LOCK));
+    when(repository.findAllByLaneOrderedByIdAndLimitedTo(0, 1, 100)).thenReturn(List.of(outboxEntity(1L, "payload-1")));
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-1")))
+      .thenThrow(new KafkaException("Producer is closed"));
+
+    publisher.publish();
+
+    verifyNoInteractions(transactionTemplate);
+    verify(lockManager).release(LOCK);
+  }
+
+  @Test
+  void publish_positive_lanesPublishedConcurrently() {
+    var publishing = new Publishing();
+    publishing.setLanes(2);
+    publisher = new TrxOutboxPollingPublisher(publishing, lockManager, transactionTemplate, repository, kafkaTemplate);
+    var secondLaneLock = new TrxOutboxLock(2L, "publisher", OffsetDateTime.now());
+    when(lockManager.acquire(publisher, 0)).thenReturn(Optional.of(LOCK));
+    when(lockManager.acquire(publisher, 1)).thenReturn(Optional.of(secondLaneLock));
+    when(repository.findAllByLaneOrderedByIdAndLimitedTo(0, 2, 100))
+      .thenReturn(List.of(outboxEntity(1L, "payload-1")), List.of());
+    when(repository.findAllByLaneOrderedByIdAndLimitedTo(1, 2, 100))
+      .thenReturn(List.of(outboxEntity(2L, "payload-2")), List.of());
+    when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(completedFuture(sendResult));
+    mockTransactionTemplate();
+
+    publisher.publish();
+
+    verify(repository).deleteAllByIdIn(List.of(1L));
+    verify(repository).deleteAllByIdIn(List.of(2L));
+    verify(lockManager).release(LOCK);
+    verify(lockManager).release(secondLaneLock);
+  }
+
+  @Test
+  void publish_positive_skipLockedClaiming() {
+    publisher = new TrxOutboxPollingPublisher(skipLockedPublishing(), lockManager, transactionTemplate, repository,
+      kafkaTemplate);
+    when(repository.tryLockLane(0)).thenReturn(true);
+    when(repository.isLaneClaimed(0, 1)).thenReturn(false);
+    when(repository.claimBatch(0, 1, 100, CLAIM_TIMEOUT)).thenReturn(List.of(outboxEntity(1L, "payload-1")), List.of());
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-1"))).thenReturn(completedFuture(sendResult));
+    mockTransactionCallback();
+    mockTransactionTemplate();
+
+    publisher.publish();
+
+    var inOrder = inOrder(transactionTemplate, repository, kafkaTemplate);
+    inOrder.verify(transactionTemplate).execute(any());
+    inOrder.verify(repository).claimBatch(0, 1, 100, CLAIM_TIMEOUT);
+    inOrder.verify(kafkaTemplate).send(anyString(), eq(KEY), eq("payload-1"));
+    inOrder.verify(transactionTemplate).executeWithoutResult(any());
+    inOrder.verify(repository).deleteAllByIdIn(List.of(1L));
+    verify(repository, times(2)).claimBatch(0, 1, 100, CLAIM_TIMEOUT);
+    verify(repository, never()).releaseClaims(any());
+    verifyNoInteractions(lockManager);
+  }
+
+  @Test
+  void publish_positive_skipLockedUnacknowledgedClaimsReleased() {
+    publisher = new TrxOutboxPollingPublisher(skipLockedPublishing(), lockManager, transactionTemplate, repository,
+      kafkaTemplate);
+    when(repository.tryLockLane(0)).thenReturn(true);
+    when(repository.isLaneClaimed(0, 1)).thenReturn(false);
+    when(repository.claimBatch(0, 1, 100, CLAIM_TIMEOUT))
+      .thenReturn(List.of(outboxEntity(1L, "payload-1"), outboxEntity(2L, "payload-2")));
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-1"))).thenReturn(completedFuture(sendResult));
+    when(kafkaTemplate.send(anyString(), eq(KEY), eq("payload-2")))
+      .thenReturn(failedFuture(new KafkaException("Broker is not available")));
+    mockTransactionCallback();
+    mockTransactionTemplate();
+
+    publisher.publish();
+
+    verify(repository).deleteAllByIdIn(List.of(1L));
+    verify(repository).releaseClaims(List.of(2L));
+    verify(repository).claimBatch(0, 1, 100, CLAIM_TIMEOUT);
+  }
+
+  @Test
+  void publish_positive_skipLockedLaneBusy() {
+    publisher = new TrxOutboxPollingPublisher(skipLockedPublishing(), lockManager, transactionTemplate, repository,
+      kafkaTemplate);
+    when(repository.tryLockLane(0)).thenReturn(false);
+    mockTransactionCallback();
+
+    publisher.publish();
+
+    verify(repository, never()).claimBatch(anyInt(), anyInt(), anyInt(), any());
+    verifyNoInteractions(lockManager, kafkaTemplate);
+  }
+
+  @Test
+  void publish_positive_skipLockedLaneClaimedByAnotherPublisher() {
+    publisher = new TrxOutboxPollingPublisher(skipLockedPublishing(), lockManager, transactionTemplate, repository,
+      kafkaTemplate);
+    when(repository.tryLockLane(0)).thenReturn(true);
+    when(repository.isLaneClaimed(0, 1)).thenReturn(true);
+    mockTransactionCallback();
+
+    publisher.publish();
+
+    verify(repository, never()).claimBatch(anyInt(), anyInt(), anyInt(), any());
+    verifyNoInteractions(lockManager, kafkaTemplate);
+  }
+
+  @Test
+  void publish_positive_lockNotAcquired() {
+    when(lockManager.acquire(publisher, 0)).thenReturn(Optional.empty());
+
+    publisher.publish();
+
+    verifyNoInteractions(repository, kafkaTemplate);
+  }
+
+  private void mockTransactionTemplate() {
+    doAnswer(invocation -> {
+      Consumer<TransactionStatus> action = invocation.getArgument(0);
+      action.accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any());
+  }
+
+  private void mockTransactionCallback() {
+    when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+      TransactionCallback<?> callback = invocation.getArgument(0);
+      return callback.doInTransaction(null);
+    });
+  }
+
+  private static Publishing skipLockedPublishing() {
+    var publishing = new Publishing();
+    publishing.getLocking().setMode(Locking.Mode.SKIP_LOCKED);
+    return publishing;
+  }
+
+  private static TrxOutboxEntity outboxEntity(Long id, String payload) {
+    var entity = new TrxOutboxEntity();
+    entity.setId(id);
+    entity.setMessageId(UUID.randomUUID());
+    entity.setMessageKey(KEY);
+    entity.setDestination("discovery");
+    entity.setPayload(payload);
+    return entity;
+  }
+}
@@ -94,6 +94,18 @@ class TrxOutboxLockManagerIT extends BaseRepositoryTest {
     assertThat(lock).isNotPresent();
   }
 
+  @Test
+  @Sql(statements = LOCK_STATEMENT)
+  void acquire_successful_if_otherLaneLocked() {
+    var manager = new TrxOutboxLockManager(locking(0, 0), transactionTemplate, jdbcTemplate);
+
+    var lock = manager.acquire(this, 1);
+
+    assertThat(lock).isPresent();
+    assertThat(lock.get().getLockId()).isEqualTo(2L);
+    manager.release(lock.get());
+  }
+
   @Test
   @Sql(statements = LOCK_STATEMENT)
   void release_successful() {
@@ -0,0 +1,97 @@
+package org.folio.am.integration.mte;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class EntitlementCacheTest {
+
+  private static final Duration TTL = Duration.ofSeconds(30);
+  private static final Duration NEGATIVE_TTL = Duration.ofSeconds(5);
+
+  @Mock private Clock clock;
+
+  @Test
+  void get_positive_cachedTenants() {
+    var cache = new EntitlementCache(TTL, NEGATIVE_TTL, 10, clock);
+    when(clock.millis()).thenReturn(0L, 29_999L);
+
+    cache.put("app-a-1.0.0", List.of("tenant-a"));
+
+    assertThat(cache.get("app-a-1.0.0")).contains(List.of("tenant-a"));
+  }
+
+  @Test
+  void get_positive_expiredEntry() {
+    var cache = new EntitlementCache(TTL, NEGATIVE_TTL, 10, clock);
+    when(clock.millis()).thenReturn(0L, 30_000L);
+
+    cache.put("app-a-1.0.0", List.of("tenant-a"));
+
+    assertThat(cache.get("app-a-1.0.0")).isEmpty();
+  }
+
+  @Test
+  void get_positive_negativeResultExpiresEarlier() {
+    var cache = new EntitlementCache(TTL, NEGATIVE_TTL, 10, clock);
+    when(clock.millis()).thenReturn(0L, 4_999L, 5_000L);
+
+    cache.put("app-a-1.0.0", List.of());
+
+    assertThat(cache.get("app-a-1.0.0")).contains(List.of());
+    assertThat(cache.get("app-a-1.0.0")).isEmpty();
+  }
+
+  @Test
+  void put_positive_negativeCacheDisabled() {
+    var cache = new EntitlementCache(TTL, Duration.ZERO, 10, clock);
+
+    cache.put("app-a-1.0.0", List.of());
+
+    assertThat(cache.get("app-a-1.0.0")).isEmpty();
+  }
+
+  @Test
+  void put_positive_cacheIsFull() {
+    var cache = new EntitlementCache(TTL, NEGATIVE_TTL, 1, clock);
+    when(clock.millis()).thenReturn(0L);
+
+    cache.put("app-a-1.0.0", List.of("tenant-a"));
+    cache.put("app-b-1.0.0", List.of("tenant-b"));
+
+    assertThat(cache.get("app-a-1.0.0")).contains(List.of("tenant-a"));
+    assertThat(cache.get("app-b-1.0.0")).isEmpty();
+  }
+
+  @Test
+  void put_positive_expiredEntriesRemovedIfCacheIsFull() {
+    var cache = new EntitlementCache(TTL, NEGATIVE_TTL, 1, clock);
+    when(clock.millis()).thenReturn(0L, 30_000L);
+
+    cache.put("app-a-1.0.0", List.of("tenant-a"));
+    cache.put("app-b-1.0.0", List.of("tenant-b"));
+
+    assertThat(cache.get("app-b-1.0.0")).contains(List.of("tenant-b"));
+  }
+
+  @Test
+  void evict_positive() {
+    var cache = new EntitlementCache(TTL, NEGATIVE_TTL, 10, clock);
+    when(clock.millis()).thenReturn(0L);
+
+    cache.put("app-a-1.0.0", List.of("tenant-a"));
+    cache.evict("app-a-1.0.0");
+
+    assertThat(cache.get("app-a-1.0.0")).isEmpty();
+  }
+}
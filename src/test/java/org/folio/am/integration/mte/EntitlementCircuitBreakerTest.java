@@ -0,0 +1,88 @@
+package org.folio.am.integration.mte;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class EntitlementCircuitBreakerTest {
+
+  @Mock private Clock clock;
+  private EntitlementCircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setUp() {
+    circuitBreaker = new EntitlementCircuitBreaker(2, Duration.ofSeconds(30), clock);
+  }
+
+  @Test
+  void tryAcquire_positive_failureThresholdNotReached() {
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void tryAcquire_positive_failuresResetBySuccess() {
+    circuitBreaker.onFailure();
+    circuitBreaker.onSuccess();
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void tryAcquire_negative_circuitIsOpen() {
+    when(clock.millis()).thenReturn(0L, 29_999L);
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+  }
+
+  @Test
+  void tryAcquire_positive_singleTrialRequestAllowed() {
+    when(clock.millis()).thenReturn(0L, 30_000L);
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+    circuitBreaker.onSuccess();
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void tryAcquire_negative_trialRequestFailed() {
+    when(clock.millis()).thenReturn(0L, 30_000L, 30_000L, 59_999L);
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.tryAcquire()).isFalse();
+  }
+
+  @Test
+  void tryAcquire_positive_trialReleasedByIgnoredFailure() {
+    when(clock.millis()).thenReturn(0L, 30_000L);
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+    circuitBreaker.onIgnoredFailure();
+
+    assertThat(circuitBreaker.tryAcquire()).isTrue();
+  }
+}
@@ -0,0 +1,115 @@
+package org.folio.am.integration.mte;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class EntitlementRequestLimiterTest {
+
+  private static final byte[] BODY = new byte[0];
+
+  @Mock private HttpRequest request;
+  @Mock private ClientHttpResponse response;
+  @Mock private ClientHttpRequestExecution execution;
+  @Mock private ClientHttpRequestExecution blockedExecution;
+
+  @Test
+  void intercept_positive_permitReleasedOnResponseClose() throws Exception {
+    var limiter = new EntitlementRequestLimiter(1, Duration.ofMillis(10));
+    when(execution.execute(request, BODY)).thenReturn(response);
+    when(response.getStatusCode()).thenReturn(HttpStatus.OK);
+
+    var firstResponse = limiter.intercept(request, BODY, execution);
+    assertThat(firstResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(limiter.getActive()).isEqualTo(1);
+
+    firstResponse.close();
+    firstResponse.close();
+    assertThat(limiter.getActive()).isZero();
+
+    limiter.intercept(request, BODY, execution).close();
+    assertThat(limiter.getActive()).isZero();
+    verify(response, times(3)).close();
+  }
+
+  @Test
+  void intercept_negative_permitReleasedOnRequestFailure() throws Exception {
+    var limiter = new EntitlementRequestLimiter(1, Duration.ofMillis(10));
+    when(execution.execute(request, BODY)).thenThrow(new IOException("Connection reset"));
+
+    assertThatThrownBy(() -> limiter.intercept(request, BODY, execution))
+      .isInstanceOf(IOException.class)
+      .hasMessage("Connection reset");
+    assertThat(limiter.getActive()).isZero();
+  }
+
+  @Test
+  void intercept_negative_noFreeConnection() throws Exception {
+    var limiter = new EntitlementRequestLimiter(1, Duration.ofMillis(10));
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    when(blockedExecution.execute(request, BODY)).thenAnswer(invocation -> {
+      started.countDown();
+      release.await();
+      return response;
+    });
+
+    var blockedRequest = CompletableFuture.supplyAsync(() -> intercept(limiter, blockedExecution));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(limiter.getActive()).isEqualTo(1);
+
+    assertThatThrownBy(() -> limiter.intercept(request, BODY, execution))
+      .isInstanceOf(ResourceAccessException.class)
+      .hasMessage("Timed out waiting for a free connection to mgr-tenant-entitlements: maxRequests = 1");
+    verifyNoInteractions(execution);
+
+    release.countDown();
+    var blockedResponse = blockedRequest.get(5, TimeUnit.SECONDS);
+    assertThat(limiter.getActive()).isEqualTo(1);
+    blockedResponse.close();
+    assertThat(limiter.getActive()).isZero();
+    assertThat(limiter.getPending()).isZero();
+  }
+
+  @Test
+  void bindTo_positive() {
+    var limiter = new EntitlementRequestLimiter(5, Duration.ofSeconds(1));
+    var registry = new SimpleMeterRegistry();
+
+    limiter.bindTo(registry);
+
+    assertThat(registry.get("tenant.entitlement.client.requests.max").gauge().value()).isEqualTo(5);
+    assertThat(registry.get("tenant.entitlement.client.requests.active").gauge().value()).isZero();
+    assertThat(registry.get("tenant.entitlement.client.requests.pending").gauge().value()).isZero();
+  }
+
+  private ClientHttpResponse intercept(EntitlementRequestLimiter limiter, ClientHttpRequestExecution execution) {
+    try {
+      return limiter.intercept(request, BODY, execution);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
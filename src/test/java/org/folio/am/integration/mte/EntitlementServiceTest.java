@@ -1,14 +1,23 @@
 package org.folio.am.integration.mte;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.folio.am.support.TestConstants.APPLICATION_ID;
 import static org.folio.test.TestConstants.OKAPI_AUTH_TOKEN;
 import static org.folio.test.TestConstants.TENANT_ID;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.stream.IntStream;
 import org.folio.am.exception.ServiceException;
 import org.folio.am.integration.mte.model.Entitlement;
 import org.folio.common.domain.model.ResultList;
@@ -18,6 +27,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -53,4 +67,185 @@ class EntitlementServiceTest {
     assertThatThrownBy(() -> entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN))
       .isInstanceOf(ServiceException.class);
   }
+
+  @Test
+  void getTenantsByApplicationIds_positive_requestedInChunks() {
+    entitlementService.setBatchSize(2);
+    var firstQuery = "applicationId==(\"app-a-1.0.0\" or \"app-b-1.0.0\") sortBy applicationId tenantId";
+    var secondQuery = "applicationId==(\"app-c-1.0.0\") sortBy applicationId tenantId";
+
+    var entitlements = List.of(Entitlement.of("app-a-1.0.0", "tenant-a"), Entitlement.of("app-a-1.0.0", "tenant-b"));
+    when(tenantEntitlementClient.findByQuery(firstQuery, 500, 0, OKAPI_AUTH_TOKEN))
+      .thenReturn(ResultList.of(2, entitlements));
+    when(tenantEntitlementClient.findByQuery(secondQuery, 500, 0, OKAPI_AUTH_TOKEN)).thenReturn(ResultList.empty());
+
+    var actual = entitlementService.getTenantsByApplicationIds(
+      List.of("app-a-1.0.0", "app-b-1.0.0", "app-c-1.0.0"), OKAPI_AUTH_TOKEN);
+
+    assertThat(actual).containsExactly(
+      entry("app-a-1.0.0", List.of("tenant-a", "tenant-b")),
+      entry("app-b-1.0.0", List.of()),
+      entry("app-c-1.0.0", List.of()));
+  }
+
+  @Test
+  void getTenantsByApplicationIds_positive_allPagesLoaded() {
+    var query = "applicationId==(\"app-a-1.0.0\") sortBy applicationId tenantId";
+    var firstPage = IntStream.range(0, 500).mapToObj(i -> Entitlement.of("app-a-1.0.0", "tenant-" + i)).toList();
+    var secondPage = List.of(Entitlement.of("app-a-1.0.0", "tenant-500"));
+
+    when(tenantEntitlementClient.findByQuery(query, 500, 0, OKAPI_AUTH_TOKEN))
+      .thenReturn(ResultList.of(501, firstPage));
+    when(tenantEntitlementClient.findByQuery(query, 500, 500, OKAPI_AUTH_TOKEN))
+      .thenReturn(ResultList.of(501, secondPage));
+
+    var actual = entitlementService.getTenantsByApplicationIds(List.of("app-a-1.0.0"), OKAPI_AUTH_TOKEN);
+
+    assertThat(actual.get("app-a-1.0.0")).hasSize(501).endsWith("tenant-500");
+  }
+
+  @Test
+  void getTenantsByApplicationIds_positive_pageSizeLimitedByServer() {
+    var query = "applicationId==(\"app-a-1.0.0\" or \"app-b-1.0.0\") sortBy applicationId tenantId";
+    var firstPage = IntStream.range(0, 100).mapToObj(i -> Entitlement.of("app-a-1.0.0", "tenant-" + i)).toList();
+    var secondPage = IntStream.range(100, 200).mapToObj(i -> Entitlement.of("app-a-1.0.0", "tenant-" + i)).toList();
+    var lastPage = List.of(Entitlement.of("app-b-1.0.0", "tenant-a"));
+
+    when(tenantEntitlementClient.findByQuery(query, 500, 0, OKAPI_AUTH_TOKEN))
+      .thenReturn(ResultList.of(201, firstPage));
+    when(tenantEntitlementClient.findByQuery(query, 500, 100, OKAPI_AUTH_TOKEN))
+      .thenReturn(ResultList.of(201, secondPage));
+    when(tenantEntitlementClient.findByQuery(query, 500, 200, OKAPI_AUTH_TOKEN))
+      .thenReturn(ResultList.of(201, lastPage));
+
+    var actual = entitlementService.getTenantsByApplicationIds(List.of("app-a-1.0.0", "app-b-1.0.0"), OKAPI_AUTH_TOKEN);
+
+    assertThat(actual.get("app-a-1.0.0")).hasSize(200);
+    assertThat(actual.get("app-b-1.0.0")).containsExactly("tenant-a");
+  }
+
+  @Test
+  void getTenantsByApplicationIds_positive_emptyPageStopsPaging() {
+    var query = "applicationId==(\"app-a-1.0.0\") sortBy applicationId tenantId";
+    when(tenantEntitlementClient.findByQuery(query, 500, 0, OKAPI_AUTH_TOKEN))
+      .thenReturn(ResultList.of(2, List.of(Entitlement.of("app-a-1.0.0", "tenant-a"))));
+    when(tenantEntitlementClient.findByQuery(query, 500, 1, OKAPI_AUTH_TOKEN))
+      .thenReturn(ResultList.of(2, List.of()));
+
+    var actual = entitlementService.getTenantsByApplicationIds(List.of("app-a-1.0.0"), OKAPI_AUTH_TOKEN);
+
+    assertThat(actual.get("app-a-1.0.0")).containsExactly("tenant-a");
+  }
+
+  @Test
+  void getTenantsByApplicationIds_negative_serviceNotAvailable() {
+    var query = "applicationId==(\"app-a-1.0.0\") sortBy applicationId tenantId";
+    when(tenantEntitlementClient.findByQuery(query, 500, 0, OKAPI_AUTH_TOKEN))
+      .thenThrow(new RestClientException("Connection refused"));
+
+    var ids = List.of("app-a-1.0.0");
+    assertThatThrownBy(() -> entitlementService.getTenantsByApplicationIds(ids, OKAPI_AUTH_TOKEN))
+      .isInstanceOf(ServiceException.class)
+      .hasMessage("mgr-tenant-entitlements is not available");
+  }
+
+  @Test
+  void getTenants_positive_cachedResultReturned() {
+    entitlementService.setCache(new EntitlementCache(Duration.ofMinutes(1), Duration.ofMinutes(1), 10));
+    var entitlementList = ResultList.of(1, List.of(Entitlement.of(APPLICATION_ID, TENANT_ID)));
+    when(tenantEntitlementClient.findByQuery(QUERY, OKAPI_AUTH_TOKEN)).thenReturn(entitlementList);
+
+    assertThat(entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN)).containsExactly(TENANT_ID);
+    assertThat(entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN)).containsExactly(TENANT_ID);
+
+    verify(tenantEntitlementClient).findByQuery(QUERY, OKAPI_AUTH_TOKEN);
+  }
+
+  @Test
+  void getTenants_positive_evictedResultRequestedAgain() {
+    entitlementService.setCache(new EntitlementCache(Duration.ofMinutes(1), Duration.ofMinutes(1), 10));
+    when(tenantEntitlementClient.findByQuery(QUERY, OKAPI_AUTH_TOKEN)).thenReturn(ResultList.empty());
+
+    entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN);
+    entitlementService.evict(APPLICATION_ID);
+    entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN);
+
+    verify(tenantEntitlementClient, times(2)).findByQuery(QUERY, OKAPI_AUTH_TOKEN);
+  }
+
+  @Test
+  void getTenantsByApplicationIds_positive_onlyNotCachedIdsRequested() {
+    entitlementService.setCache(new EntitlementCache(Duration.ofMinutes(1), Duration.ofMinutes(1), 10));
+    when(tenantEntitlementClient.findByQuery(QUERY, OKAPI_AUTH_TOKEN)).thenReturn(ResultList.empty());
+    var query = "applicationId==(\"app-a-1.0.0\") sortBy applicationId tenantId";
+    when(tenantEntitlementClient.findByQuery(query, 500, 0, OKAPI_AUTH_TOKEN))
+      .thenReturn(ResultList.of(1, List.of(Entitlement.of("app-a-1.0.0", TENANT_ID))));
+
+    entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN);
+    var ids = List.of(APPLICATION_ID, "app-a-1.0.0");
+    var actual = entitlementService.getTenantsByApplicationIds(ids, OKAPI_AUTH_TOKEN);
+
+    assertThat(actual).containsExactly(entry(APPLICATION_ID, List.of()), entry("app-a-1.0.0", List.of(TENANT_ID)));
+  }
+
+  @Test
+  void getTenants_negative_circuitBreakerIsOpen() {
+    entitlementService.setCircuitBreaker(new EntitlementCircuitBreaker(1, Duration.ofMinutes(1)));
+    when(tenantEntitlementClient.findByQuery(QUERY, OKAPI_AUTH_TOKEN))
+      .thenThrow(new ResourceAccessException("Connection refused"));
+
+    assertThatThrownBy(() -> entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN))
+      .isInstanceOf(ServiceException.class)
+      .hasMessage("mgr-tenant-entitlements is not available");
+    assertThatThrownBy(() -> entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN))
+      .isInstanceOf(ServiceException.class)
+      .hasMessage("mgr-tenant-entitlements is not available: circuit breaker is open");
+
+    verify(tenantEntitlementClient).findByQuery(QUERY, OKAPI_AUTH_TOKEN);
+  }
+
+  @Test
+  void getTenants_negative_clientErrorNotCountedByCircuitBreaker() {
+    entitlementService.setCircuitBreaker(new EntitlementCircuitBreaker(1, Duration.ofMinutes(1)));
+    when(tenantEntitlementClient.findByQuery(QUERY, OKAPI_AUTH_TOKEN))
+      .thenThrow(HttpClientErrorException.create(BAD_REQUEST, "Bad Request", new HttpHeaders(), null, null));
+
+    assertThatThrownBy(() -> entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN))
+      .isInstanceOf(ServiceException.class)
+      .hasMessage("mgr-tenant-entitlements is not available");
+    assertThatThrownBy(() -> entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN))
+      .isInstanceOf(ServiceException.class)
+      .hasMessage("mgr-tenant-entitlements is not available");
+
+    verify(tenantEntitlementClient, times(2)).findByQuery(QUERY, OKAPI_AUTH_TOKEN);
+  }
+
+  @Test
+  void getTenants_negative_serverErrorCountedByCircuitBreaker() {
+    entitlementService.setCircuitBreaker(new EntitlementCircuitBreaker(1, Duration.ofMinutes(1)));
+    when(tenantEntitlementClient.findByQuery(QUERY, OKAPI_AUTH_TOKEN)).thenThrow(
+      HttpServerErrorException.create(SERVICE_UNAVAILABLE, "Service Unavailable", new HttpHeaders(), null, null));
+
+    assertThatThrownBy(() -> entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN))
+      .isInstanceOf(ServiceException.class)
+      .hasMessage("mgr-tenant-entitlements is not available");
+    assertThatThrownBy(() -> entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN))
+      .isInstanceOf(ServiceException.class)
+      .hasMessage("mgr-tenant-entitlements is not available: circuit breaker is open");
+
+    verify(tenantEntitlementClient).findByQuery(QUERY, OKAPI_AUTH_TOKEN);
+  }
+
+  @Test
+  void getTenantsByApplicationIds_negative_circuitBreakerIsOpen() {
+    var circuitBreaker = new EntitlementCircuitBreaker(1, Duration.ofMinutes(1));
+    circuitBreaker.onFailure();
+    entitlementService.setCircuitBreaker(circuitBreaker);
+
+    var ids = List.of("app-a-1.0.0");
+    assertThatThrownBy(() -> entitlementService.getTenantsByApplicationIds(ids, OKAPI_AUTH_TOKEN))
+      .isInstanceOf(ServiceException.class)
+      .hasMessage("mgr-tenant-entitlements is not available: circuit breaker is open");
+    verifyNoInteractions(tenantEntitlementClient);
+  }
 }
@@ -1,12 +1,15 @@
 package org.folio.am.it;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.folio.am.integration.kafka.DiscoveryPublisher.DISCOVERY_DESTINATION;
 import static org.folio.am.support.TestUtils.generateAccessToken;
 import static org.folio.integration.kafka.producer.KafkaUtils.getEnvTopicName;
+import static org.folio.test.TestUtils.parseResponse;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
 import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_METHOD;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -14,7 +17,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Duration;
 import java.util.Set;
+import org.folio.am.domain.dto.ApplicationCleanupJob;
 import org.folio.am.domain.entity.ArtifactEntity;
 import org.folio.am.integration.kafka.model.DiscoveryEvent;
 import org.folio.am.repository.ModuleRepository;
@@ -54,19 +59,28 @@ class ApplicationCleanupIT extends BaseIntegrationTest {
   }
 
   @Test
-  @WireMockStub(scripts = "/wiremock/stubs/mte/get-entitlement-application-cleanup-not-installed.json")
   @WireMockStub(scripts = "/wiremock/stubs/mte/get-entitlement-application-cleanup.json")
   void cleanup_positive_removesUnusedAppsAndSkipsEntitledApps() throws Exception {
-    mockMvc.perform(post("/applications/cleanup")
+    var mvcResult = mockMvc.perform(post("/applications/cleanup")
         .header(TOKEN, generateAccessToken(keycloakProperties)))
-      .andExpect(status().isOk())
-      .andExpect(jsonPath("$.inspected", is(2)))
-      .andExpect(jsonPath("$.cleaned", is(1)))
-      .andExpect(jsonPath("$.skipped", is(1)))
-      .andExpect(jsonPath("$.failed", is(0)))
-      .andExpect(jsonPath("$.cleanedIds", contains(CLEANED_APPLICATION_ID)))
-      .andExpect(jsonPath("$.skippedIds", contains(SKIPPED_APPLICATION_ID)))
-      .andExpect(jsonPath("$.failedIds", empty()));
+      .andExpect(status().isAccepted())
+      .andExpect(jsonPath("$.id", notNullValue()))
+      .andReturn();
+    var jobId = parseResponse(mvcResult, ApplicationCleanupJob.class).getId();
+
+    await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+      doGet(get("/applications/cleanup/{jobId}", jobId))
+        .andExpect(jsonPath("$.status", is("COMPLETED"))));
+
+    doGet(get("/applications/cleanup/{jobId}", jobId))
+      .andExpect(jsonPath("$.total", is(2)))
+      .andExpect(jsonPath("$.result.inspected", is(2)))
+      .andExpect(jsonPath("$.result.cleaned", is(1)))
+      .andExpect(jsonPath("$.result.skipped", is(1)))
+      .andExpect(jsonPath("$.result.failed", is(0)))
+      .andExpect(jsonPath("$.result.cleanedIds", contains(CLEANED_APPLICATION_ID)))
+      .andExpect(jsonPath("$.result.skippedIds", contains(SKIPPED_APPLICATION_ID)))
+      .andExpect(jsonPath("$.result.failedIds", empty()));
 
     doGet(get("/applications").queryParam("query", "cql.allRecords=1"))
       .andExpect(jsonPath("$.totalRecords", is(1)))
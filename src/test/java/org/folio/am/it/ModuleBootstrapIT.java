@@ -18,6 +18,8 @@ import java.util.List;
 import org.folio.am.domain.dto.ApplicationDescriptor;
 import org.folio.am.domain.dto.EgressBootstrap;
 import org.folio.am.domain.dto.EgressBootstrapRequest;
+import org.folio.am.domain.dto.EgressBootstraps;
+import org.folio.am.domain.dto.EgressBootstrapsRequest;
 import org.folio.am.domain.dto.Module;
 import org.folio.am.domain.dto.ModuleBootstrap;
 import org.folio.am.domain.dto.ModuleBootstrapDiscovery;
@@ -235,6 +237,50 @@ class ModuleBootstrapIT extends BaseIntegrationTest {
       .andExpect(status().isNotFound());
   }
 
+  @Test
+  void egressBootstraps_positive_scoped() throws Exception {
+    var providerApp = new ApplicationDescriptor()
+      .name("provider-app").version("1.0.0")
+      .modules(List.of(new Module().name("mod-provider").version("1.0.0")))
+      .moduleDescriptors(List.of(new ModuleDescriptor()
+        .id("mod-provider-1.0.0")
+        .provides(List.of(new InterfaceDescriptor().id("dashboard").version("2.0").interfaceType("multiple")))));
+    postApplication(providerApp);
+
+    mockMvc.perform(post("/modules/{id}/discovery", "mod-provider-1.0.0")
+        .header(TOKEN, generateAccessToken(keycloakProperties))
+        .contentType(APPLICATION_JSON)
+        .content(asJsonString(moduleDiscovery("mod-provider", "1.0.0", "http://mod-provider:8081"))))
+      .andExpect(status().isCreated());
+
+    var consumerApp = new ApplicationDescriptor()
+      .name("test-app").version("1.0.0")
+      .modules(List.of(new Module().name("consumer").version("1.0.0"), new Module().name("other").version("1.0.0")))
+      .moduleDescriptors(List.of(
+        new ModuleDescriptor().id("consumer-1.0.0")
+          .requires(List.of(new InterfaceReference().id("dashboard").version("2.0"))),
+        new ModuleDescriptor().id("other-1.0.0")));
+    postApplication(consumerApp);
+
+    var expected = new EgressBootstraps()
+      .putBootstrapsItem("consumer-1.0.0", new EgressBootstrap().requiredModules(List.of(new ModuleBootstrapDiscovery()
+        .moduleId("mod-provider-1.0.0")
+        .applicationId("provider-app-1.0.0")
+        .location("http://mod-provider:8081")
+        .systemUserRequired(false)
+        .interfaces(List.of(new ModuleBootstrapInterface().id("dashboard").version("2.0").interfaceType("multiple"))))))
+      .putBootstrapsItem("other-1.0.0", new EgressBootstrap().requiredModules(List.of()));
+
+    mockMvc.perform(post("/modules/bootstrap")
+        .header(TOKEN, generateAccessToken(keycloakProperties))
+        .contentType(APPLICATION_JSON)
+        .content(asJsonString(new EgressBootstrapsRequest()
+          .moduleIds(List.of("consumer-1.0.0", "other-1.0.0", "unknown-1.0.0"))
+          .applicationIds(List.of("provider-app-1.0.0", "test-app-1.0.0")))))
+      .andExpect(status().isOk())
+      .andExpect(content().json(asJsonString(expected), STRICT));
+  }
+
   private void postApplication(ApplicationDescriptor applicationDescriptor) throws Exception {
     mockMvc.perform(post("/applications").content(asJsonString(applicationDescriptor))
         .header(TOKEN, generateAccessToken(keycloakProperties))
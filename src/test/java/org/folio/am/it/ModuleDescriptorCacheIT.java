@@ -0,0 +1,44 @@
+package org.folio.am.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.test.extensions.impl.WireMockExtension.getWireMockAdminClient;
+
+import java.util.List;
+import org.folio.am.service.ModuleDescriptorLoader;
+import org.folio.am.support.TestValues;
+import org.folio.am.support.base.BaseIntegrationTest;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.test.extensions.WireMockStub;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+  "application.module-descriptor-cache.enabled=true",
+  "application.module-descriptor-cache.revalidate=true",
+  "application.module-descriptor-cache.directory=${java.io.tmpdir}/am-it-module-descriptors-${random.uuid}"
+})
+class ModuleDescriptorCacheIT extends BaseIntegrationTest {
+
+  @Autowired private ModuleDescriptorLoader moduleDescriptorLoader;
+
+  /**
+   * The first request is answered with 200 and ETag only if it is not conditional, the second one is answered with 304
+   * only if it carries the received ETag, any other request is not matched by the stubs and fails.
+   */
+  @Test
+  @WireMockStub(scripts = {
+    "/wiremock/stubs/module-descriptor-provider/get-qux-module-descriptor-with-etag.json",
+    "/wiremock/stubs/module-descriptor-provider/get-qux-module-descriptor-not-modified.json"
+  })
+  void loadByUrls_positive_revalidatedWithEtag() {
+    var url = getWireMockAdminClient().getWireMockUrl() + "/modules/qux-module-1.0.0";
+    var modules = List.of(TestValues.module("qux-module", "1.0.0", url));
+    var expected = new ModuleDescriptor().id("qux-module-1.0.0").description("qux-module");
+
+    assertThat(moduleDescriptorLoader.loadByUrls(modules)).containsExactly(expected);
+    assertThat(moduleDescriptorLoader.loadByUrls(modules)).containsExactly(expected);
+  }
+}
@@ -0,0 +1,132 @@
+package org.folio.am.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.am.domain.entity.InterfaceReferenceEntity.ReferenceType.PROVIDES;
+import static org.folio.am.domain.entity.InterfaceReferenceEntity.ReferenceType.REQUIRES;
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.extern.log4j.Log4j2;
+import org.folio.am.domain.dto.ApplicationDescriptor;
+import org.folio.am.domain.entity.ApplicationEntity;
+import org.folio.am.domain.entity.InterfaceReferenceEntity;
+import org.folio.am.domain.entity.ModuleEntity;
+import org.folio.am.domain.entity.ModuleType;
+import org.folio.am.support.base.BaseRepositoryTest;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares write time of a large application stored with the JPA cascade save, used before
+ * {@link ApplicationBatchRepository}, and with {@link ApplicationBatchRepository#insertAll}.
+ *
+ * <p>The benchmark is not part of the integration tests, run it with
+ * {@code mvn verify -Dfailsafe.groups=benchmark -Dit.test=ApplicationBatchRepositoryBenchmarkIT}.</p>
+ */
+@Log4j2
+@Tag("benchmark")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationBatchRepositoryBenchmarkIT extends BaseRepositoryTest {
+
+  private static final int MODULES_COUNT = 50;
+  private static final int INTERFACES_PER_MODULE = 100;
+  private static final int WARMUP_ITERATIONS = 3;
+  private static final int MEASURED_ITERATIONS = 10;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private ApplicationRepository applicationRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private ApplicationBatchRepository batchRepository;
+  private TransactionTemplate transactionTemplate;
+
+  @BeforeEach
+  void setUp() {
+    batchRepository = new ApplicationBatchRepository(jdbcTemplate, JsonMapper.builder().build());
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+  }
+
+  @AfterEach
+  void tearDown() {
+    truncateTables();
+  }
+
+  @Test
+  void insertAll_benchmark_comparedToCascadeSave() {
+    var cascadeSaveMillis = measure("cascade save", applicationRepository::save);
+    var insertAllMillis = measure("batch insert", application -> batchRepository.insertAll(List.of(application)));
+
+    log.info("Large application write time: modules = {}, interfaces = {}, cascadeSave = {} ms, insertAll = {} ms",
+      MODULES_COUNT, MODULES_COUNT * INTERFACES_PER_MODULE, cascadeSaveMillis, insertAllMillis);
+  }
+
+  /**
+   * Stores a new large application with the given write operation in its own transaction, the tables are truncated
+   * after each iteration.
+   *
+   * @return average write time of measured iterations in milliseconds
+   */
+  private double measure(String name, Consumer<ApplicationEntity> writeOperation) {
+    var totalNanos = 0L;
+    for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+      var application = largeApplication();
+      var startTime = System.nanoTime();
+      transactionTemplate.executeWithoutResult(status -> writeOperation.accept(application));
+      var elapsedNanos = System.nanoTime() - startTime;
+
+      assertThat(countRows("module_interface_reference")).isEqualTo(MODULES_COUNT * INTERFACES_PER_MODULE);
+      truncateTables();
+      if (i >= WARMUP_ITERATIONS) {
+        totalNanos += elapsedNanos;
+      }
+    }
+
+    var averageMillis = totalNanos / 1_000_000.0 / MEASURED_ITERATIONS;
+    log.info("Benchmark finished: name = {}, iterations = {}, average = {} ms", name, MEASURED_ITERATIONS,
+      averageMillis);
+    return averageMillis;
+  }
+
+  private void truncateTables() {
+    jdbcTemplate.execute("TRUNCATE TABLE application, module, application_module CASCADE");
+  }
+
+  private Integer countRows(String table) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+  }
+
+  private static ApplicationEntity largeApplication() {
+    var application = ApplicationEntity.of("app-large-1.0.0");
+    application.setName("app-large");
+    application.setVersion("1.0.0");
+    application.setApplicationDescriptor(new ApplicationDescriptor().id("app-large-1.0.0").name("app-large")
+      .version("1.0.0"));
+    for (int i = 0; i < MODULES_COUNT; i++) {
+      var module = ModuleEntity.of("mod-test-" + i + "-1.0.0", ModuleType.BACKEND);
+      module.setName("mod-test-" + i);
+      module.setVersion("1.0.0");
+      module.setDescriptor(new ModuleDescriptor().id("mod-test-" + i + "-1.0.0"));
+      for (int j = 0; j < INTERFACES_PER_MODULE; j++) {
+        var interfaceReference = new InterfaceReferenceEntity();
+        interfaceReference.setId("interface-" + i + "-" + j);
+        interfaceReference.setVersion("1.0");
+        interfaceReference.setType(j % 2 == 0 ? PROVIDES : REQUIRES);
+        module.addInterface(interfaceReference);
+      }
+      application.addModule(module);
+    }
+    return application;
+  }
+}
@@ -0,0 +1,169 @@
+package org.folio.am.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.folio.am.domain.entity.InterfaceReferenceEntity.ReferenceType.PROVIDES;
+import static org.folio.am.domain.entity.InterfaceReferenceEntity.ReferenceType.REQUIRES;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+import java.util.List;
+import org.folio.am.domain.dto.ApplicationDescriptor;
+import org.folio.am.domain.entity.ApplicationEntity;
+import org.folio.am.domain.entity.ApplicationModuleProjection;
+import org.folio.am.domain.entity.InterfaceReferenceEntity;
+import org.folio.am.domain.entity.InterfaceReferenceEntity.ReferenceType;
+import org.folio.am.domain.entity.ModuleEntity;
+import org.folio.am.domain.entity.ModuleType;
+import org.folio.am.support.base.BaseRepositoryTest;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import tools.jackson.databind.json.JsonMapper;
+
+@IntegrationTest
+@Sql(scripts = "classpath:/sql/truncate-tables.sql", executionPhase = AFTER_TEST_METHOD)
+class ApplicationBatchRepositoryIT extends BaseRepositoryTest {
+
+  private static final String SHARED_MODULE_ID = "mod-shared-1.0.0";
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private ApplicationRepository applicationRepository;
+  @Autowired private ModuleRepository moduleRepository;
+
+  private ApplicationBatchRepository batchRepository;
+
+  @BeforeEach
+  void setUp() {
+    batchRepository = new ApplicationBatchRepository(jdbcTemplate, JsonMapper.builder().build());
+  }
+
+  @Test
+  void insertAll_positive_sharedModuleStoredOnce() {
+    var sharedModule = module("mod-shared", ModuleType.BACKEND, interfaceReference("shared", PROVIDES));
+    var fooApp = application("app-foo", module("mod-foo", ModuleType.BACKEND,
+      interfaceReference("foo", PROVIDES), interfaceReference("shared", REQUIRES)), sharedModule);
+    var barApp = application("app-bar", sharedModule, module("ui-bar", ModuleType.UI));
+
+    batchRepository.insertAll(List.of(fooApp, barApp));
+
+    var applications = applicationRepository.findByIdsWihModules(List.of("app-foo-1.0.0", "app-bar-1.0.0"));
+    assertThat(applications).hasSize(2);
+    assertThat(applications).allSatisfy(application ->
+      assertThat(application.getApplicationDescriptor().getName()).isEqualTo(application.getName()));
+    assertThat(moduleRepository.findAll())
+      .extracting(ModuleEntity::getId)
+      .containsExactlyInAnyOrder("mod-foo-1.0.0", SHARED_MODULE_ID, "ui-bar-1.0.0");
+    assertThat(moduleRepository.findById(SHARED_MODULE_ID).orElseThrow().getDescriptor().getId())
+      .isEqualTo(SHARED_MODULE_ID);
+    assertThat(countInterfaceReferences()).isEqualTo(3);
+    assertThat(applicationRepository.findApplicationsByModuleIds(List.of(SHARED_MODULE_ID))).hasSize(2);
+  }
+
+  @Test
+  void insertAll_positive_existingModuleUpdated() {
+    jdbcTemplate.update("""
+      INSERT INTO module (id, name, version, type, descriptor, discovery_url)
+        VALUES (?, 'mod-shared', '1.0.0', 'BACKEND', '{}'::jsonb, 'http://mod-shared:8081')
+      """, SHARED_MODULE_ID);
+    jdbcTemplate.update("""
+      INSERT INTO module_interface_reference (module_id, id, version, type)
+        VALUES (?, 'outdated', '1.0', 'PROVIDES')
+      """, SHARED_MODULE_ID);
+
+    var sharedModule = module("mod-shared", ModuleType.BACKEND, interfaceReference("shared", PROVIDES));
+    batchRepository.insertAll(List.of(application("app-foo", sharedModule)));
+
+    var module = moduleRepository.findById(SHARED_MODULE_ID).orElseThrow();
+    assertThat(module.getDiscoveryUrl()).isEqualTo("http://mod-shared:8081");
+    assertThat(module.getDescriptor().getId()).isEqualTo(SHARED_MODULE_ID);
+    assertThat(jdbcTemplate.queryForList("SELECT id FROM module_interface_reference", String.class))
+      .containsExactly("shared");
+  }
+
+  @Test
+  void deleteApplication_positive_orphanModulesRemoved() {
+    var sharedModule = module("mod-shared", ModuleType.BACKEND, interfaceReference("shared", PROVIDES));
+    var fooModule = module("mod-foo", ModuleType.BACKEND, interfaceReference("foo", PROVIDES));
+    batchRepository.insertAll(List.of(application("app-foo", fooModule, sharedModule),
+      application("app-bar", sharedModule)));
+
+    var modules = moduleRepository.findAllByApplicationId("app-foo-1.0.0");
+    assertThat(modules)
+      .extracting(ApplicationModuleProjection::getId, ApplicationModuleProjection::isOrphan)
+      .containsExactlyInAnyOrder(tuple("mod-foo-1.0.0", true), tuple(SHARED_MODULE_ID, false));
+
+    batchRepository.deleteApplication("app-foo-1.0.0", List.of("mod-foo-1.0.0"));
+
+    assertThat(applicationRepository.findAllApplicationIds()).containsExactly("app-bar-1.0.0");
+    assertThat(moduleRepository.findAll()).extracting(ModuleEntity::getId).containsExactly(SHARED_MODULE_ID);
+    assertThat(jdbcTemplate.queryForList("SELECT id FROM module_interface_reference", String.class))
+      .containsExactly("shared");
+    assertThat(moduleRepository.findAllByApplicationId("app-bar-1.0.0"))
+      .extracting(ApplicationModuleProjection::isOrphan)
+      .containsExactly(true);
+  }
+
+  @Test
+  void insertAll_positive_manyInterfaceReferences() {
+    var modulesCount = 50;
+    var interfacesPerModule = 100;
+    var modules = new ModuleEntity[modulesCount];
+    for (int i = 0; i < modulesCount; i++) {
+      var interfaces = new InterfaceReferenceEntity[interfacesPerModule];
+      for (int j = 0; j < interfacesPerModule; j++) {
+        interfaces[j] = interfaceReference("interface-" + i + "-" + j, j % 2 == 0 ? PROVIDES : REQUIRES);
+      }
+      modules[i] = module("mod-test-" + i, ModuleType.BACKEND, interfaces);
+    }
+
+    batchRepository.insertAll(List.of(application("app-large", modules)));
+
+    assertThat(applicationRepository.count()).isEqualTo(1);
+    assertThat(moduleRepository.count()).isEqualTo(modulesCount);
+    assertThat(countRows("application_module")).isEqualTo(modulesCount);
+    assertThat(countInterfaceReferences()).isEqualTo(modulesCount * interfacesPerModule);
+    assertThat(jdbcTemplate.queryForObject(
+      "SELECT COUNT(*) FROM module_interface_reference WHERE type = 'PROVIDES'", Integer.class))
+      .isEqualTo(modulesCount * interfacesPerModule / 2);
+  }
+
+  private Integer countInterfaceReferences() {
+    return countRows("module_interface_reference");
+  }
+
+  private Integer countRows(String table) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+  }
+
+  private static ApplicationEntity application(String name, ModuleEntity... modules) {
+    var application = ApplicationEntity.of(name + "-1.0.0");
+    application.setName(name);
+    application.setVersion("1.0.0");
+    application.setApplicationDescriptor(new ApplicationDescriptor().id(name + "-1.0.0").name(name).version("1.0.0"));
+    for (var module : modules) {
+      application.addModule(module);
+    }
+    return application;
+  }
+
+  private static ModuleEntity module(String name, ModuleType type, InterfaceReferenceEntity... interfaces) {
+    var module = ModuleEntity.of(name + "-1.0.0", type);
+    module.setName(name);
+    module.setVersion("1.0.0");
+    module.setDescriptor(new ModuleDescriptor().id(name + "-1.0.0"));
+    module.setInterfaces(List.of(interfaces));
+    return module;
+  }
+
+  private static InterfaceReferenceEntity interfaceReference(String id, ReferenceType type) {
+    var interfaceReference = new InterfaceReferenceEntity();
+    interfaceReference.setId(id);
+    interfaceReference.setVersion("1.0");
+    interfaceReference.setType(type);
+    return interfaceReference;
+  }
+}
@@ -0,0 +1,113 @@
+package org.folio.am.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.am.domain.entity.ApplicationCleanupJobRecord.STATUS_IN_PROGRESS;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.folio.am.domain.entity.ApplicationCleanupJobRecord;
+import org.folio.am.support.base.BaseRepositoryTest;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@Sql(scripts = "classpath:/sql/truncate-tables.sql", executionPhase = AFTER_TEST_METHOD)
+class ApplicationCleanupJobRepositoryIT extends BaseRepositoryTest {
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private ApplicationCleanupJobRepository jobRepository;
+
+  @BeforeEach
+  void setUp() {
+    jobRepository = new ApplicationCleanupJobRepository(jdbcTemplate);
+  }
+
+  @Test
+  void create_positive_singleRunningJob() {
+    var jobId = UUID.randomUUID();
+
+    var created = jobRepository.create(jobId);
+
+    assertThat(created).hasValueSatisfying(job -> {
+      assertThat(job.id()).isEqualTo(jobId);
+      assertThat(job.status()).isEqualTo(STATUS_IN_PROGRESS);
+      assertThat(job.startedDate()).isNotNull();
+      assertThat(job.finishedDate()).isNull();
+      assertThat(job.cleanedIds()).isEmpty();
+    });
+    assertThat(jobRepository.create(UUID.randomUUID())).isEmpty();
+    assertThat(jobRepository.findRunning()).map(ApplicationCleanupJobRecord::id).contains(jobId);
+  }
+
+  @Test
+  void update_positive_progressAndCompletion() {
+    var jobId = UUID.randomUUID();
+    jobRepository.create(jobId);
+
+    var progressUpdated = jobRepository.update(new ApplicationCleanupJobRecord(jobId, STATUS_IN_PROGRESS, null, null,
+      3, null, List.of("app-a-1.0.0"), List.of("app-b-1.0.0"), List.of()));
+
+    assertThat(progressUpdated).isTrue();
+    assertThat(jobRepository.findById(jobId)).hasValueSatisfying(job -> {
+      assertThat(job.total()).isEqualTo(3);
+      assertThat(job.cleanedIds()).containsExactly("app-a-1.0.0");
+      assertThat(job.skippedIds()).containsExactly("app-b-1.0.0");
+      assertThat(job.finishedDate()).isNull();
+    });
+
+    var completed = jobRepository.update(new ApplicationCleanupJobRecord(jobId, "COMPLETED", null, null,
+      3, null, List.of("app-a-1.0.0"), List.of("app-b-1.0.0"), List.of("app-c-1.0.0")));
+
+    assertThat(completed).isTrue();
+    assertThat(jobRepository.findById(jobId)).hasValueSatisfying(job -> {
+      assertThat(job.status()).isEqualTo("COMPLETED");
+      assertThat(job.failedIds()).containsExactly("app-c-1.0.0");
+      assertThat(job.finishedDate()).isNotNull();
+    });
+    assertThat(jobRepository.findRunning()).isEmpty();
+    assertThat(jobRepository.update(new ApplicationCleanupJobRecord(jobId, "FAILED", null, null,
+      3, "error", List.of(), List.of(), List.of()))).isFalse();
+    assertThat(jobRepository.create(UUID.randomUUID())).isPresent();
+  }
+
+  @Test
+  void failAbandoned_positive() {
+    var jobId = UUID.randomUUID();
+    jobRepository.create(jobId);
+
+    jdbcTemplate.update("UPDATE application_cleanup_job SET updated_date = updated_date - INTERVAL '5 minutes'");
+
+    assertThat(jobRepository.failAbandoned(Duration.ofMinutes(10), "abandoned")).isZero();
+    assertThat(jobRepository.failAbandoned(Duration.ofMinutes(1), "abandoned")).isEqualTo(1);
+
+    assertThat(jobRepository.findById(jobId)).hasValueSatisfying(job -> {
+      assertThat(job.status()).isEqualTo("FAILED");
+      assertThat(job.error()).isEqualTo("abandoned");
+      assertThat(job.finishedDate()).isNotNull();
+    });
+  }
+
+  @Test
+  void deleteExpired_positive() {
+    var runningJobId = UUID.randomUUID();
+    var finishedJobId = UUID.randomUUID();
+    jobRepository.create(finishedJobId);
+    jobRepository.update(new ApplicationCleanupJobRecord(finishedJobId, "COMPLETED", null, null,
+      0, null, List.of(), List.of(), List.of()));
+    jdbcTemplate.update("UPDATE application_cleanup_job SET finished_date = finished_date - INTERVAL '5 minutes'");
+    jobRepository.create(runningJobId);
+
+    assertThat(jobRepository.deleteExpired(Duration.ofHours(1))).isZero();
+    assertThat(jobRepository.deleteExpired(Duration.ofMinutes(1))).isEqualTo(1);
+
+    assertThat(jobRepository.findById(finishedJobId)).isEmpty();
+    assertThat(jobRepository.findById(runningJobId)).isPresent();
+  }
+}
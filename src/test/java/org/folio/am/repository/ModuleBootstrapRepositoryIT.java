@@ -8,9 +8,14 @@ import java.util.List;
 import java.util.function.Predicate;
 import org.folio.am.domain.entity.ModuleBootstrapView;
 import org.folio.am.support.base.BaseRepositoryTest;
+import org.folio.common.domain.model.InterfaceDescriptor;
+import org.folio.common.domain.model.InterfaceReference;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.common.domain.model.RoutingEntry;
 import org.folio.test.types.IntegrationTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 
 @IntegrationTest
@@ -40,6 +45,9 @@ class ModuleBootstrapRepositoryIT extends BaseRepositoryTest {
   @Autowired
   private ModuleRepository moduleRepository;
 
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
   @Test
   void shouldReturnAllRequiredModulesWithDiscoveryUrls() {
     var result = repository.findAllRequiredByModuleId(MODULE_FOO_ID);
@@ -116,6 +124,52 @@ class ModuleBootstrapRepositoryIT extends BaseRepositoryTest {
     assertNoDuplicateRows(result);
   }
 
+  @Test
+  void findViewsById_returnsSlimDescriptor() {
+    var handler = new RoutingEntry().addMethodsItem("GET").pathPattern("/foo/items")
+      .addPermissionsRequiredItem("foo.get");
+    var requiredInterface = new InterfaceReference().id("test-bar-interface").version("1.0");
+    var providedInterface = new InterfaceDescriptor().id("test-foo-interface").version("1.0").addHandlersItem(handler);
+    var fooDescriptor = new ModuleDescriptor()
+      .id(MODULE_FOO_ID)
+      .description("test-module-foo")
+      .addRequiresItem(requiredInterface)
+      .addProvidesItem(providedInterface);
+    moduleRepository.findById(MODULE_FOO_ID).stream()
+      .peek(moduleEntity -> moduleEntity.setDescriptor(fooDescriptor))
+      .forEach(moduleRepository::save);
+    moduleRepository.flush();
+
+    var result = repository.findViewsById(MODULE_FOO_ID);
+
+    assertThat(result).hasSize(1);
+    var descriptor = result.get(0).getDescriptor();
+    assertThat(descriptor.getDescription()).isNull();
+    assertThat(descriptor.getRequires()).containsExactly(requiredInterface);
+    assertThat(descriptor.getProvides()).containsExactly(providedInterface);
+  }
+
+  @Test
+  void findViewsById_positive_emptyArraysPreserved() {
+    jdbcTemplate.update("UPDATE module SET descriptor = ?::jsonb WHERE id = ?", """
+      {"id": "test-module-foo-1.0.0", "requires": [], "provides": [
+        {"id": "test-foo-interface", "version": "1.0", "handlers": []},
+        {"id": "test-foo-timer", "version": "1.0"}
+      ]}""", MODULE_FOO_ID);
+
+    var result = repository.findViewsById(MODULE_FOO_ID);
+
+    assertThat(result).hasSize(1);
+    var descriptor = result.get(0).getDescriptor();
+    assertThat(descriptor.getRequires()).isEmpty();
+    assertThat(descriptor.getProvides()).hasSize(2);
+    assertThat(jdbcTemplate.queryForObject("""
+      SELECT bootstrap_descriptor #>> '{provides,0,handlers}' AS empty_handlers,
+             jsonb_exists(bootstrap_descriptor -> 'provides' -> 1, 'handlers') AS has_handlers
+        FROM module WHERE id = ?""", (rs, rowNum) -> List.of(rs.getString(1), rs.getBoolean(2)), MODULE_FOO_ID))
+      .containsExactly("[]", false);
+  }
+
   private static void assertNoDuplicateRows(List<ModuleBootstrapView> views) {
     assertThat(views)
       .extracting(view -> view.getId() + "@" + view.getApplicationId())
@@ -0,0 +1,133 @@
+package org.folio.am.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.folio.am.domain.entity.ModuleDiscoveryRecord;
+import org.folio.am.domain.entity.ModuleType;
+import org.folio.am.support.base.BaseRepositoryTest;
+import org.folio.test.types.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@IntegrationTest
+@Sql(scripts = "classpath:/sql/truncate-tables.sql", executionPhase = AFTER_TEST_METHOD)
+class ModuleDiscoveryBatchRepositoryIT extends BaseRepositoryTest {
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private ModuleDiscoveryBatchRepository batchRepository;
+
+  @BeforeEach
+  void setUp() {
+    batchRepository = new ModuleDiscoveryBatchRepository(jdbcTemplate);
+    insertModule("mod-foo", "BACKEND", null);
+    insertModule("mod-bar", "BACKEND", "http://mod-bar:8081");
+    insertModule("ui-baz", "UI", null);
+  }
+
+  @Test
+  void findAllByIds_positive() {
+    var result = batchRepository.findAllByIds(List.of("mod-foo-1.0.0", "mod-bar-1.0.0", "mod-unknown-1.0.0"));
+
+    assertThat(result).containsExactlyInAnyOrder(
+      new ModuleDiscoveryRecord("mod-foo-1.0.0", "mod-foo", "1.0.0", ModuleType.BACKEND, null),
+      new ModuleDiscoveryRecord("mod-bar-1.0.0", "mod-bar", "1.0.0", ModuleType.BACKEND, "http://mod-bar:8081"));
+  }
+
+  @Test
+  void updateDiscoveryUrls_positive() {
+    var locationsById = new LinkedHashMap<String, String>();
+    locationsById.put("mod-foo-1.0.0", "http://mod-foo:8081");
+    locationsById.put("mod-bar-1.0.0", null);
+    locationsById.put("ui-baz-1.0.0", "http://ui-baz:8080");
+
+    var result = batchRepository.updateDiscoveryUrls(locationsById);
+
+    assertThat(result).containsExactlyInAnyOrder(
+      new ModuleDiscoveryRecord("mod-foo-1.0.0", "mod-foo", "1.0.0", ModuleType.BACKEND, "http://mod-foo:8081"),
+      new ModuleDiscoveryRecord("mod-bar-1.0.0", "mod-bar", "1.0.0", ModuleType.BACKEND, null),
+      new ModuleDiscoveryRecord("ui-baz-1.0.0", "ui-baz", "1.0.0", ModuleType.UI, "http://ui-baz:8080"));
+    assertThat(jdbcTemplate.queryForList("SELECT discovery_url FROM module ORDER BY id", String.class))
+      .containsExactly(null, "http://mod-foo:8081", "http://ui-baz:8080");
+  }
+
+  @Test
+  void updateDiscoveryUrls_positive_unknownModuleIgnored() {
+    var result = batchRepository.updateDiscoveryUrls(Map.of("mod-unknown-1.0.0", "http://mod-unknown:8081"));
+
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void createDiscoveryUrls_positive_modulesWithDiscoveryUrlSkipped() {
+    var locationsById = new LinkedHashMap<String, String>();
+    locationsById.put("mod-foo-1.0.0", "http://mod-foo:8081");
+    locationsById.put("mod-bar-1.0.0", "http://mod-bar:8082");
+
+    var result = batchRepository.createDiscoveryUrls(locationsById);
+
+    assertThat(result).containsExactly(
+      new ModuleDiscoveryRecord("mod-foo-1.0.0", "mod-foo", "1.0.0", ModuleType.BACKEND, "http://mod-foo:8081"));
+    assertThat(jdbcTemplate.queryForList("SELECT discovery_url FROM module ORDER BY id", String.class))
+      .containsExactly("http://mod-bar:8081", "http://mod-foo:8081", null);
+  }
+
+  @Test
+  void removeDiscoveryUrls_positive() {
+    var result = batchRepository.removeDiscoveryUrls(List.of("mod-foo-1.0.0", "mod-bar-1.0.0"));
+
+    assertThat(result).containsExactly(
+      new ModuleDiscoveryRecord("mod-bar-1.0.0", "mod-bar", "1.0.0", ModuleType.BACKEND, null));
+    assertThat(jdbcTemplate.queryForList("SELECT discovery_url FROM module WHERE discovery_url IS NOT NULL",
+      String.class)).isEmpty();
+  }
+
+  @Test
+  void findById_positive() {
+    assertThat(batchRepository.findById("ui-baz-1.0.0"))
+      .contains(new ModuleDiscoveryRecord("ui-baz-1.0.0", "ui-baz", "1.0.0", ModuleType.UI, null));
+    assertThat(batchRepository.findById("mod-unknown-1.0.0")).isEmpty();
+  }
+
+  @Test
+  void updateDiscoveryUrl_positive() {
+    var result = batchRepository.updateDiscoveryUrl("mod-bar-1.0.0", "http://mod-bar:8082");
+
+    assertThat(result).contains(
+      new ModuleDiscoveryRecord("mod-bar-1.0.0", "mod-bar", "1.0.0", ModuleType.BACKEND, "http://mod-bar:8082"));
+    assertThat(batchRepository.updateDiscoveryUrl("mod-unknown-1.0.0", "http://mod-unknown:8081")).isEmpty();
+  }
+
+  @Test
+  void createDiscoveryUrl_positive() {
+    var result = batchRepository.createDiscoveryUrl("mod-foo-1.0.0", "http://mod-foo:8081");
+
+    assertThat(result).contains(
+      new ModuleDiscoveryRecord("mod-foo-1.0.0", "mod-foo", "1.0.0", ModuleType.BACKEND, "http://mod-foo:8081"));
+    assertThat(batchRepository.createDiscoveryUrl("mod-bar-1.0.0", "http://mod-bar:8082")).isEmpty();
+    assertThat(batchRepository.findById("mod-bar-1.0.0")).map(ModuleDiscoveryRecord::location)
+      .contains("http://mod-bar:8081");
+  }
+
+  @Test
+  void removeDiscoveryUrl_positive() {
+    assertThat(batchRepository.removeDiscoveryUrl("mod-bar-1.0.0"))
+      .contains(new ModuleDiscoveryRecord("mod-bar-1.0.0", "mod-bar", "1.0.0", ModuleType.BACKEND, null));
+    assertThat(batchRepository.removeDiscoveryUrl("mod-bar-1.0.0")).isEmpty();
+    assertThat(batchRepository.removeDiscoveryUrl("mod-foo-1.0.0")).isEmpty();
+  }
+
+  private void insertModule(String name, String type, String discoveryUrl) {
+    jdbcTemplate.update("""
+      INSERT INTO module (id, name, version, type, descriptor, discovery_url)
+        VALUES (?, ?, '1.0.0', ?::module_type, '{}'::jsonb, ?)
+      """, name + "-1.0.0", name, type, discoveryUrl);
+  }
+}
@@ -0,0 +1,150 @@
+package org.folio.am.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.am.support.TestConstants.OKAPI_AUTH_TOKEN;
+import static org.folio.am.support.TestValues.applicationDescriptor;
+import static org.folio.am.support.TestValues.applicationDescriptorEntity;
+import static org.folio.am.support.TestValues.module;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityExistsException;
+import java.util.List;
+import org.folio.am.domain.dto.ApplicationDescriptor;
+import org.folio.am.exception.RequestValidationException;
+import org.folio.am.mapper.ApplicationDescriptorMapper;
+import org.folio.am.repository.ApplicationBatchRepository;
+import org.folio.am.repository.ApplicationRepository;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ApplicationBatchServiceTest {
+
+  private static final String MODULE_URL = "http://registry.test/_/proxy/modules/";
+
+  @InjectMocks private ApplicationBatchService service;
+  @Mock private ApplicationRepository appRepository;
+  @Mock private ApplicationBatchRepository batchRepository;
+  @Mock private ApplicationDescriptorMapper mapper;
+  @Mock private ModuleDescriptorLoader moduleDescriptorLoader;
+  @Mock private ApplicationValidatorService applicationValidatorService;
+  @Mock private ApplicationDescriptorsValidationService descriptorsValidationService;
+  @Mock private ModuleBootstrapRefresher moduleBootstrapRefresher;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  @Test
+  void createAll_positive() {
+    var fooModule = module("mod-foo", "1.0.0", MODULE_URL + "mod-foo-1.0.0");
+    var barModule = module("mod-bar", "1.0.0", MODULE_URL + "mod-bar-1.0.0");
+    var sharedModule = module("mod-shared", "1.0.0", MODULE_URL + "mod-shared-1.0.0");
+    var fooApp = applicationDescriptor("app-foo", "1.0.0").modules(List.of(fooModule, sharedModule));
+    var barApp = applicationDescriptor("app-bar", "1.0.0").modules(List.of(sharedModule, barModule));
+    var descriptors = List.of(fooApp, barApp);
+    var fooDescriptor = new ModuleDescriptor().id("mod-foo-1.0.0");
+    var barDescriptor = new ModuleDescriptor().id("mod-bar-1.0.0");
+    var sharedDescriptor = new ModuleDescriptor().id("mod-shared-1.0.0");
+
+    when(appRepository.findExistingIds(List.of("app-foo-1.0.0", "app-bar-1.0.0"))).thenReturn(List.of());
+    when(moduleDescriptorLoader.loadByUrls(List.of(fooModule, sharedModule, barModule)))
+      .thenReturn(List.of(fooDescriptor, sharedDescriptor, barDescriptor));
+    when(moduleDescriptorLoader.loadByUrls(List.of())).thenReturn(List.of());
+    when(mapper.convert(any(ApplicationDescriptor.class)))
+      .thenAnswer(inv -> applicationDescriptorEntity(inv.getArgument(0)));
+
+    var actual = service.createAll(descriptors, OKAPI_AUTH_TOKEN, true);
+
+    assertThat(actual).containsExactly(fooApp, barApp);
+    assertThat(fooApp.getModuleDescriptors()).containsExactly(fooDescriptor, sharedDescriptor);
+    assertThat(barApp.getModuleDescriptors()).containsExactly(sharedDescriptor, barDescriptor);
+    verify(moduleDescriptorLoader).loadByUrls(List.of(fooModule, sharedModule, barModule));
+    verify(applicationValidatorService, times(2)).validate(any());
+    verify(descriptorsValidationService).validateDescriptors(descriptors);
+    verify(batchRepository).insertAll(anyList());
+    verify(moduleBootstrapRefresher).refresh(List.of("mod-foo-1.0.0", "mod-shared-1.0.0", "mod-bar-1.0.0"));
+  }
+
+  @Test
+  void createAll_positive_validationDisabled() {
+    var descriptors = List.of(applicationDescriptor("app-foo", "1.0.0"));
+
+    when(appRepository.findExistingIds(List.of("app-foo-1.0.0"))).thenReturn(List.of());
+    when(mapper.convert(any(ApplicationDescriptor.class)))
+      .thenAnswer(inv -> applicationDescriptorEntity(inv.getArgument(0)));
+
+    var actual = service.createAll(descriptors, OKAPI_AUTH_TOKEN, false);
+
+    assertThat(actual).hasSize(1);
+    verify(batchRepository).insertAll(anyList());
+    verifyNoInteractions(applicationValidatorService, descriptorsValidationService);
+  }
+
+  @Test
+  void createAll_negative_applicationExists() {
+    var descriptors = List.of(applicationDescriptor("app-foo", "1.0.0"));
+
+    when(appRepository.findExistingIds(List.of("app-foo-1.0.0"))).thenReturn(List.of("app-foo-1.0.0"));
+
+    assertThatThrownBy(() -> service.createAll(descriptors, OKAPI_AUTH_TOKEN, true))
+      .isInstanceOf(EntityExistsException.class)
+      .hasMessage("Application descriptors already created with ids: [app-foo-1.0.0]");
+    verifyNoInteractions(moduleDescriptorLoader, batchRepository);
+  }
+
+  @Test
+  void createAll_negative_duplicateApplication() {
+    var descriptors = List.of(applicationDescriptor("app-foo", "1.0.0"), applicationDescriptor("app-foo", "1.0.0"));
+
+    assertThatThrownBy(() -> service.createAll(descriptors, OKAPI_AUTH_TOKEN, true))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Duplicate application descriptor in the request");
+    verifyNoInteractions(appRepository, moduleDescriptorLoader, batchRepository);
+  }
+
+  @Test
+  void createAll_negative_loadedDescriptorIdMismatch() {
+    var fooModule = module("mod-foo", "1.0.0", MODULE_URL + "mod-foo-1.0.0");
+    var descriptors = List.of(applicationDescriptor("app-foo", "1.0.0").modules(List.of(fooModule)));
+
+    when(appRepository.findExistingIds(List.of("app-foo-1.0.0"))).thenReturn(List.of());
+    when(moduleDescriptorLoader.loadByUrls(List.of(fooModule)))
+      .thenReturn(List.of(new ModuleDescriptor().id("mod-foo-1.0.1")));
+
+    assertThatThrownBy(() -> service.createAll(descriptors, OKAPI_AUTH_TOKEN, true))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Module descriptor loaded by url does not match the module: "
+        + "module id = mod-foo-1.0.0, module descriptor id = mod-foo-1.0.1");
+    verifyNoInteractions(applicationValidatorService, batchRepository, moduleBootstrapRefresher);
+  }
+
+  @Test
+  void createAll_negative_insertedConcurrently() {
+    var descriptors = List.of(applicationDescriptor("app-foo", "1.0.0"));
+    var error = new DuplicateKeyException("duplicate key value violates unique constraint \"application_pkey\"");
+
+    when(appRepository.findExistingIds(List.of("app-foo-1.0.0"))).thenReturn(List.of());
+    when(mapper.convert(any(ApplicationDescriptor.class)))
+      .thenAnswer(inv -> applicationDescriptorEntity(inv.getArgument(0)));
+    doThrow(error).when(batchRepository).insertAll(anyList());
+
+    assertThatThrownBy(() -> service.createAll(descriptors, OKAPI_AUTH_TOKEN, false))
+      .isInstanceOf(EntityExistsException.class)
+      .hasMessage("Application descriptors already created with ids: [app-foo-1.0.0]")
+      .hasCause(error);
+    verifyNoInteractions(moduleBootstrapRefresher);
+  }
+}
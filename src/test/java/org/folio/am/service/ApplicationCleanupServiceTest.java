@@ -2,79 +2,242 @@ package org.folio.am.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doAnswer;
+import static org.folio.am.domain.entity.ApplicationCleanupJobRecord.STATUS_IN_PROGRESS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.List;
-import org.folio.am.exception.ApplicationInstalledException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.folio.am.config.properties.ApplicationCleanupProperties;
+import org.folio.am.domain.dto.ApplicationCleanupJob.StatusEnum;
+import org.folio.am.domain.entity.ApplicationCleanupJobRecord;
+import org.folio.am.exception.ServiceException;
 import org.folio.am.integration.mte.EntitlementService;
+import org.folio.am.repository.ApplicationCleanupJobRepository;
 import org.folio.am.repository.ApplicationRepository;
 import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
 class ApplicationCleanupServiceTest {
 
-  @InjectMocks private ApplicationCleanupService service;
+  private static final UUID JOB_ID = UUID.randomUUID();
+  private static final OffsetDateTime STARTED_DATE = OffsetDateTime.parse("2026-01-01T10:00:00Z");
+
+  private ApplicationCleanupService service;
   @Mock private ApplicationRepository applicationRepository;
+  @Mock private ApplicationCleanupJobRepository jobRepository;
   @Mock private ApplicationService applicationService;
   @Mock private EntitlementService entitlementService;
 
   @BeforeEach
   void setUp() {
+    var properties = new ApplicationCleanupProperties();
+    properties.setConcurrency(2);
+    properties.setChunkSize(2);
+    service = new ApplicationCleanupService(applicationRepository, jobRepository, applicationService, properties);
     ReflectionTestUtils.setField(service, "entitlementService", entitlementService);
   }
 
+  @AfterEach
+  void tearDown() {
+    service.destroy();
+  }
+
   @Test
-  void cleanup_positive_collectsCleanedSkippedAndFailedIds() {
+  void startCleanup_positive_collectsCleanedSkippedAndFailedIds() {
+    mockJobCreated();
     when(applicationRepository.findAllApplicationIds()).thenReturn(List.of(
       "app-a-1.0.0", "app-b-1.0.0", "app-c-1.0.0"
     ));
-    doAnswer(invocation -> {
-      var id = invocation.getArgument(0, String.class);
-      if ("app-b-1.0.0".equals(id)) {
-        throw new ApplicationInstalledException("Application is installed for tenants: [tenant-a]");
-      }
-      if ("app-c-1.0.0".equals(id)) {
-        throw new IllegalStateException("cleanup failed");
-      }
-      return null;
-    }).when(applicationService).delete(anyString(), eq("token"));
-
-    var result = service.cleanup("token");
-
-    assertThat(result.getInspected()).isEqualTo(3);
-    assertThat(result.getCleaned()).isEqualTo(1);
-    assertThat(result.getSkipped()).isEqualTo(1);
-    assertThat(result.getFailed()).isEqualTo(1);
-    assertThat(result.getCleanedIds()).containsExactly("app-a-1.0.0");
-    assertThat(result.getSkippedIds()).containsExactly("app-b-1.0.0");
-    assertThat(result.getFailedIds()).containsExactly("app-c-1.0.0");
-
-    verify(applicationService).delete("app-a-1.0.0", "token");
-    verify(applicationService).delete("app-b-1.0.0", "token");
-    verify(applicationService).delete("app-c-1.0.0", "token");
+    when(entitlementService.getTenantsByApplicationIds(List.of("app-a-1.0.0", "app-b-1.0.0"), "token"))
+      .thenReturn(Map.of("app-a-1.0.0", List.of(), "app-b-1.0.0", List.of("tenant-a")));
+    when(entitlementService.getTenantsByApplicationIds(List.of("app-c-1.0.0"), "token"))
+      .thenReturn(Map.of("app-c-1.0.0", List.of()));
+    doThrow(new IllegalStateException("cleanup failed"))
+      .when(applicationService).deleteNotInstalled("app-c-1.0.0", "token");
+
+    var job = service.startCleanup("token");
+
+    assertThat(job.getId()).isEqualTo(JOB_ID);
+    assertThat(job.getStatus()).isEqualTo(StatusEnum.IN_PROGRESS);
+    assertThat(job.getStartedDate()).isEqualTo(STARTED_DATE);
+
+    var result = awaitFinished();
+    assertThat(result.id()).isEqualTo(JOB_ID);
+    assertThat(result.status()).isEqualTo("COMPLETED");
+    assertThat(result.total()).isEqualTo(3);
+    assertThat(result.cleanedIds()).containsExactly("app-a-1.0.0");
+    assertThat(result.skippedIds()).containsExactly("app-b-1.0.0");
+    assertThat(result.failedIds()).containsExactly("app-c-1.0.0");
+
+    verify(jobRepository).failAbandoned(Duration.ofMinutes(10),
+      "Applications cleanup job is abandoned: the job progress is not updated for PT10M");
+    verify(jobRepository).deleteExpired(Duration.ofHours(1));
+    verify(jobRepository, times(4)).update(any());
+    verify(applicationService).deleteNotInstalled("app-a-1.0.0", "token");
+    verify(applicationService, never()).deleteNotInstalled("app-b-1.0.0", "token");
+  }
+
+  @Test
+  void startCleanup_positive_entitlementsLookupFailed() {
+    mockJobCreated();
+    when(applicationRepository.findAllApplicationIds()).thenReturn(List.of("app-a-1.0.0", "app-b-1.0.0"));
+    when(entitlementService.getTenantsByApplicationIds(List.of("app-a-1.0.0", "app-b-1.0.0"), "token"))
+      .thenThrow(new ServiceException("mgr-tenant-entitlements is not available", null));
+
+    service.startCleanup("token");
+
+    var result = awaitFinished();
+    assertThat(result.status()).isEqualTo("COMPLETED");
+    assertThat(result.failedIds()).containsExactly("app-a-1.0.0", "app-b-1.0.0");
+    verifyNoInteractions(applicationService);
+  }
+
+  @Test
+  void startCleanup_negative_entitlementsRequestUnauthorized() {
+    mockJobCreated();
+    var unauthorized = HttpClientErrorException.create(UNAUTHORIZED, "Unauthorized", new HttpHeaders(), null, null);
+    when(applicationRepository.findAllApplicationIds()).thenReturn(List.of(
+      "app-a-1.0.0", "app-b-1.0.0", "app-c-1.0.0"
+    ));
+    when(entitlementService.getTenantsByApplicationIds(List.of("app-a-1.0.0", "app-b-1.0.0"), "token"))
+      .thenThrow(new ServiceException("mgr-tenant-entitlements is not available", unauthorized));
+
+    service.startCleanup("token");
+
+    var result = awaitFinished();
+    assertThat(result.status()).isEqualTo("FAILED");
+    assertThat(result.error()).isEqualTo("Failed to retrieve entitlements for applications: "
+      + "request is unauthorized, x-okapi-token of the cleanup request is expired or invalid");
+    assertThat(result.cleanedIds()).isEmpty();
+    assertThat(result.skippedIds()).isEmpty();
+    assertThat(result.failedIds()).isEmpty();
+    verify(entitlementService, never()).getTenantsByApplicationIds(List.of("app-c-1.0.0"), "token");
+    verifyNoInteractions(applicationService);
+  }
+
+  @Test
+  void startCleanup_positive_runningJobReturned() {
+    when(jobRepository.create(any())).thenReturn(Optional.empty());
+    when(jobRepository.findRunning()).thenReturn(Optional.of(jobRecord(STATUS_IN_PROGRESS)));
+
+    var job = service.startCleanup("token");
+
+    assertThat(job.getId()).isEqualTo(JOB_ID);
+    assertThat(job.getStatus()).isEqualTo(StatusEnum.IN_PROGRESS);
+    verify(jobRepository, never()).update(any());
+    verifyNoInteractions(applicationRepository, entitlementService, applicationService);
   }
 
   @Test
-  void cleanup_negative_entitlementServiceIsNotAvailable() {
+  void startCleanup_negative_jobIsNotInProgressAnymore() {
+    when(jobRepository.create(any())).thenReturn(Optional.of(jobRecord(STATUS_IN_PROGRESS)));
+    when(jobRepository.update(any())).thenReturn(false);
+    when(applicationRepository.findAllApplicationIds()).thenReturn(List.of("app-a-1.0.0"));
+
+    service.startCleanup("token");
+
+    var result = awaitFinished();
+    assertThat(result.status()).isEqualTo("FAILED");
+    assertThat(result.error()).isEqualTo("Applications cleanup job is not in progress anymore: jobId = " + JOB_ID);
+    verifyNoInteractions(entitlementService, applicationService);
+  }
+
+  @Test
+  void startCleanup_negative_applicationIdsNotLoaded() {
+    mockJobCreated();
+    when(applicationRepository.findAllApplicationIds()).thenThrow(new IllegalStateException("Connection refused"));
+
+    service.startCleanup("token");
+
+    var result = awaitFinished();
+    assertThat(result.status()).isEqualTo("FAILED");
+    assertThat(result.error()).isEqualTo("Connection refused");
+    verifyNoInteractions(entitlementService, applicationService);
+  }
+
+  @Test
+  void startCleanup_negative_entitlementServiceIsNotAvailable() {
     ReflectionTestUtils.setField(service, "entitlementService", null);
 
-    assertThatThrownBy(() -> service.cleanup("token"))
+    assertThatThrownBy(() -> service.startCleanup("token"))
       .isInstanceOf(UnsupportedOperationException.class)
       .hasMessage("Applications cleanup is not supported: entitlement service is not available");
 
-    verifyNoInteractions(applicationRepository, applicationService);
+    verifyNoInteractions(jobRepository, applicationRepository, applicationService);
+  }
+
+  @Test
+  void getJob_positive() {
+    var finishedDate = STARTED_DATE.plusMinutes(1);
+    when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(new ApplicationCleanupJobRecord(JOB_ID, "COMPLETED",
+      STARTED_DATE, finishedDate, 3, null, List.of("app-a-1.0.0"), List.of("app-b-1.0.0"), List.of("app-c-1.0.0"))));
+
+    var result = service.getJob(JOB_ID);
+
+    assertThat(result.getStatus()).isEqualTo(StatusEnum.COMPLETED);
+    assertThat(result.getStartedDate()).isEqualTo(STARTED_DATE);
+    assertThat(result.getFinishedDate()).isEqualTo(finishedDate);
+    assertThat(result.getTotal()).isEqualTo(3);
+    var summary = result.getResult();
+    assertThat(summary.getInspected()).isEqualTo(3);
+    assertThat(summary.getCleaned()).isEqualTo(1);
+    assertThat(summary.getSkipped()).isEqualTo(1);
+    assertThat(summary.getFailed()).isEqualTo(1);
+    assertThat(summary.getCleanedIds()).containsExactly("app-a-1.0.0");
+    assertThat(summary.getSkippedIds()).containsExactly("app-b-1.0.0");
+    assertThat(summary.getFailedIds()).containsExactly("app-c-1.0.0");
+  }
+
+  @Test
+  void getJob_negative_notFound() {
+    var jobId = UUID.randomUUID();
+    when(jobRepository.findById(jobId)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> service.getJob(jobId))
+      .isInstanceOf(EntityNotFoundException.class)
+      .hasMessage("Unable to find applications cleanup job with id " + jobId);
+  }
+
+  private void mockJobCreated() {
+    when(jobRepository.create(any())).thenReturn(Optional.of(jobRecord(STATUS_IN_PROGRESS)));
+    when(jobRepository.update(any())).thenReturn(true);
+  }
+
+  private ApplicationCleanupJobRecord awaitFinished() {
+    verify(jobRepository, timeout(5000)).update(argThat(job -> !STATUS_IN_PROGRESS.equals(job.status())));
+    var captor = ArgumentCaptor.forClass(ApplicationCleanupJobRecord.class);
+    verify(jobRepository, atLeastOnce()).update(captor.capture());
+    return captor.getValue();
+  }
+
+  private static ApplicationCleanupJobRecord jobRecord(String status) {
+    return new ApplicationCleanupJobRecord(JOB_ID, status, STARTED_DATE, null, null, null, List.of(), List.of(),
+      List.of());
   }
 }
@@ -1,44 +1,43 @@
 package org.folio.am.service;
 
-import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.am.domain.entity.ModuleType.BACKEND;
 import static org.folio.am.service.validator.ValidationMode.ON_CREATE;
 import static org.folio.am.support.TestConstants.APPLICATION_ID;
 import static org.folio.am.support.TestConstants.APPLICATION_NAME;
 import static org.folio.am.support.TestConstants.APPLICATION_VERSION;
 import static org.folio.am.support.TestConstants.MODULE_BAR_ID;
-import static org.folio.am.support.TestConstants.MODULE_BAR_NAME;
 import static org.folio.am.support.TestConstants.MODULE_FOO_ID;
-import static org.folio.am.support.TestConstants.MODULE_FOO_NAME;
 import static org.folio.am.support.TestConstants.OKAPI_AUTH_TOKEN;
 import static org.folio.am.support.TestConstants.SERVICE_ID;
-import static org.folio.am.support.TestConstants.SERVICE_VERSION;
-import static org.folio.common.utils.CollectionUtils.mapItemsToSet;
+import static org.folio.common.utils.CollectionUtils.mapItems;
 import static org.folio.test.TestConstants.TENANT_ID;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import org.folio.am.domain.dto.ApplicationDescriptor;
-import org.folio.am.domain.dto.Module;
+import org.folio.am.domain.entity.ApplicationModuleProjection;
 import org.folio.am.domain.entity.ApplicationProjection;
-import org.folio.am.domain.entity.ArtifactEntity;
 import org.folio.am.domain.entity.ModuleEntity;
 import org.folio.am.exception.ApplicationInstalledException;
 import org.folio.am.integration.mte.EntitlementService;
 import org.folio.am.mapper.ApplicationDescriptorMapper;
+import org.folio.am.repository.ApplicationBatchRepository;
 import org.folio.am.repository.ApplicationRepository;
 import org.folio.am.repository.ModuleRepository;
 import org.folio.am.support.TestValues;
-import org.folio.common.domain.model.ModuleDescriptor;
 import org.folio.common.domain.model.OffsetRequest;
 import org.folio.common.domain.model.SearchResult;
 import org.folio.test.types.UnitTest;
@@ -48,26 +47,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
 class ApplicationServiceTest {
 
-  private static final String UI_MODULE_FOO_ID = "test-ui-module-foo-1.0.0";
-  private static final String UI_MODULE_FOO_NAME = "test-ui-module-foo";
-  private static final String UI_MODULE_BAR_ID = "test-ui-module-bar-1.0.0";
-  private static final String UI_MODULE_BAR_NAME = "test-ui-module-bar";
-
   @InjectMocks private ApplicationService service;
   @Mock private ApplicationRepository repository;
   @Mock private ModuleRepository moduleRepository;
+  @Mock private ApplicationBatchRepository batchRepository;
   @Mock private ApplicationDescriptorMapper mapper;
   @Mock private ApplicationEventPublisher eventPublisher;
-  @Mock private ModuleDiscoveryService discoveryService;
   @Mock private ApplicationValidatorService applicationValidatorService;
   @Mock private ModuleDescriptorLoader moduleDescriptorLoader;
+  @Mock private ModuleBootstrapRefresher moduleBootstrapRefresher;
+  @Mock private PlatformTransactionManager transactionManager;
   @Mock private EntitlementService entitlementService;
 
   @BeforeEach
@@ -140,12 +138,9 @@ class ApplicationServiceTest {
     var descriptor = TestValues.applicationDescriptor();
     var context = TestValues.validationContext(descriptor, List.of(ON_CREATE));
     var entity = TestValues.applicationDescriptorEntity();
-    var moduleIds = mapItemsToSet(entity.getModules(), ArtifactEntity::getId);
 
     when(repository.findById(APPLICATION_ID)).thenReturn(Optional.empty());
     when(mapper.convert(descriptor)).thenReturn(entity);
-    when(moduleRepository.findAllById(moduleIds)).thenReturn(emptyList());
-    when(repository.save(entity)).thenReturn(entity);
 
     var actual = service.create(descriptor, OKAPI_AUTH_TOKEN, true);
 
@@ -162,7 +157,6 @@ class ApplicationServiceTest {
 
     when(repository.findById(APPLICATION_ID)).thenReturn(Optional.empty());
     when(mapper.convert(descriptor)).thenReturn(entity);
-    when(repository.save(entity)).thenReturn(entity);
 
     var actual = service.create(descriptor, OKAPI_AUTH_TOKEN, false);
 
@@ -179,7 +173,6 @@ class ApplicationServiceTest {
 
     when(repository.findById(APPLICATION_ID)).thenReturn(Optional.empty());
     when(mapper.convert(expectedDescriptor)).thenReturn(expectedDescriptorEntity);
-    when(repository.save(expectedDescriptorEntity)).thenReturn(expectedDescriptorEntity);
 
     var actual = service.create(descriptor, OKAPI_AUTH_TOKEN, true);
 
@@ -188,29 +181,19 @@ class ApplicationServiceTest {
   }
 
   @Test
-  void create_positive_discoveryCopied() {
-    final var descriptor = TestValues.applicationDescriptor();
-    final var context = TestValues.validationContext(descriptor, List.of(ON_CREATE));
-    final var entity = TestValues.applicationDescriptorEntity();
-    final var moduleIds = mapItemsToSet(entity.getModules(), ArtifactEntity::getId);
-    final var module = first(entity.getModules());
-    final var dbModule = copyOf(module);
-    dbModule.setDiscoveryUrl("http://test.url");
+  void create_positive_storedWithBatchRepository() {
+    var descriptor = TestValues.applicationDescriptor();
+    var entity = TestValues.applicationDescriptorEntity();
 
     when(repository.findById(APPLICATION_ID)).thenReturn(Optional.empty());
     when(mapper.convert(descriptor)).thenReturn(entity);
-    when(moduleRepository.findAllById(moduleIds)).thenReturn(List.of(dbModule));
-    when(repository.save(entity)).thenReturn(entity);
 
     var actual = service.create(descriptor, OKAPI_AUTH_TOKEN, true);
 
     assertThat(actual).isEqualTo(descriptor);
-    assertThat(entity.getModules())
-      .anyMatch(me -> me.getDiscoveryUrl().equals(dbModule.getDiscoveryUrl()));
-
-    verify(applicationValidatorService).validate(context);
-    verify(moduleDescriptorLoader).loadByUrls(descriptor.getModules());
-    verify(moduleDescriptorLoader).loadByUrls(descriptor.getUiModules());
+    verify(batchRepository).insertAll(List.of(entity));
+    verify(repository, never()).save(any());
+    verify(moduleBootstrapRefresher).refresh(mapItems(entity.getModules(), ModuleEntity::getId));
   }
 
   @Test
@@ -226,67 +209,127 @@ class ApplicationServiceTest {
     verifyNoInteractions(applicationValidatorService);
   }
 
+  @Test
+  void create_positive_descriptorsLoadedOutsideOfTransaction() {
+    var descriptor = TestValues.applicationDescriptor();
+    var entity = TestValues.applicationDescriptorEntity();
+
+    when(repository.findById(APPLICATION_ID)).thenReturn(Optional.empty());
+    when(mapper.convert(descriptor)).thenReturn(entity);
+
+    service.create(descriptor, OKAPI_AUTH_TOKEN, true);
+
+    var inOrder = inOrder(moduleDescriptorLoader, applicationValidatorService, transactionManager, batchRepository);
+    inOrder.verify(moduleDescriptorLoader).loadByUrls(descriptor.getModules());
+    inOrder.verify(moduleDescriptorLoader).loadByUrls(descriptor.getUiModules());
+    inOrder.verify(applicationValidatorService).validate(any());
+    inOrder.verify(transactionManager).getTransaction(any());
+    inOrder.verify(batchRepository).insertAll(List.of(entity));
+    inOrder.verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void create_negative_createdConcurrently() {
+    var descriptor = TestValues.applicationDescriptor();
+
+    when(repository.findById(APPLICATION_ID))
+      .thenReturn(Optional.empty())
+      .thenReturn(Optional.of(TestValues.applicationDescriptorEntity()));
+
+    assertThatThrownBy(() -> service.create(descriptor, OKAPI_AUTH_TOKEN, true))
+      .isInstanceOf(EntityExistsException.class)
+      .hasMessage("Application descriptor already created with id: " + APPLICATION_ID);
+    verify(transactionManager).rollback(any());
+    verifyNoInteractions(batchRepository);
+  }
+
+  @Test
+  void create_negative_insertedConcurrently() {
+    var descriptor = TestValues.applicationDescriptor();
+    var entity = TestValues.applicationDescriptorEntity();
+    var error = new DuplicateKeyException("duplicate key value violates unique constraint \"application_pkey\"");
+
+    when(repository.findById(APPLICATION_ID)).thenReturn(Optional.empty());
+    when(mapper.convert(descriptor)).thenReturn(entity);
+    doThrow(error).when(batchRepository).insertAll(List.of(entity));
+
+    assertThatThrownBy(() -> service.create(descriptor, OKAPI_AUTH_TOKEN, true))
+      .isInstanceOf(EntityExistsException.class)
+      .hasMessage("Application descriptor already created with id: " + APPLICATION_ID)
+      .hasCause(error);
+    verify(transactionManager).rollback(any());
+    verifyNoInteractions(moduleBootstrapRefresher);
+  }
+
   @Test
   void delete_positive_applicationAndModulesAreRemoved() {
-    var expectedEntityToDelete = TestValues.applicationDescriptorEntity(descriptorWithSeveralModules());
-    when(repository.findById(APPLICATION_ID)).thenReturn(Optional.of(expectedEntityToDelete));
+    var fooModule = moduleProjection(MODULE_FOO_ID, "http://foo:8081", true);
+    var barModule = moduleProjection(MODULE_BAR_ID, null, true);
+    when(repository.existsById(APPLICATION_ID)).thenReturn(true);
     when(entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN)).thenReturn(List.of());
-    expectedEntityToDelete.getModules().forEach(module -> {
-      when(repository.existsByNotIdAndModuleId(expectedEntityToDelete.getId(), module.getId())).thenReturn(false);
-      doNothing().when(discoveryService).delete(module.getId(), OKAPI_AUTH_TOKEN);
-      doNothing().when(moduleRepository).delete(module);
-    });
+    when(moduleRepository.findAllByApplicationId(APPLICATION_ID)).thenReturn(List.of(fooModule, barModule));
 
     service.delete(APPLICATION_ID, OKAPI_AUTH_TOKEN);
 
-    verify(repository).delete(expectedEntityToDelete);
-    expectedEntityToDelete.getModules().forEach(module -> {
-      verify(discoveryService).delete(module.getId(), OKAPI_AUTH_TOKEN);
-      verify(moduleRepository).delete(module);
-    });
+    verify(batchRepository).deleteApplication(APPLICATION_ID, List.of(MODULE_FOO_ID, MODULE_BAR_ID));
+    verify(eventPublisher).publishDiscoveryDelete(MODULE_FOO_ID, MODULE_FOO_ID, BACKEND, OKAPI_AUTH_TOKEN);
+    verifyNoMoreInteractions(eventPublisher);
+    verify(moduleBootstrapRefresher).refresh(List.of(MODULE_FOO_ID, MODULE_BAR_ID));
+    verify(entitlementService).evict(APPLICATION_ID);
   }
 
   @Test
   void delete_positive_tenantEntitlementsIntegrationDisabled() {
     service.setEntitlementService(null);
-    var expectedEntityToDelete = TestValues.applicationDescriptorEntity(descriptorWithSeveralModules());
-    when(repository.findById(APPLICATION_ID)).thenReturn(Optional.of(expectedEntityToDelete));
-    expectedEntityToDelete.getModules().forEach(module -> {
-      when(repository.existsByNotIdAndModuleId(expectedEntityToDelete.getId(), module.getId())).thenReturn(false);
-      doNothing().when(discoveryService).delete(module.getId(), OKAPI_AUTH_TOKEN);
-      doNothing().when(moduleRepository).delete(module);
-    });
+    var fooModule = moduleProjection(MODULE_FOO_ID, "http://foo:8081", true);
+    when(repository.existsById(APPLICATION_ID)).thenReturn(true);
+    when(moduleRepository.findAllByApplicationId(APPLICATION_ID)).thenReturn(List.of(fooModule));
 
     service.delete(APPLICATION_ID, OKAPI_AUTH_TOKEN);
 
-    verify(repository).delete(expectedEntityToDelete);
+    verify(batchRepository).deleteApplication(APPLICATION_ID, List.of(MODULE_FOO_ID));
+    verify(eventPublisher).publishDiscoveryDelete(MODULE_FOO_ID, MODULE_FOO_ID, BACKEND, OKAPI_AUTH_TOKEN);
     verifyNoInteractions(entitlementService);
   }
 
   @Test
   void delete_positive_relatedModulesArePreserved() {
-    var expectedEntityToDelete = TestValues.applicationDescriptorEntity(descriptorWithSeveralModules());
-    when(repository.findById(APPLICATION_ID)).thenReturn(Optional.of(expectedEntityToDelete));
+    var fooModule = moduleProjection(MODULE_FOO_ID, "http://foo:8081", false);
+    var barModule = moduleProjection(MODULE_BAR_ID, "http://bar:8081", false);
+    when(repository.existsById(APPLICATION_ID)).thenReturn(true);
     when(entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN)).thenReturn(List.of());
-    expectedEntityToDelete.getModules().forEach(module ->
-      when(repository.existsByNotIdAndModuleId(expectedEntityToDelete.getId(), module.getId())).thenReturn(true));
+    when(moduleRepository.findAllByApplicationId(APPLICATION_ID)).thenReturn(List.of(fooModule, barModule));
 
     service.delete(APPLICATION_ID, OKAPI_AUTH_TOKEN);
 
-    verify(repository).delete(expectedEntityToDelete);
-    verifyNoInteractions(discoveryService, moduleRepository);
+    verify(batchRepository).deleteApplication(APPLICATION_ID, List.of());
+    verify(moduleBootstrapRefresher).refresh(List.of(MODULE_FOO_ID, MODULE_BAR_ID));
+    verifyNoInteractions(eventPublisher);
+  }
+
+  @Test
+  void deleteNotInstalled_positive_entitlementsNotChecked() {
+    var fooModule = moduleProjection(MODULE_FOO_ID, "http://foo:8081", true);
+    when(repository.existsById(APPLICATION_ID)).thenReturn(true);
+    when(moduleRepository.findAllByApplicationId(APPLICATION_ID)).thenReturn(List.of(fooModule));
+
+    service.deleteNotInstalled(APPLICATION_ID, OKAPI_AUTH_TOKEN);
+
+    verify(batchRepository).deleteApplication(APPLICATION_ID, List.of(MODULE_FOO_ID));
+    verify(eventPublisher).publishDiscoveryDelete(MODULE_FOO_ID, MODULE_FOO_ID, BACKEND, OKAPI_AUTH_TOKEN);
+    verifyNoInteractions(entitlementService);
   }
 
   @Test
   void delete_negative_applicationIsInstalledForTenant() {
-    var expectedEntityToDelete = TestValues.applicationDescriptorEntity();
     var tenants = List.of(TENANT_ID);
-    when(repository.findById(APPLICATION_ID)).thenReturn(Optional.of(expectedEntityToDelete));
+    when(repository.existsById(APPLICATION_ID)).thenReturn(true);
     when(entitlementService.getTenants(APPLICATION_ID, OKAPI_AUTH_TOKEN)).thenReturn(tenants);
 
     assertThatThrownBy(() -> service.delete(APPLICATION_ID, OKAPI_AUTH_TOKEN))
       .isInstanceOf(ApplicationInstalledException.class)
       .hasMessage("Application Descriptor cannot be removed because it is installed for tenants: " + tenants);
+    verifyNoInteractions(batchRepository, eventPublisher);
   }
 
   @Test
@@ -294,6 +337,7 @@ class ApplicationServiceTest {
     assertThatThrownBy(() -> service.delete(APPLICATION_ID, OKAPI_AUTH_TOKEN))
       .isInstanceOf(EntityNotFoundException.class)
       .hasMessage("Unable to find application descriptor with id " + APPLICATION_ID);
+    verifyNoInteractions(batchRepository);
   }
 
   @Test
@@ -308,33 +352,28 @@ class ApplicationServiceTest {
     assertThat(actual).isEqualTo(List.of(applicationDescriptor));
   }
 
-  private static ApplicationDescriptor descriptorWithSeveralModules() {
-    return TestValues.applicationDescriptor(APPLICATION_ID, APPLICATION_NAME, APPLICATION_VERSION)
-      .addModulesItem(new Module().id(MODULE_FOO_ID).name(MODULE_FOO_NAME).version(SERVICE_VERSION))
-      .addModulesItem(new Module().id(MODULE_BAR_ID).name(MODULE_BAR_NAME).version(SERVICE_VERSION))
-      .addModuleDescriptorsItem(new ModuleDescriptor().id(MODULE_FOO_ID))
-      .addModuleDescriptorsItem(new ModuleDescriptor().id(MODULE_BAR_ID))
-      .addUiModulesItem(new Module().id(UI_MODULE_FOO_ID).name(UI_MODULE_FOO_NAME).version(SERVICE_VERSION))
-      .addUiModulesItem(new Module().id(UI_MODULE_BAR_ID).name(UI_MODULE_BAR_NAME).version(SERVICE_VERSION))
-      .addUiModuleDescriptorsItem(new ModuleDescriptor().id(UI_MODULE_FOO_ID))
-      .addUiModuleDescriptorsItem(new ModuleDescriptor().id(UI_MODULE_BAR_ID));
-  }
-
-  private static ModuleEntity first(Set<ModuleEntity> modules) {
-    return modules.stream().findFirst()
-      .orElseThrow(() -> new IllegalArgumentException("At least one module is required"));
-  }
+  private static ApplicationModuleProjection moduleProjection(String id, String discoveryUrl, boolean orphan) {
+    return new ApplicationModuleProjection() {
+      @Override
+      public String getId() {
+        return id;
+      }
 
-  private static ModuleEntity copyOf(ModuleEntity module) {
-    var result = ModuleEntity.of(module.getId(), module.getType());
+      @Override
+      public String getType() {
+        return BACKEND.name();
+      }
 
-    result.setName(module.getName());
-    result.setVersion(module.getVersion());
-    result.setDescriptor(module.getDescriptor());
-    result.setInterfaces(module.getInterfaces());
-    result.setDiscoveryUrl(module.getDiscoveryUrl());
+      @Override
+      public String getDiscoveryUrl() {
+        return discoveryUrl;
+      }
 
-    return result;
+      @Override
+      public boolean isOrphan() {
+        return orphan;
+      }
+    };
   }
 
   private static ApplicationProjection createApplicationSlice(String id, String name, String version) {
@@ -0,0 +1,120 @@
+package org.folio.am.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.folio.am.support.TestConstants.MODULE_BAR_ID;
+import static org.folio.am.support.TestConstants.MODULE_BAR_INTERFACE_ID;
+import static org.folio.am.support.TestConstants.MODULE_FOO_ID;
+import static org.folio.am.support.TestConstants.MODULE_FOO_INTERFACE_ID;
+import static org.folio.am.support.TestValues.moduleBootstrapView;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.folio.am.domain.dto.ModuleDiscovery;
+import org.folio.am.domain.entity.ModuleBootstrapView;
+import org.folio.am.domain.entity.ModuleType;
+import org.folio.am.repository.ModuleBootstrapRepository;
+import org.folio.common.domain.model.InterfaceReference;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ModuleBootstrapIndexTest {
+
+  @Mock private ModuleBootstrapRepository repository;
+
+  private ModuleBootstrapIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new ModuleBootstrapIndex(repository, Duration.ZERO);
+  }
+
+  @AfterEach
+  void tearDown() {
+    index.destroy();
+  }
+
+  @Test
+  void findAllRequiredByModuleId_positive() {
+    when(repository.findAll()).thenReturn(List.of(fooView(), barView()));
+    index.rebuild();
+
+    var actual = index.findAllRequiredByModuleId(MODULE_FOO_ID);
+
+    assertThat(actual).hasValueSatisfying(views ->
+      assertThat(views).extracting(ModuleBootstrapView::getId).containsExactly(MODULE_FOO_ID, MODULE_BAR_ID));
+  }
+
+  @Test
+  void findAllRequiredByModuleId_positive_indexIsNotBuilt() {
+    var actual = index.findAllRequiredByModuleId(MODULE_FOO_ID);
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  void findAllRequiredByModuleId_positive_moduleIsNotIndexed() {
+    when(repository.findAll()).thenReturn(List.of(barView()));
+    index.rebuild();
+
+    var actual = index.findAllRequiredByModuleId(MODULE_FOO_ID);
+
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  void onDiscoveryDelete_positive_providerIsSkipped() {
+    when(repository.findAll()).thenReturn(List.of(fooView(), barView()));
+    index.rebuild();
+
+    index.onDiscoveryDelete(MODULE_BAR_ID, MODULE_BAR_ID, ModuleType.BACKEND, null);
+
+    await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+      assertThat(index.findAllRequiredByModuleId(MODULE_FOO_ID)).hasValueSatisfying(views ->
+        assertThat(views).extracting(ModuleBootstrapView::getId).containsExactly(MODULE_FOO_ID)));
+  }
+
+  @Test
+  void onDiscoveryUpdate_positive() {
+    when(repository.findAll()).thenReturn(List.of(fooView(), barView()));
+    index.rebuild();
+
+    var discovery = new ModuleDiscovery().id(MODULE_BAR_ID).location("http://bar-updated:8081");
+    index.onDiscoveryUpdate(discovery, ModuleType.BACKEND, null);
+
+    await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+      assertThat(index.findAllRequiredByModuleId(MODULE_FOO_ID)).hasValueSatisfying(views ->
+        assertThat(views).extracting(ModuleBootstrapView::getLocation).last().isEqualTo("http://bar-updated:8081")));
+  }
+
+  @Test
+  void reload_positive_moduleRemoved() {
+    when(repository.findAll()).thenReturn(List.of(fooView(), barView()));
+    when(repository.findAllById(Set.of(MODULE_BAR_ID))).thenReturn(List.of());
+    index.rebuild();
+
+    index.reload(List.of(MODULE_BAR_ID));
+
+    await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+      assertThat(index.findAllRequiredByModuleId(MODULE_FOO_ID)).hasValueSatisfying(views ->
+        assertThat(views).extracting(ModuleBootstrapView::getId).containsExactly(MODULE_FOO_ID)));
+  }
+
+  private static ModuleBootstrapView fooView() {
+    var view = moduleBootstrapView(MODULE_FOO_ID, MODULE_FOO_INTERFACE_ID);
+    view.getDescriptor().addRequiresItem(new InterfaceReference().id(MODULE_BAR_INTERFACE_ID));
+    return view;
+  }
+
+  private static ModuleBootstrapView barView() {
+    return moduleBootstrapView(MODULE_BAR_ID, MODULE_BAR_INTERFACE_ID);
+  }
+}
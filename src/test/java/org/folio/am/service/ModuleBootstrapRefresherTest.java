@@ -0,0 +1,55 @@
+package org.folio.am.service;
+
+import static org.folio.am.support.TestConstants.MODULE_BAR_ID;
+import static org.folio.am.support.TestConstants.MODULE_FOO_ID;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ModuleBootstrapRefresherTest {
+
+  @Mock private ModuleBootstrapSnapshotService bootstrapSnapshotService;
+  @Mock private ModuleBootstrapIndex moduleBootstrapIndex;
+
+  private ModuleBootstrapRefresher refresher;
+
+  @BeforeEach
+  void setUp() {
+    refresher = new ModuleBootstrapRefresher(bootstrapSnapshotService);
+    refresher.setModuleBootstrapIndex(moduleBootstrapIndex);
+  }
+
+  @Test
+  void refresh_positive() {
+    refresher.refresh(List.of(MODULE_FOO_ID, MODULE_BAR_ID));
+
+    verify(bootstrapSnapshotService).invalidate();
+    verify(moduleBootstrapIndex).reload(List.of(MODULE_FOO_ID, MODULE_BAR_ID));
+  }
+
+  @Test
+  void refresh_positive_indexDisabled() {
+    refresher.setModuleBootstrapIndex(null);
+
+    refresher.refresh(List.of(MODULE_FOO_ID));
+
+    verify(bootstrapSnapshotService).invalidate();
+    verifyNoInteractions(moduleBootstrapIndex);
+  }
+
+  @Test
+  void refresh_positive_noModules() {
+    refresher.refresh(List.of());
+
+    verifyNoInteractions(bootstrapSnapshotService, moduleBootstrapIndex);
+  }
+}
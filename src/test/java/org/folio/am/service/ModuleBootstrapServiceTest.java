@@ -17,6 +17,7 @@ import static org.mockito.Mockito.when;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import org.folio.am.mapper.ModuleBootstrapMapperImpl;
 import org.folio.am.repository.ModuleBootstrapRepository;
@@ -146,4 +147,42 @@ class ModuleBootstrapServiceTest {
       .isInstanceOf(EntityNotFoundException.class)
       .hasMessage("Module not found by id: " + MODULE_FOO_ID);
   }
+
+  @Test
+  void getEgressBootstraps_positive() {
+    var fooView = moduleBootstrapView(MODULE_FOO_ID, MODULE_FOO_INTERFACE_ID);
+    fooView.getDescriptor().addRequiresItem(new InterfaceReference().id(MODULE_BAR_INTERFACE_ID));
+    var barView = moduleBootstrapView(MODULE_BAR_ID, MODULE_BAR_INTERFACE_ID, "not-required-interface");
+    barView.getDescriptor().addRequiresItem(new InterfaceReference().id(MODULE_FOO_INTERFACE_ID));
+    var scope = List.of("test-app-1.0.0");
+    var moduleIds = List.of(MODULE_FOO_ID, MODULE_BAR_ID, "unknown-module-1.0.0");
+    when(repository.findAllRequiredByModuleIdsAndApplicationIdsIn(new LinkedHashSet<>(moduleIds), scope))
+      .thenReturn(List.of(fooView, barView));
+
+    var actual = service.getEgressBootstraps(moduleIds, scope);
+
+    assertThat(actual).containsOnlyKeys(MODULE_FOO_ID, MODULE_BAR_ID);
+    assertThat(actual.get(MODULE_FOO_ID).getRequiredModules())
+      .containsExactly(moduleBootstrapDiscovery(MODULE_BAR_ID, MODULE_BAR_INTERFACE_ID));
+    assertThat(actual.get(MODULE_BAR_ID).getRequiredModules())
+      .containsExactly(moduleBootstrapDiscovery(MODULE_FOO_ID, MODULE_FOO_INTERFACE_ID));
+  }
+
+  @Test
+  void getEgressBootstraps_positive_providerWithoutLocation() {
+    var fooView = moduleBootstrapView(MODULE_FOO_ID, MODULE_FOO_INTERFACE_ID);
+    fooView.getDescriptor().addRequiresItem(new InterfaceReference().id(MODULE_BAR_INTERFACE_ID));
+    var barView = moduleBootstrapView(MODULE_BAR_ID, MODULE_BAR_INTERFACE_ID);
+    barView.setLocation(null);
+    var scope = List.of("test-app-1.0.0");
+    var moduleIds = List.of(MODULE_FOO_ID, MODULE_BAR_ID);
+    when(repository.findAllRequiredByModuleIdsAndApplicationIdsIn(new LinkedHashSet<>(moduleIds), scope))
+      .thenReturn(List.of(fooView, barView));
+
+    var actual = service.getEgressBootstraps(moduleIds, scope);
+
+    assertThat(actual).containsOnlyKeys(MODULE_FOO_ID, MODULE_BAR_ID);
+    assertThat(actual.get(MODULE_FOO_ID).getRequiredModules()).isEmpty();
+    assertThat(actual.get(MODULE_BAR_ID).getRequiredModules()).isEmpty();
+  }
 }
@@ -0,0 +1,87 @@
+package org.folio.am.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.am.support.TestConstants.MODULE_FOO_ID;
+import static org.folio.am.support.TestConstants.MODULE_FOO_INTERFACE_ID;
+import static org.folio.am.support.TestValues.moduleBootstrap;
+import static org.folio.am.support.TestValues.moduleBootstrapDiscovery;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.folio.am.config.properties.ModuleBootstrapProperties;
+import org.folio.am.domain.dto.ModuleBootstrap;
+import org.folio.am.domain.dto.ModuleDiscovery;
+import org.folio.am.domain.entity.ModuleType;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ModuleBootstrapSnapshotServiceTest {
+
+  @Mock private ModuleBootstrapService moduleBootstrapService;
+
+  private final JsonMapper jsonMapper = JsonMapper.builder().build();
+  private ModuleBootstrapProperties properties;
+  private ModuleBootstrapSnapshotService snapshotService;
+
+  @BeforeEach
+  void setUp() {
+    properties = new ModuleBootstrapProperties();
+    snapshotService = new ModuleBootstrapSnapshotService(moduleBootstrapService, jsonMapper, properties);
+  }
+
+  @Test
+  void getById_positive_cacheDisabled() {
+    var bootstrap = moduleBootstrap(moduleBootstrapDiscovery(MODULE_FOO_ID, MODULE_FOO_INTERFACE_ID));
+    when(moduleBootstrapService.getById(MODULE_FOO_ID)).thenReturn(bootstrap);
+
+    var first = snapshotService.getById(MODULE_FOO_ID);
+    var second = snapshotService.getById(MODULE_FOO_ID);
+
+    assertThat(jsonMapper.readValue(first.content(), ModuleBootstrap.class)).isEqualTo(bootstrap);
+    assertThat(first.etag()).isNull();
+    assertThat(second.etag()).isNull();
+    assertThat(first.isNotModified("*")).isFalse();
+    verify(moduleBootstrapService, times(2)).getById(MODULE_FOO_ID);
+  }
+
+  @Test
+  void getById_positive_cacheEnabled() {
+    properties.getCache().setEnabled(true);
+    var bootstrap = moduleBootstrap(moduleBootstrapDiscovery(MODULE_FOO_ID, MODULE_FOO_INTERFACE_ID));
+    when(moduleBootstrapService.getById(MODULE_FOO_ID)).thenReturn(bootstrap);
+
+    var first = snapshotService.getById(MODULE_FOO_ID);
+    var second = snapshotService.getById(MODULE_FOO_ID);
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.content()).isEqualTo(jsonMapper.writeValueAsBytes(bootstrap));
+    assertThat(first.etag()).startsWith("\"").endsWith("\"");
+    verify(moduleBootstrapService).getById(MODULE_FOO_ID);
+  }
+
+  @Test
+  void getById_positive_invalidatedByDiscoveryUpdate() {
+    properties.getCache().setEnabled(true);
+    var bootstrap = moduleBootstrap(moduleBootstrapDiscovery(MODULE_FOO_ID, MODULE_FOO_INTERFACE_ID));
+    var updatedBootstrap = moduleBootstrap(
+      moduleBootstrapDiscovery(MODULE_FOO_ID, MODULE_FOO_INTERFACE_ID).location("http://foo-updated:8081"));
+    when(moduleBootstrapService.getById(MODULE_FOO_ID)).thenReturn(bootstrap, updatedBootstrap);
+
+    var first = snapshotService.getById(MODULE_FOO_ID);
+    snapshotService.onDiscoveryUpdate(new ModuleDiscovery().id(MODULE_FOO_ID), ModuleType.BACKEND, null);
+    var second = snapshotService.getById(MODULE_FOO_ID);
+
+    assertThat(jsonMapper.readValue(second.content(), ModuleBootstrap.class)).isEqualTo(updatedBootstrap);
+    assertThat(second.etag()).isNotEqualTo(first.etag());
+    assertThat(second.isNotModified(first.etag())).isFalse();
+    assertThat(second.isNotModified("W/" + second.etag())).isTrue();
+  }
+}
@@ -0,0 +1,121 @@
+package org.folio.am.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.folio.am.service.ModuleDescriptorCache.CacheEntry;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@UnitTest
+class ModuleDescriptorCacheTest {
+
+  private static final String FOO_URL = "http://testhost.test/modules/foo-module-1.0.0";
+  private static final String BAR_URL = "http://testhost.test/modules/bar-module-1.0.0";
+  private static final String BAZ_URL = "http://testhost.test/modules/baz-module-1.0.0";
+
+  @TempDir private Path directory;
+
+  @Test
+  void get_positive() throws IOException {
+    var cache = new ModuleDescriptorCache(directory, 1024, true);
+    var content = descriptor("foo-module-1.0.0");
+
+    cache.put(FOO_URL, content, "\"v1\"", "Wed, 21 Oct 2015 07:28:00 GMT");
+
+    var entry = cache.get(FOO_URL);
+    assertThat(entry).isPresent();
+    assertThat(entry.get().etag()).isEqualTo("\"v1\"");
+    assertThat(entry.get().lastModified()).isEqualTo("Wed, 21 Oct 2015 07:28:00 GMT");
+    assertThat(readContent(entry.get())).isEqualTo(content);
+  }
+
+  @Test
+  void get_negative_notCached() {
+    var cache = new ModuleDescriptorCache(directory, 1024, true);
+
+    assertThat(cache.get(FOO_URL)).isEmpty();
+  }
+
+  @Test
+  void get_negative_contentDeleted() throws IOException {
+    var cache = new ModuleDescriptorCache(directory, 1024, true);
+    cache.put(FOO_URL, descriptor("foo-module-1.0.0"), null, null);
+
+    Files.delete(cache.get(FOO_URL).orElseThrow().contentPath());
+
+    assertThat(cache.get(FOO_URL)).isEmpty();
+  }
+
+  @Test
+  void put_positive_sameContentStoredOnce() throws IOException {
+    var cache = new ModuleDescriptorCache(directory, 1024, true);
+    var content = descriptor("foo-module-1.0.0");
+
+    cache.put(FOO_URL, content, null, null);
+    cache.put(BAR_URL, content, null, null);
+
+    assertThat(cache.get(FOO_URL).orElseThrow().contentPath())
+      .isEqualTo(cache.get(BAR_URL).orElseThrow().contentPath());
+    assertThat(listFiles(directory.resolve("content"))).isEqualTo(1);
+  }
+
+  @Test
+  void put_positive_leastRecentlyUsedEvicted() {
+    var foo = descriptor("foo-module-1.0.0");
+    var cache = new ModuleDescriptorCache(directory, foo.length * 2L, true);
+
+    cache.put(FOO_URL, foo, null, null);
+    cache.put(BAR_URL, descriptor("bar-module-1.0.0"), null, null);
+    cache.get(FOO_URL);
+    cache.put(BAZ_URL, descriptor("baz-module-1.0.0"), null, null);
+
+    assertThat(cache.get(FOO_URL)).isPresent();
+    assertThat(cache.get(BAR_URL)).isEmpty();
+    assertThat(cache.get(BAZ_URL)).isPresent();
+  }
+
+  @Test
+  void put_negative_contentTooLarge() {
+    var cache = new ModuleDescriptorCache(directory, 8, true);
+
+    cache.put(FOO_URL, descriptor("foo-module-1.0.0"), null, null);
+
+    assertThat(cache.get(FOO_URL)).isEmpty();
+  }
+
+  @Test
+  void init_positive_entriesLoadedFromDisk() throws IOException {
+    var content = descriptor("foo-module-1.0.0");
+    new ModuleDescriptorCache(directory, 1024, true).put(FOO_URL, content, "\"v1\"", null);
+    Files.writeString(directory.resolve("content").resolve("orphan.json"), "{}");
+
+    var cache = new ModuleDescriptorCache(directory, 1024, true);
+
+    var entry = cache.get(FOO_URL);
+    assertThat(entry).isPresent();
+    assertThat(entry.get().etag()).isEqualTo("\"v1\"");
+    assertThat(readContent(entry.get())).isEqualTo(content);
+    assertThat(listFiles(directory.resolve("content"))).isEqualTo(1);
+  }
+
+  private static byte[] descriptor(String id) {
+    return ("{\"id\":\"" + id + "\"}").getBytes(UTF_8);
+  }
+
+  private static byte[] readContent(CacheEntry entry) throws IOException {
+    try (var content = entry.openContent()) {
+      return content.readAllBytes();
+    }
+  }
+
+  private static long listFiles(Path path) throws IOException {
+    try (var files = Files.list(path)) {
+      return files.count();
+    }
+  }
+}
@@ -1,28 +1,49 @@
 package org.folio.am.service;
 
-import static java.net.http.HttpResponse.BodyHandlers.ofString;
+import static java.net.http.HttpResponse.BodyHandlers.ofInputStream;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.folio.am.config.properties.HttpClientProperties;
 import org.folio.am.exception.ServiceException;
+import org.folio.am.service.ModuleDescriptorCache.CacheEntry;
 import org.folio.am.support.TestValues;
 import org.folio.common.domain.model.ModuleDescriptor;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
 import tools.jackson.databind.ObjectMapper;
 
 @UnitTest
@@ -31,7 +52,8 @@ class ModuleDescriptorLoaderTest {
 
   @InjectMocks private ModuleDescriptorLoader moduleDescriptorLoader;
   @Mock private HttpClient httpClient;
-  @Mock private HttpResponse<String> httpResponse;
+  @Mock private HttpResponse<InputStream> httpResponse;
+  @Mock private HttpResponse<InputStream> notModifiedResponse;
   @Mock private HttpClientProperties httpClientProperties;
   @Spy private ObjectMapper objectMapper;
 
@@ -42,9 +64,9 @@ class ModuleDescriptorLoaderTest {
     var version = "1.0.0";
     var module = TestValues.module(name, version, url);
     var request = HttpRequest.newBuilder().GET().uri(URI.create(url)).build();
-    var body = "{\"name\":\"foo-module\",\"id\":\"foo-module-1.0.0\"}";
+    var body = inputStream("{\"name\":\"foo-module\",\"id\":\"foo-module-1.0.0\"}");
 
-    when(httpClient.send(request, ofString())).thenReturn(httpResponse);
+    when(httpClient.send(request, ofInputStream())).thenReturn(httpResponse);
     when(httpResponse.body()).thenReturn(body);
     when(httpClientProperties.getReadTimeout()).thenReturn(1000L);
 
@@ -81,7 +103,7 @@ class ModuleDescriptorLoaderTest {
     var module = TestValues.module("foo-module", "1.0.0", url);
     var request = HttpRequest.newBuilder().GET().uri(URI.create(url)).build();
 
-    when(httpClient.send(request, ofString())).thenThrow(new InterruptedException());
+    when(httpClient.send(request, ofInputStream())).thenThrow(new InterruptedException());
     when(httpClientProperties.getReadTimeout()).thenReturn(1000L);
 
     var modules = List.of(module);
@@ -90,4 +112,186 @@ class ModuleDescriptorLoaderTest {
       .isInstanceOf(ServiceException.class);
     verify(httpClientProperties).getReadTimeout();
   }
+
+  @Test
+  void loadByUrls_positive_concurrencyLimit() throws Exception {
+    var modules = List.of(
+      TestValues.module("foo-module", "1.0.0", "http://testhost.test/modules/foo-module-1.0.0"),
+      TestValues.module("bar-module", "1.0.0", "http://testhost.test/modules/bar-module-1.0.0"),
+      TestValues.module("baz-module", "1.0.0", "http://testhost.test/modules/baz-module-1.0.0"));
+    var activeRequests = new AtomicInteger();
+    var maxActiveRequests = new AtomicInteger();
+
+    when(httpClientProperties.getMaxConcurrentRequests()).thenReturn(2);
+    when(httpClientProperties.getReadTimeout()).thenReturn(1000L);
+    when(httpClient.send(any(HttpRequest.class), eq(ofInputStream()))).thenAnswer(inv -> {
+      maxActiveRequests.accumulateAndGet(activeRequests.incrementAndGet(), Math::max);
+      Thread.sleep(100);
+      activeRequests.decrementAndGet();
+      return httpResponse;
+    });
+    when(httpResponse.body()).thenAnswer(inv -> inputStream("{\"id\":\"foo-module-1.0.0\"}"));
+
+    var moduleDescriptors = moduleDescriptorLoader.loadByUrls(modules);
+
+    assertThat(moduleDescriptors).hasSize(3);
+    assertThat(maxActiveRequests.get()).isBetween(1, 2);
+  }
+
+  @Test
+  void loadByUrls_negative_deadlineExceeded() throws Exception {
+    var url = "http://testhost.test/modules/foo-module-1.0.0";
+    var module = TestValues.module("foo-module", "1.0.0", url);
+
+    when(httpClientProperties.getLoadDeadline()).thenReturn(100L);
+    when(httpClientProperties.getReadTimeout()).thenReturn(1000L);
+    when(httpClient.send(any(HttpRequest.class), eq(ofInputStream()))).thenAnswer(inv -> {
+      Thread.sleep(5000);
+      return httpResponse;
+    });
+
+    var modules = List.of(module);
+    assertThatThrownBy(() -> moduleDescriptorLoader.loadByUrls(modules))
+      .hasMessage("Failed to load module descriptor by url: " + url)
+      .hasRootCauseInstanceOf(TimeoutException.class)
+      .isInstanceOf(ServiceException.class);
+  }
+
+  @Test
+  void loadByUrls_positive_descriptorCached(@TempDir Path cacheDirectory) throws Exception {
+    var url = "http://testhost.test/modules/foo-module-1.0.0";
+    var module = TestValues.module("foo-module", "1.0.0", url);
+    var body = inputStream("{\"id\":\"foo-module-1.0.0\"}");
+    var headers = HttpHeaders.of(Map.of("ETag", List.of("\"v1\"")), (name, value) -> true);
+    var descriptorCache = new ModuleDescriptorCache(cacheDirectory, 1024, true);
+    moduleDescriptorLoader.setDescriptorCache(descriptorCache);
+
+    when(httpClientProperties.getReadTimeout()).thenReturn(1000L);
+    when(httpClient.send(any(HttpRequest.class), eq(ofInputStream()))).thenReturn(httpResponse);
+    when(httpResponse.statusCode()).thenReturn(200);
+    when(httpResponse.body()).thenReturn(body);
+    when(httpResponse.headers()).thenReturn(headers);
+
+    var moduleDescriptors = moduleDescriptorLoader.loadByUrls(List.of(module));
+
+    assertThat(moduleDescriptors).containsExactly(new ModuleDescriptor().id("foo-module-1.0.0"));
+    assertThat(descriptorCache.get(url)).get()
+      .extracting(ModuleDescriptorCache.CacheEntry::etag)
+      .isEqualTo("\"v1\"");
+  }
+
+  @Test
+  void loadByUrls_positive_notModified(@TempDir Path cacheDirectory) throws Exception {
+    var url = "http://testhost.test/modules/foo-module-1.0.0";
+    var module = TestValues.module("foo-module", "1.0.0", url);
+    var descriptorCache = new ModuleDescriptorCache(cacheDirectory, 1024, true);
+    descriptorCache.put(url, "{\"id\":\"foo-module-1.0.0\"}".getBytes(UTF_8), "\"v1\"", null);
+    moduleDescriptorLoader.setDescriptorCache(descriptorCache);
+    var requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+
+    when(httpClientProperties.getReadTimeout()).thenReturn(1000L);
+    when(httpClient.send(requestCaptor.capture(), eq(ofInputStream()))).thenReturn(httpResponse);
+    when(httpResponse.statusCode()).thenReturn(304);
+    when(httpResponse.body()).thenReturn(InputStream.nullInputStream());
+
+    var moduleDescriptors = moduleDescriptorLoader.loadByUrls(List.of(module));
+
+    assertThat(moduleDescriptors).containsExactly(new ModuleDescriptor().id("foo-module-1.0.0"));
+    assertThat(requestCaptor.getValue().headers().firstValue("If-None-Match")).hasValue("\"v1\"");
+  }
+
+  @Test
+  void loadByUrls_positive_cachedContentEvicted(@TempDir Path cacheDirectory) throws Exception {
+    var url = "http://testhost.test/modules/foo-module-1.0.0";
+    var module = TestValues.module("foo-module", "1.0.0", url);
+    var descriptorCache = spy(new ModuleDescriptorCache(cacheDirectory, 1024, true));
+    descriptorCache.put(url, "{\"id\":\"foo-module-1.0.0\"}".getBytes(UTF_8), "\"v1\"", null);
+    moduleDescriptorLoader.setDescriptorCache(descriptorCache);
+    var requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+    var headers = HttpHeaders.of(Map.of("ETag", List.of("\"v2\"")), (name, value) -> true);
+
+    doAnswer(inv -> {
+      @SuppressWarnings("unchecked")
+      var entry = (Optional<CacheEntry>) inv.callRealMethod();
+      Files.delete(entry.orElseThrow().contentPath());
+      return entry;
+    }).when(descriptorCache).get(url);
+    when(httpClientProperties.getReadTimeout()).thenReturn(1000L);
+    when(httpClient.send(requestCaptor.capture(), eq(ofInputStream()))).thenReturn(notModifiedResponse, httpResponse);
+    when(notModifiedResponse.statusCode()).thenReturn(304);
+    when(notModifiedResponse.body()).thenReturn(InputStream.nullInputStream());
+    when(httpResponse.statusCode()).thenReturn(200);
+    when(httpResponse.body()).thenReturn(inputStream("{\"id\":\"foo-module-1.0.0\",\"description\":\"v2\"}"));
+    when(httpResponse.headers()).thenReturn(headers);
+
+    var moduleDescriptors = moduleDescriptorLoader.loadByUrls(List.of(module));
+
+    assertThat(moduleDescriptors).containsExactly(new ModuleDescriptor().id("foo-module-1.0.0").description("v2"));
+    var requests = requestCaptor.getAllValues();
+    assertThat(requests).hasSize(2);
+    assertThat(requests.get(0).headers().firstValue("If-None-Match")).hasValue("\"v1\"");
+    assertThat(requests.get(1).headers().firstValue("If-None-Match")).isEmpty();
+    verify(descriptorCache).remove(any(CacheEntry.class));
+    doCallRealMethod().when(descriptorCache).get(url);
+    assertThat(descriptorCache.get(url)).get().extracting(CacheEntry::etag).isEqualTo("\"v2\"");
+  }
+
+  @Test
+  void loadByUrls_positive_cachedWithoutRevalidation(@TempDir Path cacheDirectory) {
+    var url = "http://testhost.test/modules/foo-module-1.0.0";
+    var module = TestValues.module("foo-module", "1.0.0", url);
+    var descriptorCache = new ModuleDescriptorCache(cacheDirectory, 1024, false);
+    descriptorCache.put(url, "{\"id\":\"foo-module-1.0.0\"}".getBytes(UTF_8), null, null);
+    moduleDescriptorLoader.setDescriptorCache(descriptorCache);
+
+    var moduleDescriptors = moduleDescriptorLoader.loadByUrls(List.of(module));
+
+    assertThat(moduleDescriptors).containsExactly(new ModuleDescriptor().id("foo-module-1.0.0"));
+    verifyNoInteractions(httpClient);
+  }
+
+  @Test
+  void loadByUrls_negative_contentLengthExceedsMaxSize() throws Exception {
+    var url = "http://testhost.test/modules/foo-module-1.0.0";
+    var module = TestValues.module("foo-module", "1.0.0", url);
+    var body = inputStream("{\"id\":\"foo-module-1.0.0\"}");
+    var headers = HttpHeaders.of(Map.of("Content-Length", List.of("2048")), (name, value) -> true);
+
+    when(httpClientProperties.getReadTimeout()).thenReturn(1000L);
+    when(httpClientProperties.getMaxDescriptorSize()).thenReturn(DataSize.ofKilobytes(1));
+    when(httpClient.send(any(HttpRequest.class), eq(ofInputStream()))).thenReturn(httpResponse);
+    when(httpResponse.body()).thenReturn(body);
+    when(httpResponse.headers()).thenReturn(headers);
+
+    var modules = List.of(module);
+    assertThatThrownBy(() -> moduleDescriptorLoader.loadByUrls(modules))
+      .isInstanceOf(ServiceException.class)
+      .hasMessage("Failed to load module descriptor by url: " + url)
+      .hasRootCauseMessage("Module descriptor size 2048 exceeds the limit of 1024 bytes");
+    verify(objectMapper, never()).readValue(any(InputStream.class), eq(ModuleDescriptor.class));
+  }
+
+  @Test
+  void loadByUrls_negative_bodyExceedsMaxSize() throws Exception {
+    var url = "http://testhost.test/modules/foo-module-1.0.0";
+    var module = TestValues.module("foo-module", "1.0.0", url);
+    var body = inputStream("{\"id\":\"foo-module-1.0.0\",\"description\":\"" + "a".repeat(2048) + "\"}");
+    var headers = HttpHeaders.of(Map.of(), (name, value) -> true);
+
+    when(httpClientProperties.getReadTimeout()).thenReturn(1000L);
+    when(httpClientProperties.getMaxDescriptorSize()).thenReturn(DataSize.ofKilobytes(1));
+    when(httpClient.send(any(HttpRequest.class), eq(ofInputStream()))).thenReturn(httpResponse);
+    when(httpResponse.body()).thenReturn(body);
+    when(httpResponse.headers()).thenReturn(headers);
+
+    var modules = List.of(module);
+    assertThatThrownBy(() -> moduleDescriptorLoader.loadByUrls(modules))
+      .isInstanceOf(ServiceException.class)
+      .hasMessage("Failed to load module descriptor by url: " + url)
+      .hasRootCauseMessage("Stream size exceeds the limit of 1024 bytes");
+  }
+
+  private static InputStream inputStream(String value) {
+    return new ByteArrayInputStream(value.getBytes(UTF_8));
+  }
 }
@@ -6,26 +6,32 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.am.support.TestConstants.MODULE_ID;
 import static org.folio.am.support.TestConstants.MODULE_URL;
 import static org.folio.am.support.TestConstants.OKAPI_AUTH_TOKEN;
+import static org.folio.am.support.TestConstants.SERVICE_NAME;
+import static org.folio.am.support.TestConstants.SERVICE_VERSION;
 import static org.folio.am.support.TestConstants.UI_MODULE_ID;
+import static org.folio.am.support.TestConstants.UI_MODULE_NAME;
 import static org.folio.am.support.TestConstants.UI_MODULE_URL;
-import static org.mockito.ArgumentMatchers.any;
+import static org.folio.am.support.TestConstants.UI_MODULE_VERSION;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.folio.am.domain.dto.ModuleDiscoveries;
 import org.folio.am.domain.dto.ModuleDiscovery;
+import org.folio.am.domain.entity.ModuleDiscoveryRecord;
 import org.folio.am.domain.entity.ModuleType;
+import org.folio.am.domain.model.ModuleDiscoveryChange;
 import org.folio.am.exception.RequestValidationException;
 import org.folio.am.mapper.ModuleDiscoveryMapper;
+import org.folio.am.repository.ModuleDiscoveryBatchRepository;
 import org.folio.am.repository.ModuleDiscoveryRepository;
-import org.folio.am.repository.ModuleRepository;
 import org.folio.am.support.TestValues;
 import org.folio.common.domain.model.OffsetRequest;
 import org.folio.common.domain.model.error.Parameter;
@@ -46,7 +52,7 @@ import org.springframework.data.domain.PageImpl;
 @ExtendWith(MockitoExtension.class)
 class ModuleDiscoveryServiceTest {
 
-  @Mock private ModuleRepository repository;
+  @Mock private ModuleDiscoveryBatchRepository batchRepository;
   @Mock private ModuleDiscoveryMapper mapper;
   @Mock private ModuleDiscoveryRepository moduleDiscoveryRepository;
   @Mock private ApplicationEventPublisher eventPublisher;
@@ -56,7 +62,7 @@ class ModuleDiscoveryServiceTest {
 
   @AfterEach
   void tearDown() {
-    verifyNoMoreInteractions(repository, mapper, moduleDiscoveryRepository, eventPublisher);
+    verifyNoMoreInteractions(batchRepository, mapper, moduleDiscoveryRepository, eventPublisher);
   }
 
   @Nested
@@ -141,14 +147,14 @@ class ModuleDiscoveryServiceTest {
 
     @Test
     void positive() {
-      var moduleEntity = TestValues.moduleEntity();
+      var createdModule = moduleDiscoveryRecord(MODULE_URL);
       var expectedModuleDiscovery = TestValues.moduleDiscovery();
 
-      when(repository.findById(MODULE_ID)).thenReturn(Optional.of(moduleEntity));
-      when(repository.saveAndFlush(any())).thenReturn(moduleEntity);
+      when(batchRepository.findById(MODULE_ID)).thenReturn(Optional.of(moduleDiscoveryRecord(null)));
+      when(batchRepository.createDiscoveryUrl(MODULE_ID, MODULE_URL)).thenReturn(Optional.of(createdModule));
       doNothing().when(eventPublisher).publishDiscoveryCreate(expectedModuleDiscovery, ModuleType.BACKEND,
         OKAPI_AUTH_TOKEN);
-      when(mapper.convert(moduleEntity)).thenReturn(expectedModuleDiscovery);
+      when(mapper.convert(createdModule)).thenReturn(expectedModuleDiscovery);
 
       var moduleDiscovery = TestValues.moduleDiscovery().id(null);
       var result = service.create(MODULE_ID, moduleDiscovery, OKAPI_AUTH_TOKEN);
@@ -159,7 +165,7 @@ class ModuleDiscoveryServiceTest {
 
     @Test
     void negative_moduleIsNotFoundById() {
-      when(repository.findById(MODULE_ID)).thenReturn(Optional.empty());
+      when(batchRepository.findById(MODULE_ID)).thenReturn(Optional.empty());
 
       var moduleDiscovery = TestValues.moduleDiscovery().id(null);
       assertThatThrownBy(() -> service.create(MODULE_ID, moduleDiscovery, OKAPI_AUTH_TOKEN))
@@ -169,8 +175,18 @@ class ModuleDiscoveryServiceTest {
 
     @Test
     void negative_moduleAlreadyHasDiscoveryUrl() {
-      var moduleEntity = TestValues.moduleEntity(MODULE_URL);
-      when(repository.findById(MODULE_ID)).thenReturn(Optional.of(moduleEntity));
+      when(batchRepository.findById(MODULE_ID)).thenReturn(Optional.of(moduleDiscoveryRecord(MODULE_URL)));
+
+      var moduleDiscovery = TestValues.moduleDiscovery().id(null);
+      assertThatThrownBy(() -> service.create(MODULE_ID, moduleDiscovery, OKAPI_AUTH_TOKEN))
+        .isInstanceOf(EntityExistsException.class)
+        .hasMessage("Discovery information already present for module: %s", MODULE_ID);
+    }
+
+    @Test
+    void negative_discoveryCreatedConcurrently() {
+      when(batchRepository.findById(MODULE_ID)).thenReturn(Optional.of(moduleDiscoveryRecord(null)));
+      when(batchRepository.createDiscoveryUrl(MODULE_ID, MODULE_URL)).thenReturn(Optional.empty());
 
       var moduleDiscovery = TestValues.moduleDiscovery().id(null);
       assertThatThrownBy(() -> service.create(MODULE_ID, moduleDiscovery, OKAPI_AUTH_TOKEN))
@@ -180,14 +196,15 @@ class ModuleDiscoveryServiceTest {
 
     @Test
     void positive_batchRequest() {
-      var moduleEntity = TestValues.moduleEntity();
+      var module = moduleDiscoveryRecord(null);
+      var updatedModule = moduleDiscoveryRecord(MODULE_URL);
       var expectedModuleDiscovery = TestValues.moduleDiscovery();
 
-      when(repository.findAllById(List.of(MODULE_ID))).thenReturn(List.of(moduleEntity));
-      when(repository.saveAndFlush(any())).thenReturn(moduleEntity);
-      doNothing().when(eventPublisher).publishDiscoveryCreate(expectedModuleDiscovery, ModuleType.BACKEND,
-        OKAPI_AUTH_TOKEN);
-      when(mapper.convert(moduleEntity)).thenReturn(TestValues.moduleDiscovery());
+      when(batchRepository.findAllByIds(List.of(MODULE_ID))).thenReturn(List.of(module));
+      when(batchRepository.createDiscoveryUrls(Map.of(MODULE_ID, MODULE_URL))).thenReturn(List.of(updatedModule));
+      when(mapper.convert(updatedModule)).thenReturn(expectedModuleDiscovery);
+      doNothing().when(eventPublisher).publishDiscoveryCreateAll(
+        List.of(new ModuleDiscoveryChange(expectedModuleDiscovery, ModuleType.BACKEND)), OKAPI_AUTH_TOKEN);
 
       var moduleDiscovery = TestValues.moduleDiscovery().id(null);
       var moduleDiscoveries = new ModuleDiscoveries().discovery(List.of(moduleDiscovery));
@@ -196,6 +213,16 @@ class ModuleDiscoveryServiceTest {
       assertThat(result).isEqualTo(TestValues.moduleDiscoveries(TestValues.moduleDiscovery()));
     }
 
+    @Test
+    void negative_duplicateModuleInBatchRequest() {
+      var moduleDiscoveries = new ModuleDiscoveries()
+        .discovery(List.of(TestValues.moduleDiscovery(), TestValues.moduleDiscovery()));
+
+      assertThatThrownBy(() -> service.create(moduleDiscoveries, OKAPI_AUTH_TOKEN))
+        .isInstanceOf(RequestValidationException.class)
+        .hasMessage("Duplicate module discovery in the request");
+    }
+
     @Test
     void positive_invalidIdInBatchRequest() {
       var moduleDiscovery = TestValues.moduleDiscovery().id("invalid id");
@@ -213,7 +240,7 @@ class ModuleDiscoveryServiceTest {
     void positive_batchRequestAndModuleIsNotFoundById() {
       var moduleDiscovery = TestValues.moduleDiscovery();
       var moduleDiscoveries = TestValues.moduleDiscoveries(moduleDiscovery);
-      when(repository.findAllById(List.of(MODULE_ID))).thenReturn(emptyList());
+      when(batchRepository.findAllByIds(List.of(MODULE_ID))).thenReturn(emptyList());
 
       assertThatThrownBy(() -> service.create(moduleDiscoveries, OKAPI_AUTH_TOKEN))
         .isInstanceOf(EntityNotFoundException.class)
@@ -224,8 +251,18 @@ class ModuleDiscoveryServiceTest {
     void positive_batchRequestAndModuleDiscoveryUrlIsPresent() {
       var moduleDiscovery = TestValues.moduleDiscovery();
       var moduleDiscoveries = TestValues.moduleDiscoveries(moduleDiscovery);
-      var moduleEntity = TestValues.moduleEntity(MODULE_URL);
-      when(repository.findAllById(List.of(MODULE_ID))).thenReturn(List.of(moduleEntity));
+      when(batchRepository.findAllByIds(List.of(MODULE_ID))).thenReturn(List.of(moduleDiscoveryRecord(MODULE_URL)));
+
+      assertThatThrownBy(() -> service.create(moduleDiscoveries, OKAPI_AUTH_TOKEN))
+        .isInstanceOf(EntityExistsException.class)
+        .hasMessage("Module Discovery already exists for ids: %s", List.of(MODULE_ID));
+    }
+
+    @Test
+    void negative_batchRequestAndModuleDiscoveryCreatedConcurrently() {
+      var moduleDiscoveries = TestValues.moduleDiscoveries(TestValues.moduleDiscovery());
+      when(batchRepository.findAllByIds(List.of(MODULE_ID))).thenReturn(List.of(moduleDiscoveryRecord(null)));
+      when(batchRepository.createDiscoveryUrls(Map.of(MODULE_ID, MODULE_URL))).thenReturn(emptyList());
 
       assertThatThrownBy(() -> service.create(moduleDiscoveries, OKAPI_AUTH_TOKEN))
         .isInstanceOf(EntityExistsException.class)
@@ -234,14 +271,14 @@ class ModuleDiscoveryServiceTest {
 
     @Test
     void positive_uiModule() {
-      var uiModuleEntity = TestValues.uiModuleEntity();
+      var createdUiModule = uiModuleDiscoveryRecord(UI_MODULE_URL);
       var expectedUiModuleDiscovery = TestValues.uiModuleDiscovery();
 
-      when(repository.findById(UI_MODULE_ID)).thenReturn(Optional.of(uiModuleEntity));
-      when(repository.saveAndFlush(any())).thenReturn(uiModuleEntity);
+      when(batchRepository.findById(UI_MODULE_ID)).thenReturn(Optional.of(uiModuleDiscoveryRecord(null)));
+      when(batchRepository.createDiscoveryUrl(UI_MODULE_ID, UI_MODULE_URL)).thenReturn(Optional.of(createdUiModule));
       doNothing().when(eventPublisher).publishDiscoveryCreate(expectedUiModuleDiscovery, ModuleType.UI,
         OKAPI_AUTH_TOKEN);
-      when(mapper.convert(uiModuleEntity)).thenReturn(expectedUiModuleDiscovery);
+      when(mapper.convert(createdUiModule)).thenReturn(expectedUiModuleDiscovery);
 
       var uiModuleDiscovery = TestValues.uiModuleDiscovery().id(null);
       var result = service.create(UI_MODULE_ID, uiModuleDiscovery, OKAPI_AUTH_TOKEN);
@@ -252,7 +289,7 @@ class ModuleDiscoveryServiceTest {
 
     @Test
     void negative_uiModuleNotFoundById() {
-      when(repository.findById(UI_MODULE_ID)).thenReturn(Optional.empty());
+      when(batchRepository.findById(UI_MODULE_ID)).thenReturn(Optional.empty());
 
       var uiModuleDiscovery = TestValues.uiModuleDiscovery().id(null);
       assertThatThrownBy(() -> service.create(UI_MODULE_ID, uiModuleDiscovery, OKAPI_AUTH_TOKEN))
@@ -262,8 +299,7 @@ class ModuleDiscoveryServiceTest {
 
     @Test
     void negative_uiModuleAlreadyHasDiscoveryUrl() {
-      var uiModuleEntity = TestValues.uiModuleEntity(UI_MODULE_URL);
-      when(repository.findById(UI_MODULE_ID)).thenReturn(Optional.of(uiModuleEntity));
+      when(batchRepository.findById(UI_MODULE_ID)).thenReturn(Optional.of(uiModuleDiscoveryRecord(UI_MODULE_URL)));
 
       var uiModuleDiscovery = TestValues.uiModuleDiscovery().id(null);
       assertThatThrownBy(() -> service.create(UI_MODULE_ID, uiModuleDiscovery, OKAPI_AUTH_TOKEN))
@@ -278,12 +314,11 @@ class ModuleDiscoveryServiceTest {
 
     @Test
     void positive() {
-      var moduleEntity = TestValues.moduleEntity();
+      var updatedModule = moduleDiscoveryRecord(MODULE_URL);
       var discovery = TestValues.moduleDiscovery();
 
-      when(repository.findById(MODULE_ID)).thenReturn(Optional.of(moduleEntity));
-      when(repository.saveAndFlush(any())).thenReturn(moduleEntity);
-      when(mapper.convert(moduleEntity)).thenReturn(discovery);
+      when(batchRepository.updateDiscoveryUrl(MODULE_ID, MODULE_URL)).thenReturn(Optional.of(updatedModule));
+      when(mapper.convert(updatedModule)).thenReturn(discovery);
       doNothing().when(eventPublisher).publishDiscoveryUpdate(moduleDiscoveryCaptor.capture(), eq(ModuleType.BACKEND),
         eq(OKAPI_AUTH_TOKEN));
 
@@ -315,7 +350,7 @@ class ModuleDiscoveryServiceTest {
     @Test
     void negative_moduleNotFound() {
       var discovery = TestValues.moduleDiscovery();
-      when(repository.findById(MODULE_ID)).thenReturn(Optional.empty());
+      when(batchRepository.updateDiscoveryUrl(MODULE_ID, MODULE_URL)).thenReturn(Optional.empty());
 
       assertThatThrownBy(() -> service.update(MODULE_ID, discovery, OKAPI_AUTH_TOKEN))
         .isInstanceOf(EntityNotFoundException.class);
@@ -323,12 +358,11 @@ class ModuleDiscoveryServiceTest {
 
     @Test
     void positive_uiModule() {
-      var uiModuleEntity = TestValues.uiModuleEntity(UI_MODULE_URL);
+      var updatedUiModule = uiModuleDiscoveryRecord(UI_MODULE_URL);
       var uiDiscovery = TestValues.uiModuleDiscovery();
 
-      when(repository.findById(UI_MODULE_ID)).thenReturn(Optional.of(uiModuleEntity));
-      when(repository.saveAndFlush(any())).thenReturn(uiModuleEntity);
-      when(mapper.convert(uiModuleEntity)).thenReturn(uiDiscovery);
+      when(batchRepository.updateDiscoveryUrl(UI_MODULE_ID, UI_MODULE_URL)).thenReturn(Optional.of(updatedUiModule));
+      when(mapper.convert(updatedUiModule)).thenReturn(uiDiscovery);
       doNothing().when(eventPublisher).publishDiscoveryUpdate(moduleDiscoveryCaptor.capture(), eq(ModuleType.UI),
         eq(OKAPI_AUTH_TOKEN));
 
@@ -341,11 +375,35 @@ class ModuleDiscoveryServiceTest {
     @Test
     void negative_uiModuleNotFound() {
       var uiDiscovery = TestValues.uiModuleDiscovery();
-      when(repository.findById(UI_MODULE_ID)).thenReturn(Optional.empty());
+      when(batchRepository.updateDiscoveryUrl(UI_MODULE_ID, UI_MODULE_URL)).thenReturn(Optional.empty());
 
       assertThatThrownBy(() -> service.update(UI_MODULE_ID, uiDiscovery, OKAPI_AUTH_TOKEN))
         .isInstanceOf(EntityNotFoundException.class);
     }
+
+    @Test
+    void positive_batchRequest() {
+      var updatedModule = moduleDiscoveryRecord(MODULE_URL);
+      var discovery = TestValues.moduleDiscovery();
+
+      when(batchRepository.findAllByIds(List.of(MODULE_ID))).thenReturn(List.of(moduleDiscoveryRecord(null)));
+      when(batchRepository.updateDiscoveryUrls(Map.of(MODULE_ID, MODULE_URL))).thenReturn(List.of(updatedModule));
+      when(mapper.convert(updatedModule)).thenReturn(discovery);
+      doNothing().when(eventPublisher).publishDiscoveryUpdateAll(
+        List.of(new ModuleDiscoveryChange(discovery, ModuleType.BACKEND)), OKAPI_AUTH_TOKEN);
+
+      service.update(TestValues.moduleDiscoveries(TestValues.moduleDiscovery()), OKAPI_AUTH_TOKEN);
+    }
+
+    @Test
+    void negative_batchRequestAndModuleIsNotFoundById() {
+      var moduleDiscoveries = TestValues.moduleDiscoveries(TestValues.moduleDiscovery());
+      when(batchRepository.findAllByIds(List.of(MODULE_ID))).thenReturn(emptyList());
+
+      assertThatThrownBy(() -> service.update(moduleDiscoveries, OKAPI_AUTH_TOKEN))
+        .isInstanceOf(EntityNotFoundException.class)
+        .hasMessage("Modules are not found for ids: %s", List.of(MODULE_ID));
+    }
   }
 
   @Nested
@@ -354,42 +412,62 @@ class ModuleDiscoveryServiceTest {
 
     @Test
     void positive() {
-      var entity = TestValues.moduleEntity();
-      when(repository.findByHasDiscoveryAndId(MODULE_ID)).thenReturn(Optional.of(entity));
-      when(repository.save(entity)).thenReturn(entity);
+      when(batchRepository.removeDiscoveryUrl(MODULE_ID)).thenReturn(Optional.of(moduleDiscoveryRecord(null)));
       doNothing().when(eventPublisher).publishDiscoveryDelete(MODULE_ID, MODULE_ID, ModuleType.BACKEND,
         OKAPI_AUTH_TOKEN);
 
       service.delete(MODULE_ID, OKAPI_AUTH_TOKEN);
-
-      verify(repository).save(entity);
     }
 
     @Test
     void positive_moduleNotFound() {
-      when(repository.findByHasDiscoveryAndId(MODULE_ID)).thenReturn(Optional.empty());
+      when(batchRepository.removeDiscoveryUrl(MODULE_ID)).thenReturn(Optional.empty());
 
       service.delete(MODULE_ID, OKAPI_AUTH_TOKEN);
     }
 
     @Test
     void positive_uiModule() {
-      var uiEntity = TestValues.uiModuleEntity(UI_MODULE_URL);
-      when(repository.findByHasDiscoveryAndId(UI_MODULE_ID)).thenReturn(Optional.of(uiEntity));
-      when(repository.save(uiEntity)).thenReturn(uiEntity);
+      when(batchRepository.removeDiscoveryUrl(UI_MODULE_ID)).thenReturn(Optional.of(uiModuleDiscoveryRecord(null)));
       doNothing().when(eventPublisher).publishDiscoveryDelete(UI_MODULE_ID, UI_MODULE_ID, ModuleType.UI,
         OKAPI_AUTH_TOKEN);
 
       service.delete(UI_MODULE_ID, OKAPI_AUTH_TOKEN);
-
-      verify(repository).save(uiEntity);
     }
 
     @Test
     void positive_uiModuleNotFound() {
-      when(repository.findByHasDiscoveryAndId(UI_MODULE_ID)).thenReturn(Optional.empty());
+      when(batchRepository.removeDiscoveryUrl(UI_MODULE_ID)).thenReturn(Optional.empty());
 
       service.delete(UI_MODULE_ID, OKAPI_AUTH_TOKEN);
     }
+
+    @Test
+    void positive_batchRequest() {
+      var removedModule = moduleDiscoveryRecord(null);
+      var discovery = TestValues.moduleDiscovery().location(null);
+
+      when(batchRepository.removeDiscoveryUrls(Set.of(MODULE_ID, UI_MODULE_ID))).thenReturn(List.of(removedModule));
+      when(mapper.convert(removedModule)).thenReturn(discovery);
+      doNothing().when(eventPublisher).publishDiscoveryDeleteAll(
+        List.of(new ModuleDiscoveryChange(discovery, ModuleType.BACKEND)), OKAPI_AUTH_TOKEN);
+
+      service.delete(List.of(MODULE_ID, UI_MODULE_ID), OKAPI_AUTH_TOKEN);
+    }
+
+    @Test
+    void positive_batchRequestAndNoDiscoveryFound() {
+      when(batchRepository.removeDiscoveryUrls(Set.of(MODULE_ID))).thenReturn(emptyList());
+
+      service.delete(List.of(MODULE_ID), OKAPI_AUTH_TOKEN);
+    }
+  }
+
+  private static ModuleDiscoveryRecord moduleDiscoveryRecord(String location) {
+    return new ModuleDiscoveryRecord(MODULE_ID, SERVICE_NAME, SERVICE_VERSION, ModuleType.BACKEND, location);
+  }
+
+  private static ModuleDiscoveryRecord uiModuleDiscoveryRecord(String location) {
+    return new ModuleDiscoveryRecord(UI_MODULE_ID, UI_MODULE_NAME, UI_MODULE_VERSION, ModuleType.UI, location);
   }
 }
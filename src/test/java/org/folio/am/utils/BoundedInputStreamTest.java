@@ -0,0 +1,40 @@
+package org.folio.am.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class BoundedInputStreamTest {
+
+  @Test
+  void read_positive_withinLimit() throws IOException {
+    try (var stream = new BoundedInputStream(new ByteArrayInputStream("abcd".getBytes(UTF_8)), 4)) {
+      assertThat(new String(stream.readAllBytes(), UTF_8)).isEqualTo("abcd");
+    }
+  }
+
+  @Test
+  void read_negative_limitExceeded() throws IOException {
+    try (var stream = new BoundedInputStream(new ByteArrayInputStream("abcde".getBytes(UTF_8)), 4)) {
+      assertThatThrownBy(stream::readAllBytes)
+        .isInstanceOf(IOException.class)
+        .hasMessage("Stream size exceeds the limit of 4 bytes");
+    }
+  }
+
+  @Test
+  void read_negative_singleByteReadsExceedLimit() throws IOException {
+    try (var stream = new BoundedInputStream(new ByteArrayInputStream("ab".getBytes(UTF_8)), 1)) {
+      assertThat(stream.read()).isEqualTo('a');
+      assertThatThrownBy(stream::read)
+        .isInstanceOf(IOException.class)
+        .hasMessage("Stream size exceeds the limit of 1 bytes");
+    }
+  }
+}
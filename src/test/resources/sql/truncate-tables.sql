@@ -1,3 +1,4 @@
 TRUNCATE TABLE application CASCADE;
 TRUNCATE TABLE module CASCADE;
 TRUNCATE TABLE application_module CASCADE;
+TRUNCATE TABLE application_cleanup_job;